@@ -0,0 +1,187 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.dto.EpicDto;
+import com.smalaca.taskamanager.dto.StoryDto;
+import com.smalaca.taskamanager.model.embedded.Assignee;
+import com.smalaca.taskamanager.model.embedded.EmailAddress;
+import com.smalaca.taskamanager.model.embedded.Owner;
+import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import com.smalaca.taskamanager.model.embedded.Stakeholder;
+import com.smalaca.taskamanager.model.embedded.Watcher;
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.registry.EventsRegistry;
+import com.smalaca.taskamanager.repository.EpicRepository;
+import com.smalaca.taskamanager.repository.ProjectRepository;
+import com.smalaca.taskamanager.repository.StoryRepository;
+import com.smalaca.taskamanager.repository.TeamRepository;
+import com.smalaca.taskamanager.repository.UserRepository;
+import com.smalaca.taskamanager.repository.UserSnapshotCache;
+import com.smalaca.taskamanager.service.ToDoItemProcessingQueue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.lang.reflect.Field;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToDoItemMappingBenchmark {
+    private static final long STORY_ID = 13;
+    private static final long EPIC_ID = 42;
+    private static final long VERSION = 7;
+    private static final String NO_ETAG = null;
+
+    @Param({"0", "10", "100"})
+    private int participants;
+
+    private StoryController storyController;
+    private EpicController epicController;
+
+    @Setup
+    public void setUp() {
+        UserRepository userRepository = stub(UserRepository.class);
+        TeamRepository teamRepository = stub(TeamRepository.class);
+        ToDoItemProcessingQueue queue = stub(ToDoItemProcessingQueue.class);
+        UserSnapshotCache userSnapshotCache = stub(UserSnapshotCache.class);
+
+        Epic epic = epic();
+        EpicRepository epicRepository = stub(EpicRepository.class);
+        given(epicRepository.findDetailedById(EPIC_ID)).willReturn(Optional.of(epic));
+        epicController = new EpicController(
+                epicRepository, userRepository, teamRepository, stub(ProjectRepository.class), queue, userSnapshotCache, stub(EventsRegistry.class));
+
+        StoryRepository storyRepository = stub(StoryRepository.class);
+        given(storyRepository.findDetailedById(STORY_ID)).willReturn(Optional.of(story(epic)));
+        storyController = new StoryController(
+                storyRepository, userRepository, teamRepository, epicRepository, queue, userSnapshotCache, stub(EventsRegistry.class));
+    }
+
+    @Benchmark
+    public ResponseEntity<StoryDto> storyFindById() {
+        return storyController.findById(STORY_ID, NO_ETAG);
+    }
+
+    @Benchmark
+    public ResponseEntity<EpicDto> epicFindById() {
+        return epicController.findById(EPIC_ID, NO_ETAG);
+    }
+
+    private Epic epic() {
+        Epic epic = withField(withField(new Epic(), "id", EPIC_ID), "version", VERSION);
+        epic.setTitle("Civil War");
+        epic.setDescription("Sokovia Accords");
+        epic.setStatus(ToDoItemStatus.IN_PROGRESS);
+        epic.setProject(withField(new Project(), "id", EPIC_ID));
+        epic.setOwner(owner());
+        epic.setAssignee(assignee());
+
+        for (int index = 0; index < participants; index++) {
+            epic.addWatcher(watcher(index));
+            epic.addStakeholder(stakeholder(index));
+        }
+
+        return epic;
+    }
+
+    private Story story(Epic epic) {
+        Story story = withField(withField(new Story(), "id", STORY_ID), "version", VERSION);
+        story.setTitle("Registration Act");
+        story.setDescription("Every enhanced individual registers");
+        story.setStatus(ToDoItemStatus.IN_PROGRESS);
+        story.setEpic(epic);
+        story.setOwner(owner());
+        story.setAssignee(assignee());
+
+        for (int index = 0; index < participants; index++) {
+            story.addWatcher(watcher(index));
+            story.addStakeholder(stakeholder(index));
+        }
+
+        return story;
+    }
+
+    private Owner owner() {
+        Owner owner = new Owner();
+        owner.setFirstName("Steve");
+        owner.setLastName("Rogers");
+        owner.setEmailAddress(emailAddress("steve.rogers"));
+        owner.setPhoneNumber(phoneNumber());
+        return owner;
+    }
+
+    private Assignee assignee() {
+        Assignee assignee = new Assignee();
+        assignee.setFirstName("Sam");
+        assignee.setLastName("Wilson");
+        assignee.setTeamId(EPIC_ID);
+        return assignee;
+    }
+
+    private Watcher watcher(int index) {
+        Watcher watcher = new Watcher();
+        watcher.setFirstName("Watcher");
+        watcher.setLastName(String.valueOf(index));
+        watcher.setEmailAddress(emailAddress("watcher" + index));
+        watcher.setPhoneNumber(phoneNumber());
+        return watcher;
+    }
+
+    private Stakeholder stakeholder(int index) {
+        Stakeholder stakeholder = new Stakeholder();
+        stakeholder.setFirstName("Stakeholder");
+        stakeholder.setLastName(String.valueOf(index));
+        stakeholder.setEmailAddress(emailAddress("stakeholder" + index));
+        stakeholder.setPhoneNumber(phoneNumber());
+        return stakeholder;
+    }
+
+    private EmailAddress emailAddress(String name) {
+        EmailAddress emailAddress = new EmailAddress();
+        emailAddress.setEmailAddress(name + "@avengers.com");
+        return emailAddress;
+    }
+
+    private PhoneNumber phoneNumber() {
+        PhoneNumber phoneNumber = new PhoneNumber();
+        phoneNumber.setPrefix("+48");
+        phoneNumber.setNumber("123456789");
+        return phoneNumber;
+    }
+
+    private <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    private <T> T withField(T entity, String name, Object value) {
+        try {
+            Field field = entity.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(entity, value);
+            return entity;
+        } catch (NoSuchFieldException | IllegalAccessException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.smalaca.taskamanager.model.embedded;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EqualsAndHashCodeBenchmark {
+    private Watcher watcher;
+    private Watcher sameWatcher;
+    private Watcher otherWatcher;
+    private Stakeholder stakeholder;
+    private Stakeholder sameStakeholder;
+    private Stakeholder otherStakeholder;
+
+    @Setup
+    public void setUp() {
+        watcher = watcher("Steve", "Rogers");
+        sameWatcher = watcher("Steve", "Rogers");
+        otherWatcher = watcher("Steve", "Strange");
+        stakeholder = stakeholder("Tony", "Stark");
+        sameStakeholder = stakeholder("Tony", "Stark");
+        otherStakeholder = stakeholder("Tony", "Montana");
+    }
+
+    @Benchmark
+    public boolean watcherEqualsSame() {
+        return watcher.equals(sameWatcher);
+    }
+
+    @Benchmark
+    public boolean watcherEqualsOther() {
+        return watcher.equals(otherWatcher);
+    }
+
+    @Benchmark
+    public int watcherHashCode() {
+        return watcher.hashCode();
+    }
+
+    @Benchmark
+    public boolean stakeholderEqualsSame() {
+        return stakeholder.equals(sameStakeholder);
+    }
+
+    @Benchmark
+    public boolean stakeholderEqualsOther() {
+        return stakeholder.equals(otherStakeholder);
+    }
+
+    @Benchmark
+    public int stakeholderHashCode() {
+        return stakeholder.hashCode();
+    }
+
+    private Watcher watcher(String firstName, String lastName) {
+        Watcher watcher = new Watcher();
+        watcher.setFirstName(firstName);
+        watcher.setLastName(lastName);
+        watcher.setEmailAddress(emailAddress(firstName, lastName));
+        watcher.setPhoneNumber(phoneNumber());
+        return watcher;
+    }
+
+    private Stakeholder stakeholder(String firstName, String lastName) {
+        Stakeholder stakeholder = new Stakeholder();
+        stakeholder.setFirstName(firstName);
+        stakeholder.setLastName(lastName);
+        stakeholder.setEmailAddress(emailAddress(firstName, lastName));
+        stakeholder.setPhoneNumber(phoneNumber());
+        return stakeholder;
+    }
+
+    private EmailAddress emailAddress(String firstName, String lastName) {
+        EmailAddress emailAddress = new EmailAddress();
+        emailAddress.setEmailAddress(firstName + "." + lastName + "@avengers.com");
+        return emailAddress;
+    }
+
+    private PhoneNumber phoneNumber() {
+        PhoneNumber phoneNumber = new PhoneNumber();
+        phoneNumber.setPrefix("+48");
+        phoneNumber.setNumber("123456789");
+        return phoneNumber;
+    }
+}
@@ -0,0 +1,139 @@
+package com.smalaca.taskamanager.processor;
+
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.ProductOwner;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import com.smalaca.taskamanager.registry.EventsRegistry;
+import com.smalaca.taskamanager.service.CommunicationService;
+import com.smalaca.taskamanager.service.ProjectBacklogService;
+import com.smalaca.taskamanager.service.SprintBacklogService;
+import com.smalaca.taskamanager.service.StoryService;
+import com.smalaca.taskamanager.service.ToDoItemType;
+import com.smalaca.taskamanager.todoitemstate.ToDoItemTransitions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToDoItemProcessorBenchmark {
+    @Param({"TO_BE_DEFINED", "DEFINED", "IN_PROGRESS", "DONE", "APPROVED", "RELEASED"})
+    private ToDoItemStatus status;
+
+    @Param({"EPIC", "STORY", "TASK"})
+    private String type;
+
+    private ToDoItemProcessor processor;
+    private ToDoItemTransitions transitions;
+    private Map<ToDoItemStatus, ToDoItemType> switchFallback;
+    private ToDoItem toDoItem;
+
+    @Setup
+    public void setUp() {
+        processor = new ToDoItemProcessor(
+                stub(StoryService.class), new EventsRegistry(event -> { }), stub(ProjectBacklogService.class),
+                stub(CommunicationService.class), stub(SprintBacklogService.class));
+        transitions = new ToDoItemTransitions(
+                stub(StoryService.class), new EventsRegistry(event -> { }), stub(ProjectBacklogService.class),
+                stub(CommunicationService.class), stub(SprintBacklogService.class));
+        switchFallback = new EnumMap<>(ToDoItemStatus.class);
+        switchFallback.put(ToDoItemStatus.APPROVED, ToDoItemType.STORY);
+        switchFallback.put(ToDoItemStatus.RELEASED, ToDoItemType.TASK);
+        toDoItem = toDoItem();
+    }
+
+    @Benchmark
+    public void processFor(Blackhole blackhole) {
+        try {
+            processor.processFor(toDoItem);
+        } catch (RuntimeException exception) {
+            blackhole.consume(exception);
+        }
+    }
+
+    @Benchmark
+    public Object transitionLookup() {
+        return transitions.stateOf(toDoItem);
+    }
+
+    @Benchmark
+    public Object switchLookupBaseline() {
+        switch (toDoItem.getStatus()) {
+            case DEFINED:
+            case IN_PROGRESS:
+            case DONE:
+                return typeOf(toDoItem);
+
+            default:
+                return switchFallback.get(toDoItem.getStatus());
+        }
+    }
+
+    private ToDoItemType typeOf(ToDoItem toDoItem) {
+        if (toDoItem instanceof Story) {
+            return ToDoItemType.STORY;
+        } else if (toDoItem instanceof Task) {
+            return ToDoItemType.TASK;
+        } else if (toDoItem instanceof Epic) {
+            return ToDoItemType.EPIC;
+        }
+
+        return null;
+    }
+
+    private ToDoItem toDoItem() {
+        ProductOwner productOwner = new ProductOwner();
+        productOwner.setFirstName("Nick");
+        productOwner.setLastName("Fury");
+        Project project = new Project();
+        project.setProductOwner(productOwner);
+        Epic epic = new Epic();
+        epic.setProject(project);
+        epic.setStatus(status);
+        Story story = new Story();
+        story.setEpic(epic);
+        story.setStatus(status);
+        Task task = new Task();
+        task.setStory(story);
+        task.setCurrentSprint(new Sprint());
+        task.setStatus(status);
+
+        switch (type) {
+            case "EPIC":
+                return epic;
+            case "STORY":
+                return story;
+            default:
+                return task;
+        }
+    }
+
+    private <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+}
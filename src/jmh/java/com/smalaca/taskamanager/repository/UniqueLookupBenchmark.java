@@ -0,0 +1,159 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.TaskManagerApplication;
+import com.smalaca.taskamanager.model.embedded.UserName;
+import com.smalaca.taskamanager.model.entities.ProductOwner;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Team;
+import com.smalaca.taskamanager.model.entities.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.repository.CrudRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniqueLookupBenchmark {
+    private static final int CHUNK = 1000;
+
+    @Param({"1000", "10000", "50000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private ProjectRepository projectRepository;
+    private TeamRepository teamRepository;
+    private SprintRepository sprintRepository;
+    private ProductOwnerRepository productOwnerRepository;
+    private UserRepository userRepository;
+    private Long projectId;
+    private int middle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false", "--events.outbox.enabled=false", "--logging.level.root=WARN");
+        projectRepository = context.getBean(ProjectRepository.class);
+        teamRepository = context.getBean(TeamRepository.class);
+        sprintRepository = context.getBean(SprintRepository.class);
+        productOwnerRepository = context.getBean(ProductOwnerRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        middle = rows / 2;
+
+        seed(projectRepository, this::project);
+        seed(teamRepository, this::team);
+        seed(productOwnerRepository, this::productOwner);
+        seed(userRepository, this::user);
+        Project project = projectRepository.findByName(projectName(0)).get();
+        projectId = project.getId();
+        seed(sprintRepository, index -> sprint(index, project));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Project> findProjectByName() {
+        return projectRepository.findByName(projectName(middle));
+    }
+
+    @Benchmark
+    public Optional<Team> findTeamByName() {
+        return teamRepository.findByName("Team " + middle);
+    }
+
+    @Benchmark
+    public Optional<Sprint> findSprintByNameAndProjectId() {
+        return sprintRepository.findByNameAndProjectId("Sprint " + middle, projectId);
+    }
+
+    @Benchmark
+    public Optional<ProductOwner> findProductOwnerByName() {
+        return productOwnerRepository.findByFirstNameAndLastName("Owner", "No. " + middle);
+    }
+
+    @Benchmark
+    public Optional<User> findUserByName() {
+        return userRepository.findByUserNameFirstNameAndUserNameLastName("User", "No. " + middle);
+    }
+
+    private <T> void seed(CrudRepository<T, Long> repository, IntFunction<T> factory) {
+        List<T> chunk = new ArrayList<>();
+
+        for (int index = 0; index < rows; index++) {
+            chunk.add(factory.apply(index));
+
+            if (chunk.size() == CHUNK) {
+                repository.saveAll(chunk);
+                chunk.clear();
+            }
+        }
+
+        repository.saveAll(chunk);
+    }
+
+    private String projectName(int index) {
+        return "Project " + index;
+    }
+
+    private Project project(int index) {
+        Project project = new Project();
+        project.setName(projectName(index));
+        return project;
+    }
+
+    private Team team(int index) {
+        Team team = new Team();
+        team.setName("Team " + index);
+        return team;
+    }
+
+    private Sprint sprint(int index, Project project) {
+        Sprint sprint = new Sprint();
+        sprint.setName("Sprint " + index);
+        sprint.setProject(project);
+        return sprint;
+    }
+
+    private ProductOwner productOwner(int index) {
+        ProductOwner productOwner = new ProductOwner();
+        productOwner.setFirstName("Owner");
+        productOwner.setLastName("No. " + index);
+        return productOwner;
+    }
+
+    private User user(int index) {
+        UserName userName = new UserName();
+        userName.setFirstName("User");
+        userName.setLastName("No. " + index);
+        User user = new User();
+        user.setUserName(userName);
+        return user;
+    }
+}
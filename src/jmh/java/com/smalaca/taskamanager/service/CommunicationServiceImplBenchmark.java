@@ -0,0 +1,131 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.client.ChatClient;
+import com.smalaca.taskamanager.client.MailClient;
+import com.smalaca.taskamanager.client.SmsCommunicatorClient;
+import com.smalaca.taskamanager.infrastructure.enums.CommunicatorType;
+import com.smalaca.taskamanager.model.embedded.EmailAddress;
+import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Team;
+import com.smalaca.taskamanager.model.entities.User;
+import com.smalaca.taskamanager.model.other.ChatRoom;
+import com.smalaca.taskamanager.session.SessionHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommunicationServiceImplBenchmark {
+    private static final int TEAMS = 5;
+    private static final long STORY_ID = 13;
+    private static final int BATCH_SIZE = 100;
+    private static final int QUEUE_CAPACITY = 100;
+    private static final long OFFER_TIMEOUT_MILLIS = 500;
+
+    @Param({"10", "100", "1000"})
+    private int membersPerTeam;
+
+    @Param({"DIRECT", "SMS", "MAIL", "NULL_TYPE"})
+    private CommunicatorType type;
+
+    @Param({"1", "4"})
+    private int parallelism;
+
+    private CommunicationServiceImpl service;
+    private Story story;
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        ChatRoom chatRoom = new ChatRoom();
+        ChatClient chat = userName -> chatRoom;
+        SmsCommunicatorClient smsCommunicator = (phoneNumber, link) -> { };
+        MailClient mailClient = mail -> { };
+        service = new CommunicationServiceImpl(
+                new LinkingProjectBacklogService(), () -> { }, chat, smsCommunicator, mailClient, new CommunicatorRouting(type, 100, 60),
+                new NotificationCoalescer(chat, smsCommunicator, mailClient, false, BATCH_SIZE, 100, 100, 500), BATCH_SIZE, parallelism,
+                QUEUE_CAPACITY, OFFER_TIMEOUT_MILLIS);
+        SessionHolder.instance().logIn(user(0, 0));
+        story = withId(new Story());
+        project = new Project();
+
+        for (int teamIndex = 0; teamIndex < TEAMS; teamIndex++) {
+            Team team = new Team();
+
+            for (int memberIndex = 0; memberIndex < membersPerTeam; memberIndex++) {
+                team.addMember(user(teamIndex, memberIndex));
+            }
+
+            project.addTeam(team);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public void notifyTeamsAbout() {
+        service.fanOut(story, project.getTeams().stream().flatMap(team -> team.getMembers().stream())).join();
+    }
+
+    private User user(int teamIndex, int memberIndex) {
+        User user = new User();
+        user.setLogin("user-" + teamIndex + "-" + memberIndex);
+        PhoneNumber phoneNumber = new PhoneNumber();
+        phoneNumber.setPrefix("+48");
+        phoneNumber.setNumber(String.valueOf(memberIndex));
+        user.setPhoneNumber(phoneNumber);
+        EmailAddress emailAddress = new EmailAddress();
+        emailAddress.setEmailAddress(user.getLogin() + "@avengers.com");
+        user.setEmailAddress(emailAddress);
+        return user;
+    }
+
+    private Story withId(Story story) {
+        try {
+            Field field = Story.class.getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(story, STORY_ID);
+            return story;
+        } catch (NoSuchFieldException | IllegalAccessException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static final class LinkingProjectBacklogService implements ProjectBacklogService {
+        @Override
+        public void moveToReadyForDevelopment(Story story, Project project) {
+        }
+
+        @Override
+        public void putOnTop(Epic epic) {
+        }
+
+        @Override
+        public String linkFor(long toDoItemId) {
+            return "/backlog/" + toDoItemId;
+        }
+    }
+}
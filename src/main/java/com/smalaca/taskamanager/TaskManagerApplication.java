@@ -2,8 +2,10 @@ package com.smalaca.taskamanager;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 @SuppressWarnings("checkstyle:HideUtilityClassConstructor")
 public class TaskManagerApplication {
     public static void main(String[] args) {
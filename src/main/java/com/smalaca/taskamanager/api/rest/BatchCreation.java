@@ -0,0 +1,43 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.dto.BatchItemResultDto;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.StreamSupport;
+
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+
+final class BatchCreation {
+    private BatchCreation() {}
+
+    static <D> Set<Long> idsOf(List<D> dtos, Function<D, Long> idOf) {
+        return dtos.stream()
+                .map(idOf)
+                .filter(Objects::nonNull)
+                .collect(toSet());
+    }
+
+    static <E> Map<Long, E> byId(Iterable<E> entities, Function<E, Long> idOf) {
+        return StreamSupport.stream(entities.spliterator(), false)
+                .collect(toMap(idOf, Function.identity()));
+    }
+
+    static boolean isMissing(Long id, Map<Long, ?> found) {
+        return id != null && !found.containsKey(id);
+    }
+
+    static BatchItemResultDto result(int index, Long id, HttpStatus status) {
+        BatchItemResultDto result = new BatchItemResultDto();
+        result.setIndex(index);
+        result.setId(id);
+        result.setStatus(status.name());
+
+        return result;
+    }
+}
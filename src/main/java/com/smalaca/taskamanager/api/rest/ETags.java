@@ -0,0 +1,52 @@
+package com.smalaca.taskamanager.api.rest;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+
+final class ETags {
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private ETags() {}
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    static boolean isNotModified(String ifNoneMatch, Long version) {
+        return matches(ifNoneMatch, version, true);
+    }
+
+    static boolean isPreconditionFailed(String ifMatch, Long version) {
+        return ifMatch != null && !matches(ifMatch, version, false);
+    }
+
+    private static boolean matches(String header, Long version, boolean weakAllowed) {
+        if (header == null || version == null) {
+            return false;
+        }
+
+        String expected = of(version);
+        String weak = WEAK_PREFIX + expected;
+
+        return Arrays.stream(header.split(","))
+                .map(String::trim)
+                .anyMatch(tag -> ANY.equals(tag) || expected.equals(tag) || weakAllowed && weak.equals(tag));
+    }
+
+    static <T> ResponseEntity<T> notModified(Long version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(of(version)).build();
+    }
+
+    static <T> ResponseEntity<T> ok(T body, Long version) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+
+        if (version != null) {
+            builder.eTag(of(version));
+        }
+
+        return builder.body(body);
+    }
+}
@@ -21,15 +21,20 @@ import com.smalaca.taskamanager.model.embedded.Watcher;
 import com.smalaca.taskamanager.model.entities.Epic;
 import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.model.entities.Team;
-import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.registry.EventsRegistry;
 import com.smalaca.taskamanager.repository.EpicRepository;
 import com.smalaca.taskamanager.repository.ProjectRepository;
 import com.smalaca.taskamanager.repository.TeamRepository;
 import com.smalaca.taskamanager.repository.UserRepository;
-import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.repository.UserSnapshot;
+import com.smalaca.taskamanager.repository.UserSnapshotCache;
+import com.smalaca.taskamanager.service.ToDoItemProcessingQueue;
+import com.smalaca.taskamanager.service.ToDoItemStatusChanges;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -37,11 +42,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 @RestController
@@ -49,25 +56,38 @@ import java.util.stream.Collectors;
 @SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:NestedTryDepth", "checkstyle:NestedIfDepth", "PMD.CollapsibleIfStatements"})
 public class EpicController {
     private final EpicRepository epicRepository;
-    private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     private final TeamRepository teamRepository;
-    private final ToDoItemService toDoItemService;
+    private final ToDoItemProcessingQueue toDoItemProcessingQueue;
     private final EpicApplicationService epicApplicationService;
+    private final EventsRegistry eventsRegistry;
 
     public EpicController(
             EpicRepository epicRepository, UserRepository userRepository, TeamRepository teamRepository,
-            ProjectRepository projectRepository, ToDoItemService toDoItemService) {
+            ProjectRepository projectRepository, ToDoItemProcessingQueue toDoItemProcessingQueue, UserSnapshotCache userSnapshotCache,
+            EventsRegistry eventsRegistry) {
         this.epicRepository = epicRepository;
-        this.userRepository = userRepository;
+        this.userSnapshotCache = userSnapshotCache;
         this.teamRepository = teamRepository;
-        this.toDoItemService = toDoItemService;
-        epicApplicationService = new EpicApplicationServiceFactory().epicApplicationService(epicRepository, projectRepository, userRepository);
+        this.toDoItemProcessingQueue = toDoItemProcessingQueue;
+        this.eventsRegistry = eventsRegistry;
+        epicApplicationService = new EpicApplicationServiceFactory().epicApplicationService(
+                epicRepository, projectRepository, userRepository, eventsRegistry);
     }
 
     @Transactional
     @GetMapping("/{id}")
-    public ResponseEntity<EpicDto> findById(@PathVariable Long id) {
-        Optional<Epic> found = epicRepository.findById(id);
+    public ResponseEntity<EpicDto> findById(
+            @PathVariable Long id, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<Long> version = epicRepository.findVersionById(id);
+
+            if (version.isPresent() && ETags.isNotModified(ifNoneMatch, version.get())) {
+                return ETags.notModified(version.get());
+            }
+        }
+
+        Optional<Epic> found = epicRepository.findDetailedById(id);
 
         if (found.isPresent()) {
             Epic epic = found.get();
@@ -141,7 +161,7 @@ public class EpicController {
             }).collect(Collectors.toList());
             epicDto.setStakeholders(stakeholders);
 
-            return ResponseEntity.ok(epicDto);
+            return ETags.ok(epicDto, epic.getVersion());
         }
 
         return ResponseEntity.notFound().build();
@@ -158,7 +178,8 @@ public class EpicController {
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Void> update(@PathVariable long id, @RequestBody EpicDto dto) {
+    public ResponseEntity<Void> update(
+            @PathVariable long id, @RequestBody EpicDto dto, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         boolean changed = false;
         Epic epic;
 
@@ -168,6 +189,10 @@ public class EpicController {
             return ResponseEntity.notFound().build();
         }
 
+        if (ETags.isPreconditionFailed(ifMatch, epic.getVersion())) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
+
         if (dto.getDescription() != null) {
             epic.setDescription(dto.getDescription());
         }
@@ -201,10 +226,10 @@ public class EpicController {
 
         } else {
             if (dto.getOwnerId() != null) {
-                boolean userExists = userRepository.existsById(dto.getOwnerId());
+                Optional<UserSnapshot> foundOwner = userSnapshotCache.findById(dto.getOwnerId());
 
-                if (userExists) {
-                    User user = userRepository.findById(dto.getOwnerId()).get();
+                if (foundOwner.isPresent()) {
+                    UserSnapshot user = foundOwner.get();
                     Owner owner = new Owner();
 
                     if (user.getPhoneNumber() != null) {
@@ -229,10 +254,18 @@ public class EpicController {
                 }
             }
         }
-        epicRepository.save(epic);
+        try {
+            epicRepository.save(epic);
+        } catch (ObjectOptimisticLockingFailureException exception) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
 
         if (changed) {
-            toDoItemService.processEpic(epic.getId());
+            try {
+                return ProcessingController.processed(toDoItemProcessingQueue.submitEpic(epic.getId()));
+            } catch (RejectedExecutionException exception) {
+                return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+            }
         }
 
         return ResponseEntity.ok().build();
@@ -255,6 +288,7 @@ public class EpicController {
                 throw new EpicDoesNotExistException();
             }
 
+            eventsRegistry.publish(ToDoItemStatusChanges.removalOf(found.get()));
             epicRepository.delete(found.get());
 
             return ResponseEntity.ok().build();
@@ -269,7 +303,7 @@ public class EpicController {
             Epic epic = findEpicBy(id);
 
             try {
-                User user = findUserBy(dto.getId());
+                UserSnapshot user = findUserBy(dto.getId());
                 Watcher watcher = new Watcher();
                 watcher.setFirstName(user.getUserName().getFirstName());
                 watcher.setLastName(user.getUserName().getLastName());
@@ -305,7 +339,7 @@ public class EpicController {
     public ResponseEntity<Void> removeWatcher(@PathVariable Long epicId, @PathVariable Long watcherId) {
         try {
             Epic epic = findEpicBy(epicId);
-            User user = findUserBy(watcherId);
+            UserSnapshot user = findUserBy(watcherId);
 
             Watcher watcher = new Watcher();
 
@@ -343,7 +377,7 @@ public class EpicController {
             Epic epic = findEpicBy(id);
 
             try {
-                User user = findUserBy(dto.getId());
+                UserSnapshot user = findUserBy(dto.getId());
                 Stakeholder stakeholder = new Stakeholder();
                 stakeholder.setFirstName(user.getUserName().getFirstName());
                 stakeholder.setLastName(user.getUserName().getLastName());
@@ -379,7 +413,7 @@ public class EpicController {
     public ResponseEntity<Void> removeStakeholder(@PathVariable Long epicId, @PathVariable Long stakeholderId) {
         try {
             Epic epic = findEpicBy(epicId);
-            User user = findUserBy(stakeholderId);
+            UserSnapshot user = findUserBy(stakeholderId);
 
             Stakeholder stakeholder = new Stakeholder();
 
@@ -417,7 +451,7 @@ public class EpicController {
             Epic epic = findEpicBy(id);
 
             try {
-                User user = findUserBy(dto.getId());
+                UserSnapshot user = findUserBy(dto.getId());
                 Assignee assignee = new Assignee();
                 assignee.setFirstName(user.getUserName().getFirstName());
                 assignee.setLastName(user.getUserName().getLastName());
@@ -474,8 +508,8 @@ public class EpicController {
         return found.get();
     }
 
-    private User findUserBy(Long id) {
-        Optional<User> found = userRepository.findById(id);
+    private UserSnapshot findUserBy(Long id) {
+        Optional<UserSnapshot> found = userSnapshotCache.findById(id);
 
         if (found.isEmpty()) {
             throw new UserNotFoundException();
@@ -0,0 +1,40 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.dto.EventDispatchStatsDto;
+import com.smalaca.taskamanager.registry.EventDispatchStats;
+import com.smalaca.taskamanager.registry.EventDispatcher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/events")
+public class EventsController {
+    private final Optional<EventDispatcher> dispatcher;
+
+    public EventsController(Optional<EventDispatcher> dispatcher) {
+        this.dispatcher = dispatcher;
+    }
+
+    @GetMapping("/dispatch-stats")
+    public ResponseEntity<EventDispatchStatsDto> getDispatchStats() {
+        if (dispatcher.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        EventDispatchStats stats = dispatcher.get().stats();
+        EventDispatchStatsDto dto = new EventDispatchStatsDto();
+        dto.setQueueDepth(stats.getQueueDepth());
+        dto.setDispatched(stats.getDispatched());
+        dto.setFailed(stats.getFailed());
+        dto.setAverageLatencyMicros(TimeUnit.NANOSECONDS.toMicros(stats.getAverageLatencyNanos()));
+        dto.setMaxLatencyMicros(TimeUnit.NANOSECONDS.toMicros(stats.getMaxLatencyNanos()));
+
+        return new ResponseEntity<>(dto, HttpStatus.OK);
+    }
+}
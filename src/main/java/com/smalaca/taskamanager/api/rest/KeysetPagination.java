@@ -0,0 +1,43 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.dto.PageDto;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+final class KeysetPagination {
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+    private static final long FIRST_PAGE_CURSOR = 0L;
+
+    private KeysetPagination() {}
+
+    static long cursorFrom(Long after) {
+        if (after == null) {
+            return FIRST_PAGE_CURSOR;
+        }
+
+        return after;
+    }
+
+    static Pageable pageOf(Integer size) {
+        if (size == null || size < 1) {
+            return PageRequest.of(0, DEFAULT_PAGE_SIZE);
+        }
+
+        return PageRequest.of(0, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    static <E, D> PageDto<D> asPage(List<E> rows, Pageable pageable, Function<E, Long> idOf, Function<E, D> asDto) {
+        PageDto<D> page = new PageDto<>();
+        rows.forEach(row -> page.addItem(asDto.apply(row)));
+
+        if (rows.size() == pageable.getPageSize()) {
+            page.setNext(idOf.apply(rows.get(rows.size() - 1)));
+        }
+
+        return page;
+    }
+}
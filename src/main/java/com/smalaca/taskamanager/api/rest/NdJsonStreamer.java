@@ -0,0 +1,70 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Component
+public class NdJsonStreamer {
+    static final String APPLICATION_NDJSON = "application/x-ndjson";
+    private static final int FLUSH_EVERY = 100;
+    private static final byte NEW_LINE = '\n';
+
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public NdJsonStreamer(PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    <T> ResponseEntity<StreamingResponseBody> stream(Supplier<Stream<T>> rows, Function<T, ?> asDto) {
+        StreamingResponseBody body = outputStream -> transactionTemplate.executeWithoutResult(status -> {
+            Stream<T> stream = rows.get();
+
+            try {
+                write(stream.iterator(), asDto, outputStream);
+            } finally {
+                stream.close();
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON))
+                .body(body);
+    }
+
+    private <T> void write(Iterator<T> rows, Function<T, ?> asDto, OutputStream outputStream) {
+        try {
+            long written = 0;
+
+            while (rows.hasNext()) {
+                T row = rows.next();
+                outputStream.write(objectMapper.writeValueAsBytes(asDto.apply(row)));
+                outputStream.write(NEW_LINE);
+                written++;
+
+                if (written == 1 || written % FLUSH_EVERY == 0) {
+                    outputStream.flush();
+                }
+            }
+
+            outputStream.flush();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
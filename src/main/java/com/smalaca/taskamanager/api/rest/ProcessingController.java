@@ -0,0 +1,112 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.dto.BatchItemResultDto;
+import com.smalaca.taskamanager.dto.ProcessingStatusDto;
+import com.smalaca.taskamanager.dto.StatusTransitionDto;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.service.ProcessingStatus;
+import com.smalaca.taskamanager.service.ToDoItemProcessingQueue;
+import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.service.ToDoItemType;
+import org.apache.commons.lang3.EnumUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/processing")
+public class ProcessingController {
+    private final ToDoItemProcessingQueue toDoItemProcessingQueue;
+    private final ToDoItemService toDoItemService;
+
+    public ProcessingController(ToDoItemProcessingQueue toDoItemProcessingQueue, ToDoItemService toDoItemService) {
+        this.toDoItemProcessingQueue = toDoItemProcessingQueue;
+        this.toDoItemService = toDoItemService;
+    }
+
+    @GetMapping("/{ticket}")
+    public ResponseEntity<ProcessingStatusDto> findByTicket(@PathVariable String ticket) {
+        Optional<ProcessingStatus> found = toDoItemProcessingQueue.statusOf(ticket);
+
+        if (found.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        ProcessingStatus status = found.get();
+        ProcessingStatusDto dto = new ProcessingStatusDto();
+        dto.setTicket(status.getTicket());
+        dto.setType(status.getType().name());
+        dto.setItemId(status.getItemId());
+        dto.setState(status.getState());
+        dto.setResult(status.getResult());
+
+        return new ResponseEntity<>(dto, HttpStatus.OK);
+    }
+
+    @PutMapping("/transitions/{type}")
+    public ResponseEntity<List<BatchItemResultDto>> transitionAll(@PathVariable String type, @RequestBody List<StatusTransitionDto> dtos) {
+        if (!EnumUtils.isValidEnumIgnoreCase(ToDoItemType.class, type)) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+
+        Map<Long, ToDoItemStatus> statuses = new LinkedHashMap<>();
+        dtos.stream()
+                .filter(this::hasValidStatus)
+                .forEach(dto -> statuses.put(dto.getId(), ToDoItemStatus.valueOf(dto.getStatus())));
+        Map<Long, Integer> processed = toDoItemService.processAll(EnumUtils.getEnumIgnoreCase(ToDoItemType.class, type), statuses);
+        List<BatchItemResultDto> results = new ArrayList<>();
+
+        for (int index = 0; index < dtos.size(); index++) {
+            StatusTransitionDto dto = dtos.get(index);
+            results.add(BatchCreation.result(index, dto.getId(), asHttpStatus(dto, processed)));
+        }
+
+        return ResponseEntity.ok(results);
+    }
+
+    private boolean hasValidStatus(StatusTransitionDto dto) {
+        return dto.getId() != null && EnumUtils.isValidEnum(ToDoItemStatus.class, dto.getStatus());
+    }
+
+    private HttpStatus asHttpStatus(StatusTransitionDto dto, Map<Long, Integer> processed) {
+        if (!hasValidStatus(dto)) {
+            return HttpStatus.BAD_REQUEST;
+        }
+
+        return asHttpStatus(processed.get(dto.getId()));
+    }
+
+    private HttpStatus asHttpStatus(int result) {
+        if (result == ProcessingStatus.PROCESSED) {
+            return HttpStatus.OK;
+        }
+
+        if (result == ProcessingStatus.NOT_FOUND) {
+            return HttpStatus.NOT_FOUND;
+        }
+
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    static ResponseEntity<Void> processed(Optional<String> ticket) {
+        return ticket.map(ProcessingController::accepted).orElseGet(() -> ResponseEntity.ok().build());
+    }
+
+    private static ResponseEntity<Void> accepted(String ticket) {
+        return ResponseEntity.accepted()
+                .location(UriComponentsBuilder.fromPath("/processing/{ticket}").buildAndExpand(ticket).toUri())
+                .build();
+    }
+}
@@ -11,6 +11,7 @@ import com.smalaca.taskamanager.model.entities.ProductOwner;
 import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.repository.ProductOwnerRepository;
 import com.smalaca.taskamanager.repository.ProjectRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -37,10 +38,12 @@ public class ProductOwnerController {
     private final ProjectRepository projectRepository;
     private final ProductOwnerApplicationService service;
 
-    public ProductOwnerController(ProductOwnerRepository productOwnerRepository, ProjectRepository projectRepository) {
+    public ProductOwnerController(
+            ProductOwnerRepository productOwnerRepository, ProjectRepository projectRepository,
+            @Value("${uniqueness.constraint-based:true}") boolean constraintBasedUniqueness) {
         this.productOwnerRepository = productOwnerRepository;
         this.projectRepository = projectRepository;
-        service = new ProductOwnerApplicationServiceFactory().productOwnerApplicationService(productOwnerRepository);
+        service = new ProductOwnerApplicationServiceFactory().productOwnerApplicationService(productOwnerRepository, constraintBasedUniqueness);
     }
 
     @GetMapping("/{id}")
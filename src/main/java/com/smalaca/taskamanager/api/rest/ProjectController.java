@@ -1,5 +1,6 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.smalaca.taskamanager.dto.PageDto;
 import com.smalaca.taskamanager.dto.ProjectDto;
 import com.smalaca.taskamanager.exception.ProjectNotFoundException;
 import com.smalaca.taskamanager.exception.TeamNotFoundException;
@@ -7,7 +8,11 @@ import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.model.enums.ProjectStatus;
 import com.smalaca.taskamanager.repository.ProjectRepository;
+import com.smalaca.taskamanager.repository.ProjectSummary;
 import com.smalaca.taskamanager.repository.TeamRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -19,43 +24,64 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.smalaca.taskamanager.repository.UniqueConstraintViolations.isViolationOf;
+
 @RestController
 @RequestMapping("/project")
 public class ProjectController {
     private final ProjectRepository projectRepository;
     private final TeamRepository teamRepository;
+    private final NdJsonStreamer ndJsonStreamer;
+    private final boolean constraintBasedUniqueness;
 
-    public ProjectController(ProjectRepository projectRepository, TeamRepository teamRepository) {
+    public ProjectController(
+            ProjectRepository projectRepository, TeamRepository teamRepository, NdJsonStreamer ndJsonStreamer,
+            @Value("${uniqueness.constraint-based:true}") boolean constraintBasedUniqueness) {
         this.projectRepository = projectRepository;
         this.teamRepository = teamRepository;
+        this.ndJsonStreamer = ndJsonStreamer;
+        this.constraintBasedUniqueness = constraintBasedUniqueness;
     }
 
     @GetMapping
+    public ResponseEntity<PageDto<ProjectDto>> getProjects(@RequestParam(required = false) Long after, @RequestParam(required = false) Integer size) {
+        Pageable pageable = KeysetPagination.pageOf(size);
+        List<ProjectSummary> projects = projectRepository.findSummariesAfter(KeysetPagination.cursorFrom(after), pageable);
+
+        return new ResponseEntity<>(KeysetPagination.asPage(projects, pageable, ProjectSummary::getId, this::asProjectDto), HttpStatus.OK);
+    }
+
+    @GetMapping(params = "all=true")
     public ResponseEntity<List<ProjectDto>> getAllProjects() {
-        List<ProjectDto> projectsDtos = new ArrayList<>();
+        List<ProjectDto> projectsDtos = projectRepository.findAllSummaries().stream()
+                .map(this::asProjectDto)
+                .collect(Collectors.toList());
 
-        for (Project project : projectRepository.findAll()) {
-            ProjectDto projectDto = new ProjectDto();
-            projectDto.setId(project.getId());
-            projectDto.setName(project.getName());
-            projectDto.setProjectStatus(project.getProjectStatus().name());
+        return new ResponseEntity<>(projectsDtos, HttpStatus.OK);
+    }
 
-            if (project.getProductOwner() != null) {
-                projectDto.setProductOwnerId(project.getProductOwner().getId());
-            }
+    @GetMapping(value = "/export", produces = NdJsonStreamer.APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportProjects() {
+        return ndJsonStreamer.stream(projectRepository::streamAll, this::asProjectDto);
+    }
 
-            projectsDtos.add(projectDto);
-        }
+    private ProjectDto asProjectDto(ProjectSummary project) {
+        ProjectDto projectDto = new ProjectDto();
+        projectDto.setId(project.getId());
+        projectDto.setName(project.getName());
+        projectDto.setProjectStatus(project.getProjectStatus().name());
+        projectDto.setProductOwnerId(project.getProductOwnerId());
 
-        return new ResponseEntity<>(projectsDtos, HttpStatus.OK);
+        return projectDto;
     }
 
     @GetMapping(value = "/{id}")
@@ -89,17 +115,25 @@ public class ProjectController {
 
     @PostMapping
     public ResponseEntity<Void> createProject(@RequestBody ProjectDto projectDto, UriComponentsBuilder uriComponentsBuilder) {
-        if (exists(projectDto)) {
+        if (!constraintBasedUniqueness && exists(projectDto)) {
             return new ResponseEntity<>(HttpStatus.CONFLICT);
-        } else {
-            Project project = new Project();
-            project.setName(projectDto.getName());
+        }
+
+        Project project = new Project();
+        project.setName(projectDto.getName());
 
+        try {
             Project saved = projectRepository.save(project);
 
             HttpHeaders headers = new HttpHeaders();
             headers.setLocation(uriComponentsBuilder.path("/project/{id}").buildAndExpand(saved.getId()).toUri());
             return new ResponseEntity<>(headers, HttpStatus.CREATED);
+        } catch (DataIntegrityViolationException exception) {
+            if (isViolationOf(exception, Project.UNIQUE_NAME)) {
+                return new ResponseEntity<>(HttpStatus.CONFLICT);
+            }
+
+            throw exception;
         }
     }
 
@@ -0,0 +1,65 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.dto.RollupSummaryDto;
+import com.smalaca.taskamanager.model.entities.StatusRollup;
+import com.smalaca.taskamanager.model.enums.RollupScope;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.repository.StatusRollupRepository;
+import com.smalaca.taskamanager.service.ToDoItemType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.smalaca.taskamanager.service.ToDoItemType.EPIC;
+import static com.smalaca.taskamanager.service.ToDoItemType.STORY;
+import static com.smalaca.taskamanager.service.ToDoItemType.TASK;
+
+@RestController
+public class RollupSummaryController {
+    private final StatusRollupRepository statusRollupRepository;
+
+    public RollupSummaryController(StatusRollupRepository statusRollupRepository) {
+        this.statusRollupRepository = statusRollupRepository;
+    }
+
+    @Transactional(readOnly = true)
+    @GetMapping("/epic/{id}/summary")
+    public ResponseEntity<RollupSummaryDto> findEpicSummary(@PathVariable long id) {
+        return ResponseEntity.ok(summaryOf(RollupScope.EPIC, id, List.of(STORY, TASK)));
+    }
+
+    @Transactional(readOnly = true)
+    @GetMapping("/project/{id}/summary")
+    public ResponseEntity<RollupSummaryDto> findProjectSummary(@PathVariable long id) {
+        return ResponseEntity.ok(summaryOf(RollupScope.PROJECT, id, List.of(EPIC, STORY, TASK)));
+    }
+
+    private RollupSummaryDto summaryOf(RollupScope scope, long id, List<ToDoItemType> types) {
+        RollupSummaryDto dto = new RollupSummaryDto();
+        dto.setId(id);
+
+        for (ToDoItemType type : types) {
+            Map<String, Long> histogram = new LinkedHashMap<>();
+
+            for (ToDoItemStatus status : ToDoItemStatus.values()) {
+                histogram.put(status.name(), 0L);
+            }
+
+            dto.getTotals().put(type.name(), 0L);
+            dto.getStatuses().put(type.name(), histogram);
+        }
+
+        for (StatusRollup rollup : statusRollupRepository.findAllByScopeAndScopeId(scope, id)) {
+            dto.getStatuses().get(rollup.getItemType()).put(rollup.getStatus().name(), rollup.getItems());
+            dto.getTotals().merge(rollup.getItemType(), rollup.getItems(), Long::sum);
+        }
+
+        return dto;
+    }
+}
@@ -1,14 +1,24 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.smalaca.taskamanager.dto.AssigneeDto;
+import com.smalaca.taskamanager.dto.BatchItemResultDto;
+import com.smalaca.taskamanager.dto.SprintBoardDto;
+import com.smalaca.taskamanager.dto.SprintBoardItemDto;
 import com.smalaca.taskamanager.dto.SprintDto;
+import com.smalaca.taskamanager.dto.SprintItemDto;
 import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.model.entities.Sprint;
 import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.repository.ProjectRepository;
+import com.smalaca.taskamanager.repository.SprintBoardItem;
 import com.smalaca.taskamanager.repository.SprintRepository;
 import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TaskRepository;
+import com.smalaca.taskamanager.service.ToDoItemType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,8 +30,17 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.smalaca.taskamanager.repository.UniqueConstraintViolations.isViolationOf;
+import static java.util.stream.Collectors.toList;
 
 @RestController
 @RequestMapping("/sprint")
@@ -30,13 +49,18 @@ public class SprintController {
     private final TaskRepository taskRepository;
     private final StoryRepository storyRepository;
     private final ProjectRepository projectRepository;
+    private final NdJsonStreamer ndJsonStreamer;
+    private final boolean constraintBasedUniqueness;
 
     public SprintController(
-            SprintRepository sprintRepository, TaskRepository taskRepository, StoryRepository storyRepository, ProjectRepository projectRepository) {
+            SprintRepository sprintRepository, TaskRepository taskRepository, StoryRepository storyRepository, ProjectRepository projectRepository,
+            NdJsonStreamer ndJsonStreamer, @Value("${uniqueness.constraint-based:true}") boolean constraintBasedUniqueness) {
         this.sprintRepository = sprintRepository;
         this.taskRepository = taskRepository;
         this.storyRepository = storyRepository;
         this.projectRepository = projectRepository;
+        this.ndJsonStreamer = ndJsonStreamer;
+        this.constraintBasedUniqueness = constraintBasedUniqueness;
     }
 
     @GetMapping("/{id}")
@@ -56,26 +80,70 @@ public class SprintController {
         }
     }
 
+    @GetMapping("/{id}/board")
+    @Transactional(readOnly = true)
+    public ResponseEntity<SprintBoardDto> findBoard(@PathVariable Long id) {
+        Optional<Sprint> found = sprintRepository.findById(id);
+
+        if (found.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        Sprint sprint = found.get();
+        SprintBoardDto dto = new SprintBoardDto();
+        dto.setId(sprint.getId());
+        dto.setName(sprint.getName());
+
+        if (sprint.getProject() != null) {
+            dto.setProjectId(sprint.getProject().getId());
+        }
+
+        group(ToDoItemType.TASK, sprintRepository.findBoardTasksById(id), dto.getTasks());
+        group(ToDoItemType.STORY, sprintRepository.findBoardStoriesById(id), dto.getStories());
+
+        return new ResponseEntity<>(dto, HttpStatus.OK);
+    }
+
+    @GetMapping(value = "/{id}/board", produces = NdJsonStreamer.APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamBoard(@PathVariable Long id) {
+        if (!sprintRepository.existsById(id)) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        return ndJsonStreamer.stream(() -> Stream.concat(
+                sprintRepository.streamBoardTasksById(id).map(item -> asBoardItemDto(ToDoItemType.TASK, item)),
+                sprintRepository.streamBoardStoriesById(id).map(item -> asBoardItemDto(ToDoItemType.STORY, item))), dto -> dto);
+    }
+
     @PostMapping
     public ResponseEntity<Long> create(@RequestBody SprintDto dto) {
-        if (sprintRepository.findByNameAndProjectId(dto.getName(), dto.getProjectId()).isPresent()) {
+        if (!constraintBasedUniqueness && sprintRepository.findByNameAndProjectId(dto.getName(), dto.getProjectId()).isPresent()) {
             return new ResponseEntity<>(HttpStatus.CONFLICT);
-        } else {
-            Sprint sprint = new Sprint();
-            sprint.setName(dto.getName());
+        }
 
-            Optional<Project> found = projectRepository.findById(dto.getProjectId());
+        Sprint sprint = new Sprint();
+        sprint.setName(dto.getName());
 
-            if (found.isEmpty()) {
-                return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
-            }
+        Optional<Project> found = projectRepository.findById(dto.getProjectId());
 
-            Project project = found.get();
-            sprint.setProject(project);
-            project.addSprint(sprint);
+        if (found.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
+        }
+
+        Project project = found.get();
+        sprint.setProject(project);
+        project.addSprint(sprint);
+
+        try {
             projectRepository.save(project);
             Long id = sprintRepository.save(sprint).getId();
             return new ResponseEntity<>(id, HttpStatus.CREATED);
+        } catch (DataIntegrityViolationException exception) {
+            if (isViolationOf(exception, Sprint.UNIQUE_NAME_IN_PROJECT)) {
+                return new ResponseEntity<>(HttpStatus.CONFLICT);
+            }
+
+            throw exception;
         }
     }
 
@@ -101,8 +169,7 @@ public class SprintController {
             if (foundTask.isPresent()) {
                 Sprint sprint = foundSprint.get();
                 Task task = foundTask.get();
-                sprint.addTask(task);
-                task.setCurrentSprint(sprint);
+                sprint.plan(task);
 
                 taskRepository.save(task);
                 sprintRepository.save(sprint);
@@ -116,7 +183,7 @@ public class SprintController {
         }
     }
 
-    @PutMapping("{sprintId}/tasks/{storyId}")
+    @PutMapping("{sprintId}/stories/{storyId}")
     public ResponseEntity<Void> addStory(@PathVariable long sprintId, @PathVariable long storyId) {
         Optional<Sprint> foundSprint = sprintRepository.findById(sprintId);
 
@@ -126,9 +193,7 @@ public class SprintController {
             if (foundStory.isPresent()) {
                 Sprint sprint = foundSprint.get();
                 Story story = foundStory.get();
-                sprint.addStory(story);
-                story.addSprint(sprint);
-                story.setCurrentSprint(sprint);
+                sprint.plan(story);
 
                 storyRepository.save(story);
                 sprintRepository.save(sprint);
@@ -141,4 +206,82 @@ public class SprintController {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         }
     }
+
+    @Transactional
+    @PutMapping("/{id}/items")
+    public ResponseEntity<List<BatchItemResultDto>> addItems(@PathVariable long id, @RequestBody List<SprintItemDto> items) {
+        Optional<Sprint> found = sprintRepository.findById(id);
+
+        if (found.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+
+        Sprint sprint = found.get();
+        Map<Long, Task> tasks = BatchCreation.byId(taskRepository.findAllById(idsOf(items, ToDoItemType.TASK)), Task::getId);
+        Map<Long, Story> stories = BatchCreation.byId(storyRepository.findAllById(idsOf(items, ToDoItemType.STORY)), Story::getId);
+        List<BatchItemResultDto> results = new ArrayList<>();
+
+        for (int index = 0; index < items.size(); index++) {
+            SprintItemDto item = items.get(index);
+            results.add(BatchCreation.result(index, item.getId(), plan(sprint, item, tasks, stories)));
+        }
+
+        taskRepository.saveAll(tasks.values());
+        storyRepository.saveAll(stories.values());
+        sprintRepository.save(sprint);
+
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
+    private Set<Long> idsOf(List<SprintItemDto> items, ToDoItemType type) {
+        return BatchCreation.idsOf(items.stream().filter(item -> type.name().equals(item.getType())).collect(toList()), SprintItemDto::getId);
+    }
+
+    private HttpStatus plan(Sprint sprint, SprintItemDto item, Map<Long, Task> tasks, Map<Long, Story> stories) {
+        if (ToDoItemType.TASK.name().equals(item.getType())) {
+            if (tasks.containsKey(item.getId())) {
+                sprint.plan(tasks.get(item.getId()));
+                return HttpStatus.OK;
+            }
+
+            return HttpStatus.NOT_FOUND;
+        }
+
+        if (ToDoItemType.STORY.name().equals(item.getType())) {
+            if (stories.containsKey(item.getId())) {
+                sprint.plan(stories.get(item.getId()));
+                return HttpStatus.OK;
+            }
+
+            return HttpStatus.NOT_FOUND;
+        }
+
+        return HttpStatus.BAD_REQUEST;
+    }
+
+    private void group(ToDoItemType type, List<SprintBoardItem> items, Map<String, List<SprintBoardItemDto>> columns) {
+        for (ToDoItemStatus status : ToDoItemStatus.values()) {
+            columns.put(status.name(), new ArrayList<>());
+        }
+
+        items.forEach(item -> columns.get(item.getStatus().name()).add(asBoardItemDto(type, item)));
+    }
+
+    private SprintBoardItemDto asBoardItemDto(ToDoItemType type, SprintBoardItem item) {
+        SprintBoardItemDto dto = new SprintBoardItemDto();
+        dto.setId(item.getId());
+        dto.setType(type.name());
+        dto.setTitle(item.getTitle());
+        dto.setStatus(item.getStatus().name());
+
+        if (item.getAssigneeFirstName() != null || item.getAssigneeLastName() != null) {
+            AssigneeDto assignee = new AssigneeDto();
+            assignee.setFirstName(item.getAssigneeFirstName());
+            assignee.setLastName(item.getAssigneeLastName());
+            assignee.setTeamId(item.getAssigneeTeamId());
+            dto.setAssignee(assignee);
+        }
+
+        return dto;
+    }
 }
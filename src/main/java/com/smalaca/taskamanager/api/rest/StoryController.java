@@ -2,6 +2,7 @@ package com.smalaca.taskamanager.api.rest;
 
 
 import com.smalaca.taskamanager.dto.AssigneeDto;
+import com.smalaca.taskamanager.dto.BatchItemResultDto;
 import com.smalaca.taskamanager.dto.StakeholderDto;
 import com.smalaca.taskamanager.dto.StoryDto;
 import com.smalaca.taskamanager.dto.WatcherDto;
@@ -14,6 +15,7 @@ import com.smalaca.taskamanager.model.embedded.EmailAddress;
 import com.smalaca.taskamanager.model.embedded.Owner;
 import com.smalaca.taskamanager.model.embedded.PhoneNumber;
 import com.smalaca.taskamanager.model.embedded.Stakeholder;
+import com.smalaca.taskamanager.model.embedded.StoryProgress;
 import com.smalaca.taskamanager.model.embedded.UserName;
 import com.smalaca.taskamanager.model.embedded.Watcher;
 import com.smalaca.taskamanager.model.entities.Epic;
@@ -21,13 +23,20 @@ import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.registry.EventsRegistry;
 import com.smalaca.taskamanager.repository.EpicRepository;
 import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TeamRepository;
 import com.smalaca.taskamanager.repository.UserRepository;
-import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.repository.UserSnapshot;
+import com.smalaca.taskamanager.repository.UserSnapshotCache;
+import com.smalaca.taskamanager.service.ToDoItemProcessingQueue;
+import com.smalaca.taskamanager.service.ToDoItemStatusChanges;
+import org.apache.commons.lang3.EnumUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -35,37 +44,59 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
+import static java.util.Comparator.comparingInt;
+
 @RestController
 @RequestMapping("/story")
 @SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:NestedTryDepth", "checkstyle:NestedIfDepth", "PMD.CollapsibleIfStatements"})
 public class StoryController {
     private final StoryRepository storyRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     private final TeamRepository teamRepository;
     private final EpicRepository epicRepository;
-    private final ToDoItemService toDoItemService;
+    private final ToDoItemProcessingQueue toDoItemProcessingQueue;
+    private final EventsRegistry eventsRegistry;
 
     public StoryController(
             StoryRepository storyRepository, UserRepository userRepository, TeamRepository teamRepository,
-            EpicRepository epicRepository, ToDoItemService toDoItemService) {
+            EpicRepository epicRepository, ToDoItemProcessingQueue toDoItemProcessingQueue, UserSnapshotCache userSnapshotCache,
+            EventsRegistry eventsRegistry) {
         this.storyRepository = storyRepository;
         this.userRepository = userRepository;
+        this.userSnapshotCache = userSnapshotCache;
         this.teamRepository = teamRepository;
         this.epicRepository = epicRepository;
-        this.toDoItemService = toDoItemService;
+        this.toDoItemProcessingQueue = toDoItemProcessingQueue;
+        this.eventsRegistry = eventsRegistry;
     }
 
     @Transactional
     @GetMapping("/{id}")
-    public ResponseEntity<StoryDto> findById(@PathVariable Long id) {
-        Optional<Story> found = storyRepository.findById(id);
+    public ResponseEntity<StoryDto> findById(
+            @PathVariable Long id, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<Long> version = storyRepository.findVersionById(id);
+
+            if (version.isPresent() && ETags.isNotModified(ifNoneMatch, version.get())) {
+                return ETags.notModified(version.get());
+            }
+        }
+
+        Optional<Story> found = storyRepository.findDetailedById(id);
 
         if (found.isPresent()) {
             Story story = found.get();
@@ -76,6 +107,13 @@ public class StoryController {
             storyDto.setDescription(story.getDescription());
             storyDto.setStatus(story.getStatus().name());
 
+            StoryProgress progress = story.getProgress();
+            Map<String, Integer> tasksByStatus = new LinkedHashMap<>();
+            Arrays.stream(ToDoItemStatus.values()).forEach(status -> tasksByStatus.put(status.name(), progress.count(status)));
+            storyDto.setTasksByStatus(tasksByStatus);
+            storyDto.setPercentDone(progress.percentDone());
+            storyDto.setAllTasksDone(progress.isAllDone());
+
             if (story.getEpic() != null) {
                 Epic project = story.getEpic();
                 storyDto.setEpicId(project.getId());
@@ -143,7 +181,7 @@ public class StoryController {
             }).collect(Collectors.toList());
             storyDto.setStakeholders(stakeholders);
 
-            return ResponseEntity.ok(storyDto);
+            return ETags.ok(storyDto, story.getVersion());
         }
 
         return ResponseEntity.notFound().build();
@@ -157,12 +195,12 @@ public class StoryController {
         story.setStatus(ToDoItemStatus.valueOf(dto.getStatus()));
 
         if (dto.getOwnerId() != null) {
-            Optional<User> found = userRepository.findById(dto.getOwnerId());
+            Optional<UserSnapshot> found = userSnapshotCache.findById(dto.getOwnerId());
 
             if (found.isEmpty()) {
                 return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
             } else {
-                User user = found.get();
+                UserSnapshot user = found.get();
                 Owner owner = new Owner();
 
                 if (user.getEmailAddress() != null) {
@@ -200,13 +238,59 @@ public class StoryController {
         epic.addStory(story);
 
         Story saved = storyRepository.save(story);
+        eventsRegistry.publish(ToDoItemStatusChanges.statusOf(saved));
         epicRepository.save(epic);
 
         return ResponseEntity.ok(saved.getId());
     }
 
+    @Transactional
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResultDto>> createAll(@RequestBody List<StoryDto> dtos) {
+        Map<Long, User> owners = BatchCreation.byId(userRepository.findAllById(BatchCreation.idsOf(dtos, StoryDto::getOwnerId)), User::getId);
+        Map<Long, Epic> epics = BatchCreation.byId(epicRepository.findAllById(BatchCreation.idsOf(dtos, StoryDto::getEpicId)), Epic::getId);
+        Map<Integer, Story> created = new LinkedHashMap<>();
+        List<BatchItemResultDto> results = new ArrayList<>();
+
+        for (int index = 0; index < dtos.size(); index++) {
+            StoryDto dto = dtos.get(index);
+
+            if (!EnumUtils.isValidEnum(ToDoItemStatus.class, dto.getStatus())) {
+                results.add(BatchCreation.result(index, null, HttpStatus.BAD_REQUEST));
+            } else if (BatchCreation.isMissing(dto.getOwnerId(), owners) || !epics.containsKey(dto.getEpicId())) {
+                results.add(BatchCreation.result(index, null, HttpStatus.FAILED_DEPENDENCY));
+            } else {
+                created.put(index, asStory(dto, owners.get(dto.getOwnerId()), epics.get(dto.getEpicId())));
+            }
+        }
+
+        storyRepository.saveAll(created.values());
+        created.values().forEach(story -> eventsRegistry.publish(ToDoItemStatusChanges.statusOf(story)));
+        created.forEach((index, story) -> results.add(BatchCreation.result(index, story.getId(), HttpStatus.CREATED)));
+        results.sort(comparingInt(BatchItemResultDto::getIndex));
+
+        return ResponseEntity.ok(results);
+    }
+
+    private Story asStory(StoryDto dto, User owner, Epic epic) {
+        Story story = new Story();
+        story.setTitle(dto.getTitle());
+        story.setDescription(dto.getDescription());
+        story.setStatus(ToDoItemStatus.valueOf(dto.getStatus()));
+
+        if (owner != null) {
+            story.setOwner(owner.asOwner());
+        }
+
+        story.setEpic(epic);
+        epic.addStory(story);
+
+        return story;
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<Void> update(@PathVariable long id, @RequestBody StoryDto dto) {
+    public ResponseEntity<Void> update(
+            @PathVariable long id, @RequestBody StoryDto dto, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         boolean runService = false;
         Story story;
 
@@ -216,6 +300,10 @@ public class StoryController {
             return ResponseEntity.notFound().build();
         }
 
+        if (ETags.isPreconditionFailed(ifMatch, story.getVersion())) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
+
         if (dto.getDescription() != null) {
             story.setDescription(dto.getDescription());
         }
@@ -242,10 +330,10 @@ public class StoryController {
 
         } else {
             if (dto.getOwnerId() != null) {
-                boolean userExists = userRepository.existsById(dto.getOwnerId());
+                Optional<UserSnapshot> foundOwner = userSnapshotCache.findById(dto.getOwnerId());
 
-                if (userExists) {
-                    User user = userRepository.findById(dto.getOwnerId()).get();
+                if (foundOwner.isPresent()) {
+                    UserSnapshot user = foundOwner.get();
                     Owner owner = new Owner();
 
                     if (user.getPhoneNumber() != null) {
@@ -281,9 +369,18 @@ public class StoryController {
             }
         }
 
-        storyRepository.save(story);
+        try {
+            storyRepository.save(story);
+        } catch (ObjectOptimisticLockingFailureException exception) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
+
         if (runService) {
-            toDoItemService.processStory(story.getId());
+            try {
+                return ProcessingController.processed(toDoItemProcessingQueue.submitStory(story.getId()));
+            } catch (RejectedExecutionException exception) {
+                return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+            }
         }
 
         return ResponseEntity.ok().build();
@@ -306,6 +403,7 @@ public class StoryController {
                 throw new StoryDoesNotExistException();
             }
 
+            eventsRegistry.publish(ToDoItemStatusChanges.removalOf(found.get()));
             storyRepository.delete(found.get());
 
             return ResponseEntity.ok().build();
@@ -320,7 +418,7 @@ public class StoryController {
             Story story = findStoryBy(id);
 
             try {
-                User user = findUserBy(dto.getId());
+                UserSnapshot user = findUserBy(dto.getId());
                 Watcher watcher = new Watcher();
                 watcher.setLastName(user.getUserName().getLastName());
                 watcher.setFirstName(user.getUserName().getFirstName());
@@ -359,7 +457,7 @@ public class StoryController {
     public ResponseEntity<Void> removeWatcher(@PathVariable Long storyId, @PathVariable Long watcherId) {
         try {
             Story story = findStoryBy(storyId);
-            User user = findUserBy(watcherId);
+            UserSnapshot user = findUserBy(watcherId);
 
             Watcher watcher = new Watcher();
 
@@ -395,7 +493,7 @@ public class StoryController {
             Story story = findStoryBy(id);
 
             try {
-                User user = findUserBy(dto.getId());
+                UserSnapshot user = findUserBy(dto.getId());
                 Stakeholder stakeholder = new Stakeholder();
                 stakeholder.setLastName(user.getUserName().getLastName());
                 stakeholder.setFirstName(user.getUserName().getFirstName());
@@ -432,7 +530,7 @@ public class StoryController {
     public ResponseEntity<Void> removeStakeholder(@PathVariable Long storyId, @PathVariable Long stakeholderId) {
         try {
             Story story = findStoryBy(storyId);
-            User user = findUserBy(stakeholderId);
+            UserSnapshot user = findUserBy(stakeholderId);
 
             Stakeholder stakeholder = new Stakeholder();
 
@@ -471,7 +569,7 @@ public class StoryController {
             Story story = findStoryBy(id);
 
             try {
-                User user = findUserBy(dto.getId());
+                UserSnapshot user = findUserBy(dto.getId());
                 Assignee assignee = new Assignee();
                 assignee.setFirstName(user.getUserName().getFirstName());
                 assignee.setLastName(user.getUserName().getLastName());
@@ -528,8 +626,8 @@ public class StoryController {
         return found.get();
     }
 
-    private User findUserBy(Long id) {
-        Optional<User> found = userRepository.findById(id);
+    private UserSnapshot findUserBy(Long id) {
+        Optional<UserSnapshot> found = userSnapshotCache.findById(id);
 
         if (found.isEmpty()) {
             throw new UserNotFoundException();
@@ -2,6 +2,7 @@ package com.smalaca.taskamanager.api.rest;
 
 
 import com.smalaca.taskamanager.dto.AssigneeDto;
+import com.smalaca.taskamanager.dto.BatchItemResultDto;
 import com.smalaca.taskamanager.dto.StakeholderDto;
 import com.smalaca.taskamanager.dto.TaskDto;
 import com.smalaca.taskamanager.dto.WatcherDto;
@@ -20,13 +21,20 @@ import com.smalaca.taskamanager.model.entities.Task;
 import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.registry.EventsRegistry;
 import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TaskRepository;
 import com.smalaca.taskamanager.repository.TeamRepository;
 import com.smalaca.taskamanager.repository.UserRepository;
-import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.repository.UserSnapshot;
+import com.smalaca.taskamanager.repository.UserSnapshotCache;
+import com.smalaca.taskamanager.service.ToDoItemProcessingQueue;
+import com.smalaca.taskamanager.service.ToDoItemStatusChanges;
+import org.apache.commons.lang3.EnumUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -34,37 +42,58 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
+import static java.util.Comparator.comparingInt;
+
 @RestController
 @RequestMapping("/task")
 @SuppressWarnings({"checkstyle:ClassFanOutComplexity", "checkstyle:NestedTryDepth", "checkstyle:NestedIfDepth", "PMD.CollapsibleIfStatements"})
 public class TaskController {
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final UserSnapshotCache userSnapshotCache;
     private final TeamRepository teamRepository;
     private final StoryRepository storyRepository;
-    private final ToDoItemService toDoItemService;
+    private final ToDoItemProcessingQueue toDoItemProcessingQueue;
+    private final EventsRegistry eventsRegistry;
 
     public TaskController(
             TaskRepository taskRepository, UserRepository userRepository, TeamRepository teamRepository,
-            StoryRepository storyRepository, ToDoItemService toDoItemService) {
+            StoryRepository storyRepository, ToDoItemProcessingQueue toDoItemProcessingQueue, UserSnapshotCache userSnapshotCache,
+            EventsRegistry eventsRegistry) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.userSnapshotCache = userSnapshotCache;
         this.teamRepository = teamRepository;
         this.storyRepository = storyRepository;
-        this.toDoItemService = toDoItemService;
+        this.toDoItemProcessingQueue = toDoItemProcessingQueue;
+        this.eventsRegistry = eventsRegistry;
     }
 
     @Transactional
     @GetMapping("/{id}")
-    public ResponseEntity<TaskDto> findById(@PathVariable Long id) {
-        Optional<Task> found = taskRepository.findById(id);
+    public ResponseEntity<TaskDto> findById(
+            @PathVariable Long id, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<Long> version = taskRepository.findVersionById(id);
+
+            if (version.isPresent() && ETags.isNotModified(ifNoneMatch, version.get())) {
+                return ETags.notModified(version.get());
+            }
+        }
+
+        Optional<Task> found = taskRepository.findDetailedById(id);
 
         if (found.isPresent()) {
             Task task = found.get();
@@ -138,7 +167,7 @@ public class TaskController {
             }).collect(Collectors.toList());
             dto.setStakeholders(stakeholders);
 
-            return ResponseEntity.ok(dto);
+            return ETags.ok(dto, task.getVersion());
         }
 
         return ResponseEntity.notFound().build();
@@ -152,12 +181,12 @@ public class TaskController {
         t.setStatus(ToDoItemStatus.valueOf(dto.getStatus()));
 
         if (dto.getOwnerId() != null) {
-            Optional<User> found = userRepository.findById(dto.getOwnerId());
+            Optional<UserSnapshot> found = userSnapshotCache.findById(dto.getOwnerId());
 
             if (found.isEmpty()) {
                 return new ResponseEntity<>(HttpStatus.FAILED_DEPENDENCY);
             } else {
-                User u = found.get();
+                UserSnapshot u = found.get();
                 Owner o = new Owner();
                 o.setLastName(u.getUserName().getLastName());
                 o.setFirstName(u.getUserName().getFirstName());
@@ -197,12 +226,60 @@ public class TaskController {
         }
 
         Task saved = taskRepository.save(t);
+        eventsRegistry.publish(ToDoItemStatusChanges.statusOf(saved));
 
         return ResponseEntity.ok(saved.getId());
     }
 
+    @Transactional
+    @PostMapping("/batch")
+    public ResponseEntity<List<BatchItemResultDto>> createAll(@RequestBody List<TaskDto> dtos) {
+        Map<Long, User> owners = BatchCreation.byId(userRepository.findAllById(BatchCreation.idsOf(dtos, TaskDto::getOwnerId)), User::getId);
+        Map<Long, Story> stories = BatchCreation.byId(storyRepository.findAllById(BatchCreation.idsOf(dtos, TaskDto::getStoryId)), Story::getId);
+        Map<Integer, Task> created = new LinkedHashMap<>();
+        List<BatchItemResultDto> results = new ArrayList<>();
+
+        for (int index = 0; index < dtos.size(); index++) {
+            TaskDto dto = dtos.get(index);
+
+            if (!EnumUtils.isValidEnum(ToDoItemStatus.class, dto.getStatus())) {
+                results.add(BatchCreation.result(index, null, HttpStatus.BAD_REQUEST));
+            } else if (BatchCreation.isMissing(dto.getOwnerId(), owners) || BatchCreation.isMissing(dto.getStoryId(), stories)) {
+                results.add(BatchCreation.result(index, null, HttpStatus.FAILED_DEPENDENCY));
+            } else {
+                created.put(index, asTask(dto, owners.get(dto.getOwnerId()), stories.get(dto.getStoryId())));
+            }
+        }
+
+        taskRepository.saveAll(created.values());
+        created.values().forEach(task -> eventsRegistry.publish(ToDoItemStatusChanges.statusOf(task)));
+        created.forEach((index, task) -> results.add(BatchCreation.result(index, task.getId(), HttpStatus.CREATED)));
+        results.sort(comparingInt(BatchItemResultDto::getIndex));
+
+        return ResponseEntity.ok(results);
+    }
+
+    private Task asTask(TaskDto dto, User owner, Story story) {
+        Task task = new Task();
+        task.setTitle(dto.getTitle());
+        task.setDescription(dto.getDescription());
+        task.setStatus(ToDoItemStatus.valueOf(dto.getStatus()));
+
+        if (owner != null) {
+            task.setOwner(owner.asOwner());
+        }
+
+        if (story != null) {
+            task.setStory(story);
+            story.addTask(task);
+        }
+
+        return task;
+    }
+
     @PutMapping("/{id}")
-    public ResponseEntity<Void> update(@PathVariable long id, @RequestBody TaskDto dto) {
+    public ResponseEntity<Void> update(
+            @PathVariable long id, @RequestBody TaskDto dto, @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         Task task;
 
         try {
@@ -211,6 +288,10 @@ public class TaskController {
             return ResponseEntity.notFound().build();
         }
 
+        if (ETags.isPreconditionFailed(ifMatch, task.getVersion())) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
+
         if (dto.getDescription() != null) {
             task.setDescription(dto.getDescription());
         }
@@ -245,10 +326,10 @@ public class TaskController {
 
         } else {
             if (dto.getOwnerId() != null) {
-                boolean userExists = userRepository.existsById(dto.getOwnerId());
+                Optional<UserSnapshot> foundOwner = userSnapshotCache.findById(dto.getOwnerId());
 
-                if (userExists) {
-                    User user = userRepository.findById(dto.getOwnerId()).get();
+                if (foundOwner.isPresent()) {
+                    UserSnapshot user = foundOwner.get();
                     Owner ownr = new Owner();
 
                     if (user.getPhoneNumber() != null) {
@@ -273,9 +354,18 @@ public class TaskController {
                 }
             }
         }
-        taskRepository.save(task);
+        try {
+            taskRepository.save(task);
+        } catch (ObjectOptimisticLockingFailureException exception) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
+
         if (service) {
-            toDoItemService.processTask(task.getId());
+            try {
+                return ProcessingController.processed(toDoItemProcessingQueue.submitTask(task.getId()));
+            } catch (RejectedExecutionException exception) {
+                return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+            }
         }
 
         return ResponseEntity.ok().build();
@@ -298,7 +388,14 @@ public class TaskController {
                 throw new TaskDoesNotExistException();
             }
 
-            taskRepository.delete(found.get());
+            Task task = found.get();
+
+            if (task.getStory() != null) {
+                task.getStory().removeTask(task);
+            }
+
+            eventsRegistry.publish(ToDoItemStatusChanges.removalOf(task));
+            taskRepository.delete(task);
 
             return ResponseEntity.ok().build();
         } catch (TaskDoesNotExistException exception) {
@@ -312,7 +409,7 @@ public class TaskController {
             Task entity1 = findTaskBy(id);
 
             try {
-                User entity2 = findUserBy(dto.getId());
+                UserSnapshot entity2 = findUserBy(dto.getId());
                 Watcher entity3 = new Watcher();
                 entity3.setFirstName(entity2.getUserName().getFirstName());
                 entity3.setLastName(entity2.getUserName().getLastName());
@@ -348,7 +445,7 @@ public class TaskController {
     public ResponseEntity<Void> removeWatcher(@PathVariable Long taskId, @PathVariable Long watcherId) {
         try {
             Task task = findTaskBy(taskId);
-            User user = findUserBy(watcherId);
+            UserSnapshot user = findUserBy(watcherId);
 
             Watcher watcher = new Watcher();
 
@@ -386,7 +483,7 @@ public class TaskController {
             Task task = findTaskBy(id);
 
             try {
-                User user = findUserBy(dto.getId());
+                UserSnapshot user = findUserBy(dto.getId());
                 Stakeholder stakeholder = new Stakeholder();
                 stakeholder.setLastName(user.getUserName().getLastName());
                 stakeholder.setFirstName(user.getUserName().getFirstName());
@@ -422,7 +519,7 @@ public class TaskController {
     public ResponseEntity<Void> removeStakeholder(@PathVariable Long taskId, @PathVariable Long stakeholderId) {
         try {
             Task task = findTaskBy(taskId);
-            User user = findUserBy(stakeholderId);
+            UserSnapshot user = findUserBy(stakeholderId);
 
             Stakeholder stkh = new Stakeholder();
 
@@ -460,7 +557,7 @@ public class TaskController {
             Task task = findTaskBy(id);
 
             try {
-                User user = findUserBy(dto.getId());
+                UserSnapshot user = findUserBy(dto.getId());
                 Assignee asgn = new Assignee();
                 asgn.setLastName(user.getUserName().getLastName());
                 asgn.setFirstName(user.getUserName().getFirstName());
@@ -517,8 +614,8 @@ public class TaskController {
         return found.get();
     }
 
-    private User findUserBy(Long id) {
-        Optional<User> found = userRepository.findById(id);
+    private UserSnapshot findUserBy(Long id) {
+        Optional<UserSnapshot> found = userSnapshotCache.findById(id);
 
         if (found.isEmpty()) {
             throw new UserNotFoundException();
@@ -12,7 +12,11 @@ import com.smalaca.taskamanager.model.embedded.Codename;
 import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.repository.TeamRepository;
+import com.smalaca.taskamanager.repository.TeamSummary;
 import com.smalaca.taskamanager.repository.UserRepository;
+import com.smalaca.taskamanager.repository.UserSnapshotCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -25,12 +29,13 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.StreamSupport;
 
+import static com.smalaca.taskamanager.repository.UniqueConstraintViolations.isViolationOf;
 import static java.util.stream.Collectors.toList;
 
 @RestController
@@ -40,33 +45,42 @@ public class TeamController {
     private final TeamRepository teamRepository;
     private final UserRepository userRepository;
     private final TeamApplicationService teamApplicationService;
+    private final NdJsonStreamer ndJsonStreamer;
+    private final UserSnapshotCache userSnapshotCache;
 
-    public TeamController(TeamRepository teamRepository, UserRepository userRepository) {
+    public TeamController(
+            TeamRepository teamRepository, UserRepository userRepository, NdJsonStreamer ndJsonStreamer, UserSnapshotCache userSnapshotCache,
+            @Value("${uniqueness.constraint-based:true}") boolean constraintBasedUniqueness) {
         this.teamRepository = teamRepository;
         this.userRepository = userRepository;
-        teamApplicationService = new TeamApplicationServiceFactory().teamApplicationService(teamRepository);
+        this.ndJsonStreamer = ndJsonStreamer;
+        this.userSnapshotCache = userSnapshotCache;
+        teamApplicationService = new TeamApplicationServiceFactory().teamApplicationService(teamRepository, constraintBasedUniqueness);
     }
 
     @GetMapping
     public ResponseEntity<List<TeamDto>> findAll() {
-        List<TeamDto> teams = StreamSupport.stream(teamRepository.findAll().spliterator(), false)
-                .map(team -> {
-                    TeamDto dto = new TeamDto();
-                    dto.setId(team.getId());
-                    dto.setName(team.getName());
+        List<TeamDto> teams = teamRepository.findAllSummaries().stream()
+                .map(this::asTeamDto)
+                .collect(toList());
 
-                    if (team.getCodename() != null) {
-                        dto.setCodenameShort(team.getCodename().getShortName());
-                        dto.setCodenameFull(team.getCodename().getFullName());
-                    }
+        return new ResponseEntity<>(teams, HttpStatus.OK);
+    }
 
-                    dto.setDescription(team.getDescription());
+    @GetMapping(value = "/export", produces = NdJsonStreamer.APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportAll() {
+        return ndJsonStreamer.stream(teamRepository::streamAll, this::asTeamDto);
+    }
 
-                    return dto;
-                })
-                .collect(toList());
+    private TeamDto asTeamDto(TeamSummary team) {
+        TeamDto dto = new TeamDto();
+        dto.setId(team.getId());
+        dto.setName(team.getName());
+        dto.setCodenameShort(team.getCodenameShort());
+        dto.setCodenameFull(team.getCodenameFull());
+        dto.setDescription(team.getDescription());
 
-        return new ResponseEntity<>(teams, HttpStatus.OK);
+        return dto;
     }
 
     @GetMapping("/{id}")
@@ -130,7 +144,17 @@ public class TeamController {
             team.setDescription(teamDto.getDescription());
         }
 
-        Team updated = teamRepository.save(team);
+        Team updated;
+
+        try {
+            updated = teamRepository.save(team);
+        } catch (DataIntegrityViolationException exception) {
+            if (isViolationOf(exception, Team.UNIQUE_NAME)) {
+                return new ResponseEntity<>(HttpStatus.CONFLICT);
+            }
+
+            throw exception;
+        }
 
         TeamDto dto = new TeamDto();
         dto.setId(updated.getId());
@@ -163,6 +187,7 @@ public class TeamController {
 
             teamRepository.save(team);
             userRepository.saveAll(users);
+            userSnapshotCache.invalidateAll(dto.getUserIds());
 
             return new ResponseEntity<>(HttpStatus.OK);
 
@@ -187,6 +212,7 @@ public class TeamController {
 
             teamRepository.save(team);
             userRepository.saveAll(users);
+            userSnapshotCache.invalidateAll(dto.getUserIds());
 
             return new ResponseEntity<>(HttpStatus.OK);
 
@@ -1,15 +1,24 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.google.common.cache.CacheStats;
 import com.smalaca.taskamanager.application.user.UserApplicationService;
 import com.smalaca.taskamanager.domain.user.UserException;
+import com.smalaca.taskamanager.dto.CacheStatsDto;
+import com.smalaca.taskamanager.dto.PageDto;
 import com.smalaca.taskamanager.dto.UserDto;
 import com.smalaca.taskamanager.exception.UserNotFoundException;
+import com.smalaca.taskamanager.infrastructure.enums.CommunicatorType;
 import com.smalaca.taskamanager.model.embedded.EmailAddress;
 import com.smalaca.taskamanager.model.embedded.PhoneNumber;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.TeamRole;
 import com.smalaca.taskamanager.repository.UserRepository;
+import com.smalaca.taskamanager.repository.UserSnapshotCache;
+import com.smalaca.taskamanager.repository.UserSummary;
+import com.smalaca.taskamanager.service.CommunicatorRouting;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,58 +29,90 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import static java.util.stream.Collectors.toList;
+
 @RestController
 @RequestMapping("/user")
 @SuppressWarnings("checkstyle:ClassFanOutComplexity")
 public class UserController {
     private final UserRepository userRepository;
     private final UserApplicationService userApplicationService;
+    private final NdJsonStreamer ndJsonStreamer;
+    private final UserSnapshotCache userSnapshotCache;
+    private final CommunicatorRouting communicatorRouting;
 
     @Autowired
-    public UserController(UserRepository userRepository) {
+    public UserController(
+            UserRepository userRepository, NdJsonStreamer ndJsonStreamer, UserSnapshotCache userSnapshotCache,
+            CommunicatorRouting communicatorRouting, @Value("${uniqueness.constraint-based:true}") boolean constraintBasedUniqueness) {
         this.userRepository = userRepository;
-        userApplicationService = new UserApplicationService(userRepository);
+        this.ndJsonStreamer = ndJsonStreamer;
+        this.userSnapshotCache = userSnapshotCache;
+        this.communicatorRouting = communicatorRouting;
+        userApplicationService = new UserApplicationService(userRepository, constraintBasedUniqueness);
     }
 
     @GetMapping
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        List<UserDto> usersDtos = new ArrayList<>();
+    public ResponseEntity<PageDto<UserDto>> getUsers(@RequestParam(required = false) Long after, @RequestParam(required = false) Integer size) {
+        Pageable pageable = KeysetPagination.pageOf(size);
+        List<UserSummary> users = userRepository.findSummariesAfter(KeysetPagination.cursorFrom(after), pageable);
 
-        for (User user : userRepository.findAll()) {
-            UserDto userDto = new UserDto();
-            userDto.setId(user.getId());
-            userDto.setFirstName(user.getUserName().getFirstName());
-            userDto.setLastName(user.getUserName().getLastName());
-            userDto.setLogin(user.getLogin());
-            userDto.setPassword(user.getPassword());
+        return new ResponseEntity<>(KeysetPagination.asPage(users, pageable, UserSummary::getId, this::asUserDto), HttpStatus.OK);
+    }
 
-            TeamRole teamRole = user.getTeamRole();
-            if (teamRole != null) {
-                userDto.setTeamRole(teamRole.name());
-            }
+    @GetMapping(params = "all=true")
+    public ResponseEntity<List<UserDto>> getAllUsers() {
+        List<UserDto> usersDtos = userRepository.findAllSummaries().stream()
+                .map(this::asUserDto)
+                .collect(toList());
 
-            PhoneNumber phoneNumber = user.getPhoneNumber();
-            if (phoneNumber != null) {
-                userDto.setPhonePrefix(phoneNumber.getPrefix());
-                userDto.setPhoneNumber(phoneNumber.getNumber());
-            }
+        return new ResponseEntity<>(usersDtos, HttpStatus.OK);
+    }
 
-            EmailAddress emailAddress = user.getEmailAddress();
-            if (emailAddress != null) {
-                userDto.setEmailAddress(emailAddress.getEmailAddress());
-            }
+    @GetMapping(value = "/export", produces = NdJsonStreamer.APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return ndJsonStreamer.stream(userRepository::streamAll, this::asUserDto);
+    }
+
+    private UserDto asUserDto(UserSummary user) {
+        UserDto userDto = new UserDto();
+        userDto.setId(user.getId());
+        userDto.setFirstName(user.getFirstName());
+        userDto.setLastName(user.getLastName());
+        userDto.setLogin(user.getLogin());
+        userDto.setPassword(user.getPassword());
 
-            usersDtos.add(userDto);
+        TeamRole teamRole = user.getTeamRole();
+        if (teamRole != null) {
+            userDto.setTeamRole(teamRole.name());
         }
 
-        return new ResponseEntity<>(usersDtos, HttpStatus.OK);
+        userDto.setPhonePrefix(user.getPhonePrefix());
+        userDto.setPhoneNumber(user.getPhoneNumber());
+        userDto.setEmailAddress(user.getEmailAddress());
+
+        return userDto;
+    }
+
+    @GetMapping("/cache-stats")
+    public ResponseEntity<CacheStatsDto> getUserSnapshotCacheStats() {
+        CacheStats stats = userSnapshotCache.stats();
+        CacheStatsDto dto = new CacheStatsDto();
+        dto.setSize(userSnapshotCache.size());
+        dto.setHitCount(stats.hitCount());
+        dto.setMissCount(stats.missCount());
+        dto.setHitRate(stats.hitRate());
+        dto.setEvictionCount(stats.evictionCount());
+
+        return new ResponseEntity<>(dto, HttpStatus.OK);
     }
 
     @GetMapping(value = "/{id}")
@@ -102,6 +143,11 @@ public class UserController {
                 userDto.setEmailAddress(emailAddress.getEmailAddress());
             }
 
+            CommunicatorType preferredCommunicator = user.getPreferredCommunicator();
+            if (preferredCommunicator != null) {
+                userDto.setPreferredCommunicator(preferredCommunicator.name());
+            }
+
             return new ResponseEntity<>(userDto, HttpStatus.OK);
         } catch (UserNotFoundException exception) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
@@ -155,8 +201,14 @@ public class UserController {
         if (userDto.getTeamRole() != null) {
             user.setTeamRole(TeamRole.valueOf(userDto.getTeamRole()));
         }
+
+        if (userDto.getPreferredCommunicator() != null) {
+            user.setPreferredCommunicator(CommunicatorType.valueOf(userDto.getPreferredCommunicator()));
+        }
         
         User updated = userRepository.save(user);
+        userSnapshotCache.invalidate(id);
+        communicatorRouting.invalidate(id);
 
         UserDto response = new UserDto();
         response.setId(updated.getId());
@@ -181,6 +233,11 @@ public class UserController {
             response.setEmailAddress(emailAddress.getEmailAddress());
         }
 
+        CommunicatorType preferredCommunicator = updated.getPreferredCommunicator();
+        if (preferredCommunicator != null) {
+            response.setPreferredCommunicator(preferredCommunicator.name());
+        }
+
         return new ResponseEntity<>(response, HttpStatus.OK);
     }
 
@@ -195,6 +252,8 @@ public class UserController {
         }
 
         userRepository.delete(user);
+        userSnapshotCache.invalidate(id);
+        communicatorRouting.invalidate(id);
         return new ResponseEntity<>(HttpStatus.OK);
     }
 
@@ -5,18 +5,23 @@ import com.smalaca.taskamanager.dto.EpicDto;
 import com.smalaca.taskamanager.exception.ProjectNotFoundException;
 import com.smalaca.taskamanager.model.entities.Epic;
 import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.registry.EventsRegistry;
 import com.smalaca.taskamanager.repository.EpicRepository;
 import com.smalaca.taskamanager.repository.ProjectRepository;
+import com.smalaca.taskamanager.service.ToDoItemStatusChanges;
 
 public class EpicApplicationService {
     private final EpicRepository epicRepository;
     private final ProjectRepository projectRepository;
     private final EpicFactory epicFactory;
+    private final EventsRegistry eventsRegistry;
 
-    EpicApplicationService(EpicRepository epicRepository, ProjectRepository projectRepository, EpicFactory epicFactory) {
+    EpicApplicationService(
+            EpicRepository epicRepository, ProjectRepository projectRepository, EpicFactory epicFactory, EventsRegistry eventsRegistry) {
         this.epicRepository = epicRepository;
         this.projectRepository = projectRepository;
         this.epicFactory = epicFactory;
+        this.eventsRegistry = eventsRegistry;
     }
 
     public Long create(EpicDto dto) {
@@ -25,7 +30,10 @@ public class EpicApplicationService {
         Epic epic = epicFactory.create(dto, project);
 
         projectRepository.save(project);
-        return epicRepository.save(epic).getId();
+        Epic saved = epicRepository.save(epic);
+        eventsRegistry.publish(ToDoItemStatusChanges.statusOf(saved));
+
+        return saved.getId();
     }
 
     private Project findProject(EpicDto dto) {
@@ -1,12 +1,14 @@
 package com.smalaca.taskamanager.application.epic;
 
 import com.smalaca.taskamanager.domain.epic.EpicFactory;
+import com.smalaca.taskamanager.registry.EventsRegistry;
 import com.smalaca.taskamanager.repository.EpicRepository;
 import com.smalaca.taskamanager.repository.ProjectRepository;
 import com.smalaca.taskamanager.repository.UserRepository;
 
 public class EpicApplicationServiceFactory {
-    public EpicApplicationService epicApplicationService(EpicRepository epicRepository, ProjectRepository projectRepository, UserRepository userRepository) {
-        return new EpicApplicationService(epicRepository, projectRepository, new EpicFactory(userRepository));
+    public EpicApplicationService epicApplicationService(
+            EpicRepository epicRepository, ProjectRepository projectRepository, UserRepository userRepository, EventsRegistry eventsRegistry) {
+        return new EpicApplicationService(epicRepository, projectRepository, new EpicFactory(userRepository), eventsRegistry);
     }
 }
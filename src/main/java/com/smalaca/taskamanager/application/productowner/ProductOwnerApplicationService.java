@@ -8,13 +8,19 @@ import com.smalaca.taskamanager.repository.ProductOwnerRepository;
 public class ProductOwnerApplicationService {
     private final ProductOwnerRepository productOwnerRepository;
     private final ProductOwnerFactory factory;
+    private final boolean constraintBasedUniqueness;
 
-    ProductOwnerApplicationService(ProductOwnerRepository productOwnerRepository, ProductOwnerFactory factory) {
+    ProductOwnerApplicationService(ProductOwnerRepository productOwnerRepository, ProductOwnerFactory factory, boolean constraintBasedUniqueness) {
         this.productOwnerRepository = productOwnerRepository;
         this.factory = factory;
+        this.constraintBasedUniqueness = constraintBasedUniqueness;
     }
 
     public Long create(NewProductOwnerDto dto) {
+        if (constraintBasedUniqueness) {
+            return factory.insert(dto, productOwnerRepository::save).getId();
+        }
+
         ProductOwner productOwner = factory.create(dto);
         ProductOwner saved = productOwnerRepository.save(productOwner);
 
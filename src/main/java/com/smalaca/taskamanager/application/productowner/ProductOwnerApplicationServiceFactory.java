@@ -5,6 +5,11 @@ import com.smalaca.taskamanager.repository.ProductOwnerRepository;
 
 public class ProductOwnerApplicationServiceFactory {
     public ProductOwnerApplicationService productOwnerApplicationService(ProductOwnerRepository productOwnerRepository) {
-        return new ProductOwnerApplicationService(productOwnerRepository, new ProductOwnerFactory(productOwnerRepository));
+        return productOwnerApplicationService(productOwnerRepository, false);
+    }
+
+    public ProductOwnerApplicationService productOwnerApplicationService(
+            ProductOwnerRepository productOwnerRepository, boolean constraintBasedUniqueness) {
+        return new ProductOwnerApplicationService(productOwnerRepository, new ProductOwnerFactory(productOwnerRepository), constraintBasedUniqueness);
     }
 }
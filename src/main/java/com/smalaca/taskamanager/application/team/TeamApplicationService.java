@@ -7,13 +7,19 @@ import com.smalaca.taskamanager.repository.TeamRepository;
 public class TeamApplicationService {
     private final TeamRepository teamRepository;
     private final TeamFactory teamFactory;
+    private final boolean constraintBasedUniqueness;
 
-    TeamApplicationService(TeamRepository teamRepository, TeamFactory teamFactory) {
+    TeamApplicationService(TeamRepository teamRepository, TeamFactory teamFactory, boolean constraintBasedUniqueness) {
         this.teamRepository = teamRepository;
         this.teamFactory = teamFactory;
+        this.constraintBasedUniqueness = constraintBasedUniqueness;
     }
 
     public Long create(String name) {
+        if (constraintBasedUniqueness) {
+            return teamFactory.insert(name, teamRepository::save).getId();
+        }
+
         Team team = teamFactory.create(name);
         Team saved = teamRepository.save(team);
 
@@ -5,6 +5,10 @@ import com.smalaca.taskamanager.repository.TeamRepository;
 
 public class TeamApplicationServiceFactory {
     public TeamApplicationService teamApplicationService(TeamRepository teamRepository) {
-        return new TeamApplicationService(teamRepository, new TeamFactory(teamRepository));
+        return teamApplicationService(teamRepository, false);
+    }
+
+    public TeamApplicationService teamApplicationService(TeamRepository teamRepository, boolean constraintBasedUniqueness) {
+        return new TeamApplicationService(teamRepository, new TeamFactory(teamRepository), constraintBasedUniqueness);
     }
 }
@@ -1,26 +1,35 @@
 package com.smalaca.taskamanager.application.user;
 
+import com.smalaca.taskamanager.domain.user.UserBuilder;
 import com.smalaca.taskamanager.dto.UserDto;
-import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.repository.UserRepository;
 
 import static com.smalaca.taskamanager.domain.user.UserBuilder.user;
 
 public class UserApplicationService {
     private final UserRepository userRepository;
+    private final boolean constraintBasedUniqueness;
 
     public UserApplicationService(UserRepository userRepository) {
+        this(userRepository, false);
+    }
+
+    public UserApplicationService(UserRepository userRepository, boolean constraintBasedUniqueness) {
         this.userRepository = userRepository;
+        this.constraintBasedUniqueness = constraintBasedUniqueness;
     }
 
     public Long create(UserDto userDto) {
-        User user = user()
+        UserBuilder builder = user()
                 .withTeamRole(userDto.getTeamRole())
                 .withUserName(userDto.getFirstName(), userDto.getLastName())
                 .withLogin(userDto.getLogin())
-                .withPassword(userDto.getPassword())
-                .build(userRepository);
+                .withPassword(userDto.getPassword());
+
+        if (constraintBasedUniqueness) {
+            return builder.insert(userRepository::save).getId();
+        }
 
-        return userRepository.save(user).getId();
+        return userRepository.save(builder.build(userRepository)).getId();
     }
 }
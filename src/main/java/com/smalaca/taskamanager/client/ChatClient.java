@@ -2,6 +2,12 @@ package com.smalaca.taskamanager.client;
 
 import com.smalaca.taskamanager.model.other.ChatRoom;
 
+import java.util.List;
+
 public interface ChatClient {
     ChatRoom connectWith(String userName);
+
+    default void sendToAll(List<String> userNames, String link) {
+        userNames.forEach(userName -> connectWith(userName).send(link));
+    }
 }
@@ -1,9 +1,13 @@
 package com.smalaca.taskamanager.client;
 
 import com.smalaca.taskamanager.model.other.ChatRoom;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 @Service
+@Qualifier(ClientResilience.GATEWAY)
+@ConditionalOnProperty(name = ClientResilience.FAKE_GATEWAYS, havingValue = "false", matchIfMissing = true)
 public class ChatClientImpl implements ChatClient {
     @Override
     public ChatRoom connectWith(String userName) {
@@ -0,0 +1,35 @@
+package com.smalaca.taskamanager.client;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.smalaca.taskamanager.model.other.ChatRoom;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+class ChatRoomPool {
+    private final Cache<String, ChatRoom> chatRooms;
+
+    ChatRoomPool(long maximumSize, long expireAfterAccessSeconds) {
+        chatRooms = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expireAfterAccessSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    ChatRoom get(String userName, Function<String, ChatRoom> connect) {
+        try {
+            return chatRooms.get(userName, () -> connect.apply(userName));
+        } catch (UncheckedExecutionException exception) {
+            throw (RuntimeException) exception.getCause();
+        } catch (ExecutionException exception) {
+            throw new IllegalStateException(exception.getCause());
+        }
+    }
+
+    void invalidate(String userName) {
+        chatRooms.invalidate(userName);
+    }
+}
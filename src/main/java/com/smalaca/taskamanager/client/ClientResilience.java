@@ -0,0 +1,45 @@
+package com.smalaca.taskamanager.client;
+
+import com.smalaca.taskamanager.infrastructure.resilience.CircuitBreaker;
+import com.smalaca.taskamanager.infrastructure.resilience.ResilientChannel;
+import com.smalaca.taskamanager.infrastructure.resilience.RetryBudget;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ClientResilience {
+    static final String GATEWAY = "gateway";
+    static final String FAKE_GATEWAYS = "clients.fake-gateways.enabled";
+
+    private final int queueCapacity;
+    private final long timeoutMillis;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final RetryBudget retryBudget;
+
+    public ClientResilience(
+            @Value("${clients.resilience.queue-capacity:50}") int queueCapacity,
+            @Value("${clients.resilience.timeout-millis:2000}") long timeoutMillis,
+            @Value("${clients.resilience.max-attempts:3}") int maxAttempts,
+            @Value("${clients.resilience.backoff-millis:50}") long backoffMillis,
+            @Value("${clients.resilience.failure-threshold:5}") int failureThreshold,
+            @Value("${clients.resilience.open-millis:10000}") long openMillis,
+            @Value("${clients.resilience.retry-budget.max-tokens:100}") int retryBudgetMaxTokens,
+            @Value("${clients.resilience.retry-budget.token-ratio:0.1}") double retryBudgetTokenRatio) {
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeoutMillis;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.retryBudget = new RetryBudget(retryBudgetMaxTokens, retryBudgetTokenRatio);
+    }
+
+    public ResilientChannel channel(String name, int maxConcurrentCalls) {
+        return new ResilientChannel(
+                name, maxConcurrentCalls, queueCapacity, timeoutMillis, maxAttempts, backoffMillis,
+                retryBudget, new CircuitBreaker(failureThreshold, openMillis));
+    }
+}
@@ -0,0 +1,49 @@
+package com.smalaca.taskamanager.client;
+
+import com.smalaca.taskamanager.model.other.ChatRoom;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Qualifier(ClientResilience.GATEWAY)
+@ConditionalOnProperty(name = ClientResilience.FAKE_GATEWAYS, havingValue = "true")
+public class FakeChatClient implements ChatClient {
+    private final SimulatedLatency latency;
+
+    public FakeChatClient(
+            @Value("${clients.fake-gateways.chat.latency-millis:50}") long latencyMillis,
+            @Value("${clients.fake-gateways.chat.jitter-millis:50}") long jitterMillis,
+            @Value("${clients.fake-gateways.chat.failure-rate:0}") double failureRate) {
+        latency = new SimulatedLatency(latencyMillis, jitterMillis, failureRate);
+    }
+
+    @Override
+    public ChatRoom connectWith(String userName) {
+        latency.apply();
+        ChatRoom chatRoom = new SlowChatRoom(latency);
+        chatRoom.setUserName(userName);
+        return chatRoom;
+    }
+
+    private static final class SlowChatRoom extends ChatRoom {
+        private final SimulatedLatency latency;
+
+        private SlowChatRoom(SimulatedLatency latency) {
+            this.latency = latency;
+        }
+
+        @Override
+        public void send(String link) {
+            latency.apply();
+        }
+
+        @Override
+        public void send(List<String> links) {
+            latency.apply();
+        }
+    }
+}
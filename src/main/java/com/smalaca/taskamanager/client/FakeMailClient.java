@@ -0,0 +1,26 @@
+package com.smalaca.taskamanager.client;
+
+import com.smalaca.taskamanager.model.other.Mail;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@Qualifier(ClientResilience.GATEWAY)
+@ConditionalOnProperty(name = ClientResilience.FAKE_GATEWAYS, havingValue = "true")
+public class FakeMailClient implements MailClient {
+    private final SimulatedLatency latency;
+
+    public FakeMailClient(
+            @Value("${clients.fake-gateways.mail.latency-millis:50}") long latencyMillis,
+            @Value("${clients.fake-gateways.mail.jitter-millis:50}") long jitterMillis,
+            @Value("${clients.fake-gateways.mail.failure-rate:0}") double failureRate) {
+        latency = new SimulatedLatency(latencyMillis, jitterMillis, failureRate);
+    }
+
+    @Override
+    public void send(Mail mail) {
+        latency.apply();
+    }
+}
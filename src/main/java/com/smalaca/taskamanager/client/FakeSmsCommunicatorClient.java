@@ -0,0 +1,26 @@
+package com.smalaca.taskamanager.client;
+
+import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@Qualifier(ClientResilience.GATEWAY)
+@ConditionalOnProperty(name = ClientResilience.FAKE_GATEWAYS, havingValue = "true")
+public class FakeSmsCommunicatorClient implements SmsCommunicatorClient {
+    private final SimulatedLatency latency;
+
+    public FakeSmsCommunicatorClient(
+            @Value("${clients.fake-gateways.sms.latency-millis:50}") long latencyMillis,
+            @Value("${clients.fake-gateways.sms.jitter-millis:50}") long jitterMillis,
+            @Value("${clients.fake-gateways.sms.failure-rate:0}") double failureRate) {
+        latency = new SimulatedLatency(latencyMillis, jitterMillis, failureRate);
+    }
+
+    @Override
+    public void textTo(PhoneNumber phoneNumber, String link) {
+        latency.apply();
+    }
+}
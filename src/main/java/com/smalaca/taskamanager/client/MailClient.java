@@ -2,6 +2,12 @@ package com.smalaca.taskamanager.client;
 
 import com.smalaca.taskamanager.model.other.Mail;
 
+import java.util.List;
+
 public interface MailClient {
     void send(Mail mail);
+
+    default void sendAll(List<Mail> mails) {
+        mails.forEach(this::send);
+    }
 }
@@ -0,0 +1,78 @@
+package com.smalaca.taskamanager.client;
+
+import com.smalaca.taskamanager.exception.ChannelUnavailableException;
+import com.smalaca.taskamanager.infrastructure.resilience.ResilientChannel;
+import com.smalaca.taskamanager.model.other.ChatRoom;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+
+@Service
+@Primary
+public class ResilientChatClient implements ChatClient {
+    private final ChatClient gateway;
+    private final ResilientChannel channel;
+    private final ChatRoomPool pool;
+
+    @Autowired
+    public ResilientChatClient(
+            @Qualifier(ClientResilience.GATEWAY) ChatClient gateway, ClientResilience resilience,
+            @Value("${clients.chat.max-concurrent-calls:10}") int maxConcurrentCalls,
+            @Value("${clients.chat.pool.maximum-size:1000}") long poolMaximumSize,
+            @Value("${clients.chat.pool.expire-after-access-seconds:300}") long poolExpireAfterAccessSeconds) {
+        this(gateway, resilience.channel("chat-client", maxConcurrentCalls), new ChatRoomPool(poolMaximumSize, poolExpireAfterAccessSeconds));
+    }
+
+    ResilientChatClient(ChatClient gateway, ResilientChannel channel, ChatRoomPool pool) {
+        this.gateway = gateway;
+        this.channel = channel;
+        this.pool = pool;
+    }
+
+    @Override
+    public ChatRoom connectWith(String userName) {
+        return pool.get(userName, this::connect);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        channel.shutdown();
+    }
+
+    private ChatRoom connect(String userName) {
+        return new PooledChatRoom(channel.call(() -> gateway.connectWith(userName)), userName);
+    }
+
+    private final class PooledChatRoom extends ChatRoom {
+        private final ChatRoom chatRoom;
+
+        private PooledChatRoom(ChatRoom chatRoom, String userName) {
+            this.chatRoom = chatRoom;
+            setUserName(userName);
+        }
+
+        @Override
+        public void send(String link) {
+            guarded(() -> chatRoom.send(link));
+        }
+
+        @Override
+        public void send(List<String> links) {
+            guarded(() -> chatRoom.send(links));
+        }
+
+        private void guarded(Runnable send) {
+            try {
+                channel.run(send);
+            } catch (ChannelUnavailableException exception) {
+                pool.invalidate(getUserName());
+                throw exception;
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.smalaca.taskamanager.client;
+
+import com.smalaca.taskamanager.infrastructure.resilience.ResilientChannel;
+import com.smalaca.taskamanager.model.other.Mail;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+
+@Service
+@Primary
+public class ResilientMailClient implements MailClient {
+    private final MailClient gateway;
+    private final ResilientChannel channel;
+
+    @Autowired
+    public ResilientMailClient(
+            @Qualifier(ClientResilience.GATEWAY) MailClient gateway, ClientResilience resilience,
+            @Value("${clients.mail.max-concurrent-calls:10}") int maxConcurrentCalls) {
+        this(gateway, resilience.channel("mail-client", maxConcurrentCalls));
+    }
+
+    ResilientMailClient(MailClient gateway, ResilientChannel channel) {
+        this.gateway = gateway;
+        this.channel = channel;
+    }
+
+    @Override
+    public void send(Mail mail) {
+        channel.run(() -> gateway.send(mail));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        channel.shutdown();
+    }
+}
@@ -0,0 +1,40 @@
+package com.smalaca.taskamanager.client;
+
+import com.smalaca.taskamanager.infrastructure.resilience.ResilientChannel;
+import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+
+@Service
+@Primary
+public class ResilientSmsCommunicatorClient implements SmsCommunicatorClient {
+    private final SmsCommunicatorClient gateway;
+    private final ResilientChannel channel;
+
+    @Autowired
+    public ResilientSmsCommunicatorClient(
+            @Qualifier(ClientResilience.GATEWAY) SmsCommunicatorClient gateway, ClientResilience resilience,
+            @Value("${clients.sms.max-concurrent-calls:10}") int maxConcurrentCalls) {
+        this(gateway, resilience.channel("sms-client", maxConcurrentCalls));
+    }
+
+    ResilientSmsCommunicatorClient(SmsCommunicatorClient gateway, ResilientChannel channel) {
+        this.gateway = gateway;
+        this.channel = channel;
+    }
+
+    @Override
+    public void textTo(PhoneNumber phoneNumber, String link) {
+        channel.run(() -> gateway.textTo(phoneNumber, link));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        channel.shutdown();
+    }
+}
@@ -0,0 +1,30 @@
+package com.smalaca.taskamanager.client;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+class SimulatedLatency {
+    private final long latencyMillis;
+    private final long jitterMillis;
+    private final double failureRate;
+
+    SimulatedLatency(long latencyMillis, long jitterMillis, double failureRate) {
+        this.latencyMillis = latencyMillis;
+        this.jitterMillis = jitterMillis;
+        this.failureRate = failureRate;
+    }
+
+    void apply() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        try {
+            Thread.sleep(latencyMillis + random.nextLong(jitterMillis + 1));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulated gateway call was interrupted.", exception);
+        }
+
+        if (random.nextDouble() < failureRate) {
+            throw new IllegalStateException("Simulated gateway failure.");
+        }
+    }
+}
@@ -2,6 +2,12 @@ package com.smalaca.taskamanager.client;
 
 import com.smalaca.taskamanager.model.embedded.PhoneNumber;
 
+import java.util.List;
+
 public interface SmsCommunicatorClient {
     void textTo(PhoneNumber phoneNumber, String link);
+
+    default void textToAll(List<PhoneNumber> phoneNumbers, String link) {
+        phoneNumbers.forEach(phoneNumber -> textTo(phoneNumber, link));
+    }
 }
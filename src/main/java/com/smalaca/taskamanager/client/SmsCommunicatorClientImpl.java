@@ -1,9 +1,13 @@
 package com.smalaca.taskamanager.client;
 
 import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 @Service
+@Qualifier(ClientResilience.GATEWAY)
+@ConditionalOnProperty(name = ClientResilience.FAKE_GATEWAYS, havingValue = "false", matchIfMissing = true)
 public class SmsCommunicatorClientImpl implements SmsCommunicatorClient {
     @Override
     public void textTo(PhoneNumber phoneNumber, String link) {
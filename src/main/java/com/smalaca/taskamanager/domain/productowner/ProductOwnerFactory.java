@@ -2,6 +2,11 @@ package com.smalaca.taskamanager.domain.productowner;
 
 import com.smalaca.taskamanager.model.entities.ProductOwner;
 import com.smalaca.taskamanager.repository.ProductOwnerRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.function.UnaryOperator;
+
+import static com.smalaca.taskamanager.repository.UniqueConstraintViolations.isViolationOf;
 
 public class ProductOwnerFactory {
     private final ProductOwnerRepository productOwnerRepository;
@@ -12,13 +17,29 @@ public class ProductOwnerFactory {
 
     public ProductOwner create(NewProductOwnerDto dto) {
         if (productOwnerRepository.findByFirstNameAndLastName(dto.getFirstName(), dto.getLastName()).isEmpty()) {
-            ProductOwner productOwner = new ProductOwner();
-            productOwner.setFirstName(dto.getFirstName());
-            productOwner.setLastName(dto.getLastName());
-
-            return productOwner;
+            return productOwner(dto);
         } else {
             throw ProductOwnerException.productOwnerAlreadyExists(dto.getFirstName(), dto.getLastName());
         }
     }
+
+    public ProductOwner insert(NewProductOwnerDto dto, UnaryOperator<ProductOwner> save) {
+        try {
+            return save.apply(productOwner(dto));
+        } catch (DataIntegrityViolationException exception) {
+            if (isViolationOf(exception, ProductOwner.UNIQUE_NAME)) {
+                throw ProductOwnerException.productOwnerAlreadyExists(dto.getFirstName(), dto.getLastName());
+            }
+
+            throw exception;
+        }
+    }
+
+    private ProductOwner productOwner(NewProductOwnerDto dto) {
+        ProductOwner productOwner = new ProductOwner();
+        productOwner.setFirstName(dto.getFirstName());
+        productOwner.setLastName(dto.getLastName());
+
+        return productOwner;
+    }
 }
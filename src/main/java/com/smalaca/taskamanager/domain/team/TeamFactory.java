@@ -2,6 +2,11 @@ package com.smalaca.taskamanager.domain.team;
 
 import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.repository.TeamRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.function.UnaryOperator;
+
+import static com.smalaca.taskamanager.repository.UniqueConstraintViolations.isViolationOf;
 
 public class TeamFactory {
     private final TeamRepository teamRepository;
@@ -12,11 +17,27 @@ public class TeamFactory {
 
     public Team create(String name) {
         if (teamRepository.findByName(name).isEmpty()){
-            Team team = new Team();
-            team.setName(name);
-            return team;
+            return team(name);
         } else {
             throw TeamException.teamAlreadyExists(name);
         }
     }
+
+    public Team insert(String name, UnaryOperator<Team> save) {
+        try {
+            return save.apply(team(name));
+        } catch (DataIntegrityViolationException exception) {
+            if (isViolationOf(exception, Team.UNIQUE_NAME)) {
+                throw TeamException.teamAlreadyExists(name);
+            }
+
+            throw exception;
+        }
+    }
+
+    private Team team(String name) {
+        Team team = new Team();
+        team.setName(name);
+        return team;
+    }
 }
@@ -4,6 +4,11 @@ import com.smalaca.taskamanager.model.embedded.UserName;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.TeamRole;
 import com.smalaca.taskamanager.repository.UserRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.function.UnaryOperator;
+
+import static com.smalaca.taskamanager.repository.UniqueConstraintViolations.isViolationOf;
 
 public class UserBuilder {
     private final User user;
@@ -26,6 +31,18 @@ public class UserBuilder {
         }
     }
 
+    public User insert(UnaryOperator<User> save) {
+        try {
+            return save.apply(user);
+        } catch (DataIntegrityViolationException exception) {
+            if (isViolationOf(exception, User.UNIQUE_USER_NAME)) {
+                throw UserException.userAlreadyExists(firstName, lastName);
+            }
+
+            throw exception;
+        }
+    }
+
     private boolean userDoesNotExist(UserRepository userRepository) {
         return userRepository.findByUserNameFirstNameAndUserNameLastName(firstName, lastName).isEmpty();
     }
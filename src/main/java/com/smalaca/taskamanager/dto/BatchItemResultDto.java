@@ -0,0 +1,31 @@
+package com.smalaca.taskamanager.dto;
+
+public class BatchItemResultDto {
+    private int index;
+    private Long id;
+    private String status;
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
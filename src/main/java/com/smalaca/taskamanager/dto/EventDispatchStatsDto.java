@@ -0,0 +1,49 @@
+package com.smalaca.taskamanager.dto;
+
+public class EventDispatchStatsDto {
+    private int queueDepth;
+    private long dispatched;
+    private long failed;
+    private long averageLatencyMicros;
+    private long maxLatencyMicros;
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public long getDispatched() {
+        return dispatched;
+    }
+
+    public void setDispatched(long dispatched) {
+        this.dispatched = dispatched;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public long getAverageLatencyMicros() {
+        return averageLatencyMicros;
+    }
+
+    public void setAverageLatencyMicros(long averageLatencyMicros) {
+        this.averageLatencyMicros = averageLatencyMicros;
+    }
+
+    public long getMaxLatencyMicros() {
+        return maxLatencyMicros;
+    }
+
+    public void setMaxLatencyMicros(long maxLatencyMicros) {
+        this.maxLatencyMicros = maxLatencyMicros;
+    }
+}
@@ -0,0 +1,29 @@
+package com.smalaca.taskamanager.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class PageDto<T> {
+    private List<T> items = new ArrayList<>();
+    private Long next;
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public void addItem(T item) {
+        items.add(item);
+    }
+
+    public Long getNext() {
+        return next;
+    }
+
+    public void setNext(Long next) {
+        this.next = next;
+    }
+}
@@ -0,0 +1,34 @@
+package com.smalaca.taskamanager.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class RollupSummaryDto {
+    private Long id;
+    private Map<String, Long> totals = new LinkedHashMap<>();
+    private Map<String, Map<String, Long>> statuses = new LinkedHashMap<>();
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Map<String, Long> getTotals() {
+        return totals;
+    }
+
+    public void setTotals(Map<String, Long> totals) {
+        this.totals = totals;
+    }
+
+    public Map<String, Map<String, Long>> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(Map<String, Map<String, Long>> statuses) {
+        this.statuses = statuses;
+    }
+}
@@ -0,0 +1,53 @@
+package com.smalaca.taskamanager.dto;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SprintBoardDto {
+    private Long id;
+    private String name;
+    private Long projectId;
+    private Map<String, List<SprintBoardItemDto>> tasks = new LinkedHashMap<>();
+    private Map<String, List<SprintBoardItemDto>> stories = new LinkedHashMap<>();
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Map<String, List<SprintBoardItemDto>> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(Map<String, List<SprintBoardItemDto>> tasks) {
+        this.tasks = tasks;
+    }
+
+    public Map<String, List<SprintBoardItemDto>> getStories() {
+        return stories;
+    }
+
+    public void setStories(Map<String, List<SprintBoardItemDto>> stories) {
+        this.stories = stories;
+    }
+}
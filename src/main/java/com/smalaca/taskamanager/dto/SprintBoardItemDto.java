@@ -0,0 +1,49 @@
+package com.smalaca.taskamanager.dto;
+
+public class SprintBoardItemDto {
+    private Long id;
+    private String type;
+    private String title;
+    private String status;
+    private AssigneeDto assignee;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public AssigneeDto getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(AssigneeDto assignee) {
+        this.assignee = assignee;
+    }
+}
@@ -0,0 +1,22 @@
+package com.smalaca.taskamanager.dto;
+
+public class SprintItemDto {
+    private String type;
+    private Long id;
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
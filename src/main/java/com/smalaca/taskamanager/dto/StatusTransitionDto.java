@@ -0,0 +1,22 @@
+package com.smalaca.taskamanager.dto;
+
+public class StatusTransitionDto {
+    private Long id;
+    private String status;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+}
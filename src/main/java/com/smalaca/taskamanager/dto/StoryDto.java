@@ -1,6 +1,7 @@
 package com.smalaca.taskamanager.dto;
 
 import java.util.List;
+import java.util.Map;
 
 @SuppressWarnings("MethodCount")
 public class StoryDto {
@@ -18,6 +19,9 @@ public class StoryDto {
     private AssigneeDto assignee;
     private List<WatcherDto> watchers;
     private List<StakeholderDto> stakeholders;
+    private Map<String, Integer> tasksByStatus;
+    private Integer percentDone;
+    private Boolean allTasksDone;
 
     public void setId(Long id) {
         this.id = id;
@@ -130,4 +134,28 @@ public class StoryDto {
     public AssigneeDto getAssignee() {
         return assignee;
     }
+
+    public Map<String, Integer> getTasksByStatus() {
+        return tasksByStatus;
+    }
+
+    public void setTasksByStatus(Map<String, Integer> tasksByStatus) {
+        this.tasksByStatus = tasksByStatus;
+    }
+
+    public Integer getPercentDone() {
+        return percentDone;
+    }
+
+    public void setPercentDone(Integer percentDone) {
+        this.percentDone = percentDone;
+    }
+
+    public Boolean getAllTasksDone() {
+        return allTasksDone;
+    }
+
+    public void setAllTasksDone(Boolean allTasksDone) {
+        this.allTasksDone = allTasksDone;
+    }
 }
@@ -10,6 +10,7 @@ public class UserDto {
     private String phonePrefix;
     private String emailAddress;
     private String teamRole;
+    private String preferredCommunicator;
 
     public String getFirstName() {
         return firstName;
@@ -82,4 +83,12 @@ public class UserDto {
     public void setTeamRole(String teamRole) {
         this.teamRole = teamRole;
     }
+
+    public String getPreferredCommunicator() {
+        return preferredCommunicator;
+    }
+
+    public void setPreferredCommunicator(String preferredCommunicator) {
+        this.preferredCommunicator = preferredCommunicator;
+    }
 }
@@ -0,0 +1,5 @@
+package com.smalaca.taskamanager.events;
+
+public interface DomainEvent {
+    long aggregateId();
+}
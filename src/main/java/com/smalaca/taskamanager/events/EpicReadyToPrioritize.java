@@ -1,6 +1,6 @@
 package com.smalaca.taskamanager.events;
 
-public class EpicReadyToPrioritize {
+public class EpicReadyToPrioritize implements DomainEvent {
     private long epicId;
 
     public long getEpicId() {
@@ -10,4 +10,9 @@ public class EpicReadyToPrioritize {
     public void setEpicId(long epicId) {
         this.epicId = epicId;
     }
+
+    @Override
+    public long aggregateId() {
+        return epicId;
+    }
 }
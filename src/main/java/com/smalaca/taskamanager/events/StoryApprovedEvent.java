@@ -1,6 +1,6 @@
 package com.smalaca.taskamanager.events;
 
-public class StoryApprovedEvent {
+public class StoryApprovedEvent implements DomainEvent {
     private long storyId;
 
     public void setStoryId(long storyId) {
@@ -10,4 +10,9 @@ public class StoryApprovedEvent {
     public long getStoryId() {
         return storyId;
     }
+
+    @Override
+    public long aggregateId() {
+        return storyId;
+    }
 }
@@ -1,6 +1,6 @@
 package com.smalaca.taskamanager.events;
 
-public class StoryDoneEvent {
+public class StoryDoneEvent implements DomainEvent {
     private long storyId;
 
     public long getStoryId() {
@@ -10,4 +10,9 @@ public class StoryDoneEvent {
     public void setStoryId(long storyId) {
         this.storyId = storyId;
     }
+
+    @Override
+    public long aggregateId() {
+        return storyId;
+    }
 }
@@ -1,6 +1,6 @@
 package com.smalaca.taskamanager.events;
 
-public class TaskApprovedEvent {
+public class TaskApprovedEvent implements DomainEvent {
     private long taskId;
 
     public void setTaskId(long taskId) {
@@ -10,4 +10,9 @@ public class TaskApprovedEvent {
     public long getTaskId() {
         return taskId;
     }
+
+    @Override
+    public long aggregateId() {
+        return taskId;
+    }
 }
@@ -1,6 +1,6 @@
 package com.smalaca.taskamanager.events;
 
-public class ToDoItemReleasedEvent {
+public class ToDoItemReleasedEvent implements DomainEvent {
     private long toDoItemId;
 
     public long getToDoItemId() {
@@ -10,4 +10,9 @@ public class ToDoItemReleasedEvent {
     public void setToDoItemId(long toDoItemId) {
         this.toDoItemId = toDoItemId;
     }
+
+    @Override
+    public long aggregateId() {
+        return toDoItemId;
+    }
 }
@@ -0,0 +1,69 @@
+package com.smalaca.taskamanager.events;
+
+public class ToDoItemStatusChangedEvent implements DomainEvent {
+    private static final long UNKNOWN_AGGREGATE = 0L;
+
+    private String type;
+    private Long toDoItemId;
+    private String status;
+    private Long epicId;
+    private Long projectId;
+    private Long sprintId;
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getToDoItemId() {
+        return toDoItemId;
+    }
+
+    public void setToDoItemId(Long toDoItemId) {
+        this.toDoItemId = toDoItemId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    public void setEpicId(Long epicId) {
+        this.epicId = epicId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getSprintId() {
+        return sprintId;
+    }
+
+    public void setSprintId(Long sprintId) {
+        this.sprintId = sprintId;
+    }
+
+    @Override
+    public long aggregateId() {
+        if (toDoItemId == null) {
+            return UNKNOWN_AGGREGATE;
+        }
+
+        return toDoItemId;
+    }
+}
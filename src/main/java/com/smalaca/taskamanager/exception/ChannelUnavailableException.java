@@ -0,0 +1,11 @@
+package com.smalaca.taskamanager.exception;
+
+public class ChannelUnavailableException extends RuntimeException {
+    public ChannelUnavailableException(String message) {
+        super(message);
+    }
+
+    public ChannelUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,60 @@
+package com.smalaca.taskamanager.infrastructure.executor;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.smalaca.taskamanager.session.SessionHolder;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+public class BatchedFanOut {
+    private final int batchSize;
+    private final ThreadPoolExecutor executor;
+
+    public BatchedFanOut(String name, int batchSize, int parallelism, int capacity, long offerTimeoutMillis) {
+        this.batchSize = batchSize;
+        int threads = Math.max(parallelism, 1);
+        executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity),
+                new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(true).build(), new WaitForCapacity(offerTimeoutMillis));
+    }
+
+    public <T> void inBatches(List<T> recipients, Consumer<List<T>> send) {
+        List<List<T>> batches = Lists.partition(recipients, batchSize);
+
+        if (batches.size() < 2) {
+            batches.forEach(send);
+        } else {
+            sendAll(batches, send).join();
+        }
+    }
+
+    public <T> CompletableFuture<Void> inBatchesAsync(List<T> recipients, Consumer<List<T>> send) {
+        return sendAll(Lists.partition(recipients, batchSize), send);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<Void> sendAll(List<List<T>> batches, Consumer<List<T>> send) {
+        SessionHolder session = SessionHolder.instance();
+
+        return CompletableFuture.allOf(batches.stream()
+                .map(batch -> submit(session.propagating(() -> send.accept(batch))))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private CompletableFuture<Void> submit(Runnable task) {
+        try {
+            return CompletableFuture.runAsync(task, executor);
+        } catch (RejectedExecutionException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.smalaca.taskamanager.infrastructure.executor;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.smalaca.taskamanager.session.SessionHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class PartitionedExecutor {
+    private final List<ThreadPoolExecutor> partitions;
+
+    public PartitionedExecutor(String name, int partitions, int capacityPerPartition, long offerTimeoutMillis) {
+        this(new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(true).build(), partitions, capacityPerPartition, offerTimeoutMillis);
+    }
+
+    public PartitionedExecutor(ThreadFactory threadFactory, int partitions, int capacityPerPartition, long offerTimeoutMillis) {
+        RejectedExecutionHandler waitForCapacity = new WaitForCapacity(offerTimeoutMillis);
+
+        this.partitions = new ArrayList<>(partitions);
+        for (int index = 0; index < partitions; index++) {
+            this.partitions.add(new ThreadPoolExecutor(
+                    1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacityPerPartition), threadFactory, waitForCapacity));
+        }
+    }
+
+    public void execute(Object key, Runnable task) {
+        partitionFor(key).execute(SessionHolder.instance().propagating(task));
+    }
+
+    public int queued() {
+        return partitions.stream().mapToInt(partition -> partition.getQueue().size()).sum();
+    }
+
+    public void shutdown() {
+        partitions.forEach(ThreadPoolExecutor::shutdown);
+    }
+
+    private ThreadPoolExecutor partitionFor(Object key) {
+        return partitions.get(Math.floorMod(key.hashCode(), partitions.size()));
+    }
+}
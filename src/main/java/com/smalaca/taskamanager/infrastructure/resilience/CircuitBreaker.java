@@ -0,0 +1,57 @@
+package com.smalaca.taskamanager.infrastructure.resilience;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class CircuitBreaker {
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier clock;
+    private int consecutiveFailures;
+    private boolean open;
+    private boolean trialInFlight;
+    private long openedAt;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this(failureThreshold, openMillis, System::nanoTime);
+    }
+
+    CircuitBreaker(int failureThreshold, long openMillis, LongSupplier clock) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.clock = clock;
+    }
+
+    public synchronized boolean allowsCall() {
+        if (!open) {
+            return true;
+        }
+
+        if (trialInFlight || clock.getAsLong() - openedAt < openNanos) {
+            return false;
+        }
+
+        trialInFlight = true;
+        return true;
+    }
+
+    public synchronized void succeeded() {
+        consecutiveFailures = 0;
+        open = false;
+        trialInFlight = false;
+    }
+
+    public synchronized void failed() {
+        consecutiveFailures++;
+        trialInFlight = false;
+
+        if (open || consecutiveFailures >= failureThreshold) {
+            open = true;
+            openedAt = clock.getAsLong();
+        }
+    }
+
+    public synchronized void cancelled() {
+        trialInFlight = false;
+    }
+}
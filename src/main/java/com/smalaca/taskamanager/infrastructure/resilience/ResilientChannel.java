@@ -0,0 +1,132 @@
+package com.smalaca.taskamanager.infrastructure.resilience;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.smalaca.taskamanager.exception.ChannelUnavailableException;
+import com.smalaca.taskamanager.session.SessionHolder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+public class ResilientChannel {
+    private static final int MAX_BACKOFF_SHIFT = 10;
+    private static final String INTERRUPTED = " call was interrupted.";
+
+    private final String name;
+    private final ThreadPoolExecutor bulkhead;
+    private final long timeoutMillis;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final RetryBudget retryBudget;
+    private final CircuitBreaker circuitBreaker;
+
+    public ResilientChannel(
+            String name, int maxConcurrentCalls, int queueCapacity, long timeoutMillis, int maxAttempts, long backoffMillis,
+            RetryBudget retryBudget, CircuitBreaker circuitBreaker) {
+        this.name = name;
+        this.bulkhead = new ThreadPoolExecutor(
+                maxConcurrentCalls, maxConcurrentCalls, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                new ThreadFactoryBuilder().setNameFormat(name + "-%d").setDaemon(true).build());
+        this.timeoutMillis = timeoutMillis;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.retryBudget = retryBudget;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    public void run(Runnable call) {
+        call(() -> {
+            call.run();
+            return null;
+        });
+    }
+
+    public <T> T call(Supplier<T> call) {
+        int attempt = 0;
+
+        while (true) {
+            attempt++;
+
+            if (!circuitBreaker.allowsCall()) {
+                throw new ChannelUnavailableException(name + " circuit is open.");
+            }
+
+            try {
+                T result = awaitResult(submit(call));
+                circuitBreaker.succeeded();
+                retryBudget.succeeded();
+                return result;
+            } catch (ChannelUnavailableException exception) {
+                circuitBreaker.cancelled();
+                throw exception;
+            } catch (ExecutionException | TimeoutException exception) {
+                circuitBreaker.failed();
+                retryBudget.failed();
+
+                if (attempt >= maxAttempts || !retryBudget.allowsRetry()) {
+                    throw new ChannelUnavailableException(name + " call failed after " + attempt + " attempt(s).", causeOf(exception));
+                }
+            }
+
+            backOff(attempt);
+        }
+    }
+
+    public int queued() {
+        return bulkhead.getQueue().size();
+    }
+
+    public void shutdown() {
+        bulkhead.shutdownNow();
+    }
+
+    private <T> FutureTask<T> submit(Supplier<T> call) {
+        FutureTask<T> task = new FutureTask<>(call::get);
+
+        try {
+            bulkhead.execute(SessionHolder.instance().propagating(task));
+        } catch (RejectedExecutionException exception) {
+            throw new ChannelUnavailableException(name + " bulkhead is full.", exception);
+        }
+
+        return task;
+    }
+
+    private <T> T awaitResult(FutureTask<T> task) throws ExecutionException, TimeoutException {
+        try {
+            return task.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException exception) {
+            task.cancel(true);
+            throw exception;
+        } catch (InterruptedException exception) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ChannelUnavailableException(name + INTERRUPTED, exception);
+        }
+    }
+
+    private void backOff(int attempt) {
+        long ceiling = backoffMillis << Math.min(attempt - 1, MAX_BACKOFF_SHIFT);
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ChannelUnavailableException(name + INTERRUPTED, exception);
+        }
+    }
+
+    private Throwable causeOf(Exception exception) {
+        if (exception instanceof ExecutionException) {
+            return exception.getCause();
+        }
+
+        return exception;
+    }
+}
@@ -0,0 +1,25 @@
+package com.smalaca.taskamanager.infrastructure.resilience;
+
+public class RetryBudget {
+    private final double maxTokens;
+    private final double tokenRatio;
+    private double tokens;
+
+    public RetryBudget(int maxTokens, double tokenRatio) {
+        this.maxTokens = maxTokens;
+        this.tokenRatio = tokenRatio;
+        this.tokens = maxTokens;
+    }
+
+    public synchronized void succeeded() {
+        tokens = Math.min(maxTokens, tokens + tokenRatio);
+    }
+
+    public synchronized void failed() {
+        tokens = Math.max(0, tokens - 1);
+    }
+
+    public synchronized boolean allowsRetry() {
+        return tokens > maxTokens / 2;
+    }
+}
@@ -0,0 +1,97 @@
+package com.smalaca.taskamanager.model.embedded;
+
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+
+@Embeddable
+public class StoryProgress {
+    private static final int PERCENT = 100;
+
+    @Column(name = "tasks_to_be_defined")
+    private int toBeDefined;
+    @Column(name = "tasks_defined")
+    private int defined;
+    @Column(name = "tasks_in_progress")
+    private int inProgress;
+    @Column(name = "tasks_done")
+    private int done;
+    @Column(name = "tasks_approved")
+    private int approved;
+    @Column(name = "tasks_released")
+    private int released;
+
+    public void added(ToDoItemStatus status) {
+        change(status, 1);
+    }
+
+    public void removed(ToDoItemStatus status) {
+        change(status, -1);
+    }
+
+    public void moved(ToDoItemStatus from, ToDoItemStatus to) {
+        change(from, -1);
+        change(to, 1);
+    }
+
+    public int count(ToDoItemStatus status) {
+        switch (status) {
+            case TO_BE_DEFINED:
+                return toBeDefined;
+            case DEFINED:
+                return defined;
+            case IN_PROGRESS:
+                return inProgress;
+            case DONE:
+                return done;
+            case APPROVED:
+                return approved;
+            default:
+                return released;
+        }
+    }
+
+    public int total() {
+        return toBeDefined + defined + inProgress + finished();
+    }
+
+    public int percentDone() {
+        if (total() == 0) {
+            return 0;
+        }
+
+        return finished() * PERCENT / total();
+    }
+
+    public boolean isAllDone() {
+        return total() > 0 && finished() == total();
+    }
+
+    private int finished() {
+        return done + approved + released;
+    }
+
+    private void change(ToDoItemStatus status, int delta) {
+        switch (status) {
+            case TO_BE_DEFINED:
+                toBeDefined += delta;
+                break;
+            case DEFINED:
+                defined += delta;
+                break;
+            case IN_PROGRESS:
+                inProgress += delta;
+                break;
+            case DONE:
+                done += delta;
+                break;
+            case APPROVED:
+                approved += delta;
+                break;
+            default:
+                released += delta;
+                break;
+        }
+    }
+}
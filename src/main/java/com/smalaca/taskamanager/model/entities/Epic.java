@@ -7,25 +7,33 @@ import com.smalaca.taskamanager.model.embedded.Watcher;
 import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.model.interfaces.ToDoItem;
 
+import javax.persistence.CollectionTable;
 import javax.persistence.ElementCollection;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.Version;
 import java.util.ArrayList;
 import java.util.List;
 
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.TO_BE_DEFINED;
 
 @Entity
+@Table(indexes = @Index(name = "idx_epic_project", columnList = "project_id"))
 @SuppressWarnings("MethodCount")
 public class Epic implements ToDoItem {
     @Id
     @GeneratedValue
     private Long id;
 
+    @Version
+    private Long version;
+
     private String title;
 
     private String description;
@@ -39,9 +47,11 @@ public class Epic implements ToDoItem {
     private Project project;
 
     @ElementCollection
+    @CollectionTable(indexes = @Index(name = "idx_epic_watchers", columnList = "epic_id"))
     private List<Watcher> watchers = new ArrayList<>();
 
     @ElementCollection
+    @CollectionTable(indexes = @Index(name = "idx_epic_stakeholders", columnList = "epic_id"))
     private List<Stakeholder> stakeholders = new ArrayList<>();
 
     @Embedded
@@ -55,6 +65,10 @@ public class Epic implements ToDoItem {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -76,6 +90,7 @@ public class Epic implements ToDoItem {
         return status;
     }
 
+    @Override
     public void setStatus(ToDoItemStatus status) {
         this.status = status;
     }
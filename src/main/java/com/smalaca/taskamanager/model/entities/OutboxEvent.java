@@ -0,0 +1,84 @@
+package com.smalaca.taskamanager.model.entities;
+
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Lob;
+import javax.persistence.SequenceGenerator;
+import java.time.Instant;
+
+@Entity
+public class OutboxEvent {
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_sequence")
+    @SequenceGenerator(name = "outbox_event_sequence", sequenceName = "outbox_event_sequence", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    private String type;
+
+    @Lob
+    private String payload;
+
+    private Instant occurredAt;
+
+    private Instant nextAttemptAt;
+
+    private int attempts;
+
+    private boolean deadLettered;
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public void setPayload(String payload) {
+        this.payload = payload;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void failedAttempt() {
+        attempts++;
+    }
+
+    public boolean isDeadLettered() {
+        return deadLettered;
+    }
+
+    public void deadLetter() {
+        deadLettered = true;
+    }
+}
@@ -8,11 +8,16 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = ProductOwner.UNIQUE_NAME, columnNames = {"firstName", "lastName"}))
 public class ProductOwner {
+    public static final String UNIQUE_NAME = "uk_product_owner_name";
+
     @Id
     @GeneratedValue
     private Long id;
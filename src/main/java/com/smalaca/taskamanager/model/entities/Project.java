@@ -7,15 +7,23 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import java.util.ArrayList;
 import java.util.List;
 
 import static com.smalaca.taskamanager.model.enums.ProjectStatus.IDEA;
 
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = Project.UNIQUE_NAME, columnNames = "name"),
+        indexes = @Index(name = "idx_project_product_owner", columnList = "product_owner_id"))
 public class Project {
+    public static final String UNIQUE_NAME = "uk_project_name";
+
     @Id
     @GeneratedValue
     private Long id;
@@ -0,0 +1,89 @@
+package com.smalaca.taskamanager.model.entities;
+
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"itemType", "itemId"}))
+public class RollupEntry {
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "rollup_entry_sequence")
+    @SequenceGenerator(name = "rollup_entry_sequence", sequenceName = "rollup_entry_sequence", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    private String itemType;
+
+    private Long itemId;
+
+    @Enumerated(EnumType.STRING)
+    private ToDoItemStatus status;
+
+    private Long epicId;
+
+    private Long projectId;
+
+    private Long sprintId;
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getItemType() {
+        return itemType;
+    }
+
+    public void setItemType(String itemType) {
+        this.itemType = itemType;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public void setItemId(Long itemId) {
+        this.itemId = itemId;
+    }
+
+    public ToDoItemStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ToDoItemStatus status) {
+        this.status = status;
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    public void setEpicId(Long epicId) {
+        this.epicId = epicId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getSprintId() {
+        return sprintId;
+    }
+
+    public void setSprintId(Long sprintId) {
+        this.sprintId = sprintId;
+    }
+}
@@ -6,11 +6,17 @@ import javax.persistence.Id;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderColumn;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = Sprint.UNIQUE_NAME_IN_PROJECT, columnNames = {"project_id", "name"}))
 public class Sprint {
+    public static final String UNIQUE_NAME_IN_PROJECT = "uk_sprint_project_name";
+
     @Id
     @GeneratedValue
     private Long id;
@@ -20,9 +26,11 @@ public class Sprint {
     private Project project;
 
     @OneToMany
+    @OrderColumn
     private List<Task> tasks = new ArrayList<>();
 
     @ManyToMany
+    @OrderColumn
     private List<Story> stories = new ArrayList<>();
 
     public Long getId() {
@@ -60,4 +68,29 @@ public class Sprint {
     public void addStory(Story story) {
         stories.add(story);
     }
+
+    public void plan(Task task) {
+        Sprint previous = task.getCurrentSprint();
+
+        if (previous == this) {
+            return;
+        }
+
+        if (previous != null) {
+            previous.tasks.remove(task);
+        }
+
+        tasks.add(task);
+        task.setCurrentSprint(this);
+    }
+
+    public void plan(Story story) {
+        if (story.getCurrentSprint() == this) {
+            return;
+        }
+
+        stories.add(story);
+        story.addSprint(this);
+        story.setCurrentSprint(this);
+    }
 }
@@ -0,0 +1,81 @@
+package com.smalaca.taskamanager.model.entities;
+
+import com.smalaca.taskamanager.model.enums.RollupScope;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"scope", "scopeId", "itemType", "status"}))
+public class StatusRollup {
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_rollup_sequence")
+    @SequenceGenerator(name = "status_rollup_sequence", sequenceName = "status_rollup_sequence", allocationSize = ID_ALLOCATION_SIZE)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    private RollupScope scope;
+
+    private Long scopeId;
+
+    private String itemType;
+
+    @Enumerated(EnumType.STRING)
+    private ToDoItemStatus status;
+
+    private long items;
+
+    public Long getId() {
+        return id;
+    }
+
+    public RollupScope getScope() {
+        return scope;
+    }
+
+    public void setScope(RollupScope scope) {
+        this.scope = scope;
+    }
+
+    public Long getScopeId() {
+        return scopeId;
+    }
+
+    public void setScopeId(Long scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    public String getItemType() {
+        return itemType;
+    }
+
+    public void setItemType(String itemType) {
+        this.itemType = itemType;
+    }
+
+    public ToDoItemStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ToDoItemStatus status) {
+        this.status = status;
+    }
+
+    public long getItems() {
+        return items;
+    }
+
+    public void add(long delta) {
+        items += delta;
+    }
+}
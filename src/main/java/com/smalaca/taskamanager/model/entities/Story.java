@@ -3,30 +3,48 @@ package com.smalaca.taskamanager.model.entities;
 import com.smalaca.taskamanager.model.embedded.Assignee;
 import com.smalaca.taskamanager.model.embedded.Owner;
 import com.smalaca.taskamanager.model.embedded.Stakeholder;
+import com.smalaca.taskamanager.model.embedded.StoryProgress;
 import com.smalaca.taskamanager.model.embedded.Watcher;
 import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.model.interfaces.ToDoItem;
 
+import javax.persistence.CollectionTable;
 import javax.persistence.ElementCollection;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.OrderColumn;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.Version;
 import java.util.ArrayList;
 import java.util.List;
 
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.TO_BE_DEFINED;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_story_epic", columnList = "epic_id"),
+        @Index(name = "idx_story_current_sprint", columnList = "current_sprint_id")
+})
 @SuppressWarnings("MethodCount")
 public class Story implements ToDoItem {
+    private static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "story_sequence")
+    @SequenceGenerator(name = "story_sequence", sequenceName = "story_sequence", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
+    @Version
+    private Long version;
+
     private String title;
 
     private String description;
@@ -43,18 +61,24 @@ public class Story implements ToDoItem {
     private List<Task> tasks = new ArrayList<>();
 
     @ElementCollection
+    @CollectionTable(indexes = @Index(name = "idx_story_watchers", columnList = "story_id"))
     private List<Watcher> watchers = new ArrayList<>();
 
     @ElementCollection
+    @CollectionTable(indexes = @Index(name = "idx_story_stakeholders", columnList = "story_id"))
     private List<Stakeholder> stakeholders = new ArrayList<>();
 
     @Embedded
     private Assignee assignee;
 
+    @Embedded
+    private StoryProgress progress = new StoryProgress();
+
     @ManyToOne
     private Sprint currentSprint;
 
     @ManyToMany
+    @OrderColumn
     private List<Sprint> sprints = new ArrayList<>();
 
     public void setTitle(String title) {
@@ -65,6 +89,7 @@ public class Story implements ToDoItem {
         this.description = description;
     }
 
+    @Override
     public void setStatus(ToDoItemStatus status) {
         this.status = status;
     }
@@ -105,6 +130,10 @@ public class Story implements ToDoItem {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public String getTitle() {
         return title;
     }
@@ -151,6 +180,21 @@ public class Story implements ToDoItem {
 
     public void addTask(Task task) {
         tasks.add(task);
+        progress.added(task.getStatus());
+    }
+
+    public void removeTask(Task task) {
+        if (tasks.remove(task)) {
+            progress.removed(task.getStatus());
+        }
+    }
+
+    void taskMoved(ToDoItemStatus from, ToDoItemStatus to) {
+        progress.moved(from, to);
+    }
+
+    public StoryProgress getProgress() {
+        return progress;
     }
 
     @Override
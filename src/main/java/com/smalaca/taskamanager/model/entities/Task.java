@@ -7,24 +7,40 @@ import com.smalaca.taskamanager.model.embedded.Watcher;
 import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.model.interfaces.ToDoItem;
 
+import javax.persistence.CollectionTable;
 import javax.persistence.ElementCollection;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
+import javax.persistence.Version;
 import java.util.ArrayList;
 import java.util.List;
 
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.TO_BE_DEFINED;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_task_story", columnList = "story_id"),
+        @Index(name = "idx_task_current_sprint", columnList = "current_sprint_id")
+})
 @SuppressWarnings("MethodCount")
 public class Task implements ToDoItem {
+    private static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_sequence")
+    @SequenceGenerator(name = "task_sequence", sequenceName = "task_sequence", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
+    @Version
+    private Long version;
+
     private String title;
 
     private String description;
@@ -38,9 +54,11 @@ public class Task implements ToDoItem {
     private Story story;
 
     @ElementCollection
+    @CollectionTable(indexes = @Index(name = "idx_task_watchers", columnList = "task_id"))
     private List<Watcher> watchers = new ArrayList<>();
 
     @ElementCollection
+    @CollectionTable(indexes = @Index(name = "idx_task_stakeholders", columnList = "task_id"))
     private List<Stakeholder> stakeholders = new ArrayList<>();
 
     @Embedded
@@ -66,12 +84,21 @@ public class Task implements ToDoItem {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public ToDoItemStatus getStatus() {
         return status;
     }
 
+    @Override
     public void setStatus(ToDoItemStatus status) {
+        if (story != null && this.status != status) {
+            story.taskMoved(this.status, status);
+        }
+
         this.status = status;
     }
 
@@ -8,13 +8,21 @@ import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = Team.UNIQUE_NAME, columnNames = "name"),
+        indexes = @Index(name = "idx_team_project", columnList = "project_id"))
 public class Team {
+    public static final String UNIQUE_NAME = "uk_team_name";
+
     @Id
     @GeneratedValue
     private Long id;
@@ -1,6 +1,7 @@
 package com.smalaca.taskamanager.model.entities;
 
 import com.smalaca.taskamanager.domain.owner.OwnerBuilder;
+import com.smalaca.taskamanager.infrastructure.enums.CommunicatorType;
 import com.smalaca.taskamanager.model.embedded.EmailAddress;
 import com.smalaca.taskamanager.model.embedded.Owner;
 import com.smalaca.taskamanager.model.embedded.PhoneNumber;
@@ -16,14 +17,19 @@ import javax.persistence.Enumerated;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 import java.util.ArrayList;
 import java.util.List;
 
 import static com.smalaca.taskamanager.domain.owner.OwnerBuilder.owner;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = User.UNIQUE_USER_NAME, columnNames = {"firstName", "lastName"}))
 @SuppressWarnings("MethodCount")
 public class User {
+    public static final String UNIQUE_USER_NAME = "uk_user_name";
+
     @Id
     @GeneratedValue
     private Long id;
@@ -42,6 +48,9 @@ public class User {
     @Enumerated(EnumType.STRING)
     private TeamRole teamRole;
 
+    @Enumerated(EnumType.STRING)
+    private CommunicatorType preferredCommunicator;
+
     @OneToMany
     private List<Team> teams = new ArrayList<>();
 
@@ -93,6 +102,14 @@ public class User {
         this.teamRole = teamRole;
     }
 
+    public CommunicatorType getPreferredCommunicator() {
+        return preferredCommunicator;
+    }
+
+    public void setPreferredCommunicator(CommunicatorType preferredCommunicator) {
+        this.preferredCommunicator = preferredCommunicator;
+    }
+
     public Long getId() {
         return id;
     }
@@ -136,6 +153,7 @@ public class User {
                 .append(phoneNumber, user.phoneNumber)
                 .append(emailAddress, user.emailAddress)
                 .append(teamRole, user.teamRole)
+                .append(preferredCommunicator, user.preferredCommunicator)
                 .isEquals();
     }
 
@@ -150,6 +168,7 @@ public class User {
                 .append(phoneNumber)
                 .append(emailAddress)
                 .append(teamRole)
+                .append(preferredCommunicator)
                 .toHashCode();
     }
 
@@ -0,0 +1,5 @@
+package com.smalaca.taskamanager.model.enums;
+
+public enum RollupScope {
+    EPIC, PROJECT, SPRINT
+}
@@ -12,6 +12,8 @@ import java.util.List;
 public interface ToDoItem {
     ToDoItemStatus getStatus();
 
+    void setStatus(ToDoItemStatus status);
+
     Project getProject();
 
     List<Watcher> getWatchers();
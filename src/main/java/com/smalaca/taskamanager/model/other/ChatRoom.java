@@ -1,5 +1,7 @@
 package com.smalaca.taskamanager.model.other;
 
+import java.util.List;
+
 public class ChatRoom {
     private String userName;
 
@@ -14,4 +16,8 @@ public class ChatRoom {
     public void send(String link) {
 
     }
+
+    public void send(List<String> links) {
+        links.forEach(this::send);
+    }
 }
@@ -1,128 +1,33 @@
 package com.smalaca.taskamanager.processor;
 
-import com.smalaca.taskamanager.events.EpicReadyToPrioritize;
-import com.smalaca.taskamanager.events.StoryDoneEvent;
-import com.smalaca.taskamanager.exception.UnsupportedToDoItemType;
-import com.smalaca.taskamanager.model.entities.Epic;
-import com.smalaca.taskamanager.model.entities.Story;
-import com.smalaca.taskamanager.model.entities.Task;
-import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.model.interfaces.ToDoItem;
 import com.smalaca.taskamanager.registry.EventsRegistry;
 import com.smalaca.taskamanager.service.CommunicationService;
 import com.smalaca.taskamanager.service.ProjectBacklogService;
 import com.smalaca.taskamanager.service.SprintBacklogService;
 import com.smalaca.taskamanager.service.StoryService;
-import com.smalaca.taskamanager.todoitemstate.ToDoItemState;
-import com.smalaca.taskamanager.todoitemstate.ToDoItemStatesFactory;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.smalaca.taskamanager.todoitemstate.ToDoItemTransitions;
 import org.springframework.stereotype.Component;
 
-import java.util.Map;
-
-import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import java.util.Collection;
+import java.util.List;
 
 @Component
 public class ToDoItemProcessor {
-    @Autowired private StoryService storyService;
-    @Autowired private EventsRegistry eventsRegistry;
-    @Autowired private ProjectBacklogService projectBacklogService;
-    @Autowired private CommunicationService communicationService;
-    @Autowired private SprintBacklogService sprintBacklogService;
-
-    private Map<ToDoItemStatus, ToDoItemState> states;
+    private final ToDoItemTransitions transitions;
 
-    public ToDoItemProcessor() {}
-
-    ToDoItemProcessor(
+    public ToDoItemProcessor(
             StoryService storyService, EventsRegistry eventsRegistry, ProjectBacklogService projectBacklogService,
             CommunicationService communicationService, SprintBacklogService sprintBacklogService) {
-        this.storyService = storyService;
-        this.eventsRegistry = eventsRegistry;
-        this.projectBacklogService = projectBacklogService;
-        this.communicationService = communicationService;
-        this.sprintBacklogService = sprintBacklogService;
+        transitions = new ToDoItemTransitions(
+                storyService, eventsRegistry, projectBacklogService, communicationService, sprintBacklogService);
     }
 
     public void processFor(ToDoItem toDoItem) {
-        initToDoItemStates();
-
-        switch (toDoItem.getStatus()) {
-            case DEFINED:
-                processDefined(toDoItem);
-                break;
-
-            case IN_PROGRESS:
-                processInProgress(toDoItem);
-                break;
-
-            case DONE:
-                processDone(toDoItem);
-                break;
-
-            default:
-                states.get(toDoItem.getStatus()).process(toDoItem);
-                break;
-        }
-    }
-
-    private void initToDoItemStates() {
-        if (states == null) {
-            states = new ToDoItemStatesFactory().getAll(storyService, eventsRegistry);
-        }
-    }
-
-    private void processDefined(ToDoItem toDoItem) {
-        if (toDoItem instanceof Story) {
-            Story story = (Story) toDoItem;
-            if (story.getTasks().isEmpty()) {
-                projectBacklogService.moveToReadyForDevelopment(story, story.getProject());
-            } else {
-                if (!story.isAssigned()) {
-                    communicationService.notifyTeamsAbout(story, story.getProject());
-                }
-            }
-        } else {
-            if (toDoItem instanceof Task) {
-                Task task = (Task) toDoItem;
-                sprintBacklogService.moveToReadyForDevelopment(task, task.getCurrentSprint());
-            } else {
-                if (toDoItem instanceof Epic) {
-                    Epic epic = (Epic) toDoItem;
-                    projectBacklogService.putOnTop(epic);
-                    EpicReadyToPrioritize event = new EpicReadyToPrioritize();
-                    event.setEpicId(epic.getId());
-                    eventsRegistry.publish(event);
-                    communicationService.notify(toDoItem, toDoItem.getProject().getProductOwner());
-                } else {
-                    throw new UnsupportedToDoItemType();
-                }
-            }
-        }
-    }
-
-    private void processInProgress(ToDoItem toDoItem) {
-        if (toDoItem instanceof Task) {
-            Task task = (Task) toDoItem;
-            storyService.updateProgressOf(task.getStory(), task);
-        }
+        transitions.stateOf(toDoItem).process(toDoItem);
     }
 
-    private void processDone(ToDoItem toDoItem) {
-        if (toDoItem instanceof Task) {
-            Task task = (Task) toDoItem;
-            Story story = task.getStory();
-            storyService.updateProgressOf(task.getStory(), task);
-            if (DONE.equals(story.getStatus())) {
-                StoryDoneEvent event = new StoryDoneEvent();
-                event.setStoryId(story.getId());
-                eventsRegistry.publish(event);
-            }
-        } else if (toDoItem instanceof Story) {
-            Story story = (Story) toDoItem;
-            StoryDoneEvent event = new StoryDoneEvent();
-            event.setStoryId(story.getId());
-            eventsRegistry.publish(event);
-        }
+    public List<ToDoItem> processAll(Collection<? extends ToDoItem> toDoItems) {
+        return transitions.processAll(toDoItems);
     }
 }
@@ -0,0 +1,43 @@
+package com.smalaca.taskamanager.registry;
+
+public final class EventDispatchStats {
+    private final int queueDepth;
+    private final long dispatched;
+    private final long failed;
+    private final long totalLatencyNanos;
+    private final long maxLatencyNanos;
+
+    EventDispatchStats(int queueDepth, long dispatched, long failed, long totalLatencyNanos, long maxLatencyNanos) {
+        this.queueDepth = queueDepth;
+        this.dispatched = dispatched;
+        this.failed = failed;
+        this.totalLatencyNanos = totalLatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public long getDispatched() {
+        return dispatched;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public long getAverageLatencyNanos() {
+        long completed = dispatched + failed;
+
+        if (completed == 0) {
+            return 0;
+        }
+
+        return totalLatencyNanos / completed;
+    }
+
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos;
+    }
+}
@@ -0,0 +1,75 @@
+package com.smalaca.taskamanager.registry;
+
+import com.smalaca.taskamanager.events.DomainEvent;
+import com.smalaca.taskamanager.infrastructure.executor.PartitionedExecutor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+@ConditionalOnProperty(name = "events.async-dispatch.enabled", havingValue = "true")
+@SuppressWarnings("checkstyle:IllegalCatch")
+public class EventDispatcher {
+    private final ApplicationEventPublisher publisher;
+    private final PartitionedExecutor executor;
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    @Autowired
+    public EventDispatcher(
+            ApplicationEventPublisher publisher,
+            @Value("${events.async-dispatch.workers:4}") int workers,
+            @Value("${events.async-dispatch.capacity-per-worker:1000}") int capacityPerWorker,
+            @Value("${events.async-dispatch.offer-timeout-millis:500}") long offerTimeoutMillis) {
+        this(publisher, new PartitionedExecutor("event-dispatch", workers, capacityPerWorker, offerTimeoutMillis));
+    }
+
+    EventDispatcher(ApplicationEventPublisher publisher, PartitionedExecutor executor) {
+        this.publisher = publisher;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Void> dispatch(DomainEvent event) {
+        CompletableFuture<Void> dispatching = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+
+        executor.execute(event.aggregateId(), () -> {
+            try {
+                publisher.publishEvent(event);
+                finished(submittedAt, dispatched);
+                dispatching.complete(null);
+            } catch (RuntimeException exception) {
+                finished(submittedAt, failed);
+                dispatching.completeExceptionally(exception);
+            }
+        });
+
+        return dispatching;
+    }
+
+    public EventDispatchStats stats() {
+        return new EventDispatchStats(
+                executor.queued(), dispatched.sum(), failed.sum(), totalLatencyNanos.sum(), maxLatencyNanos.get());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private void finished(long submittedAt, LongAdder outcome) {
+        long latencyNanos = System.nanoTime() - submittedAt;
+        outcome.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+}
@@ -0,0 +1,81 @@
+package com.smalaca.taskamanager.registry;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.events.DomainEvent;
+import com.smalaca.taskamanager.events.EpicReadyToPrioritize;
+import com.smalaca.taskamanager.events.StoryApprovedEvent;
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.events.TaskApprovedEvent;
+import com.smalaca.taskamanager.events.ToDoItemReleasedEvent;
+import com.smalaca.taskamanager.events.ToDoItemStatusChangedEvent;
+import com.smalaca.taskamanager.model.entities.OutboxEvent;
+import com.smalaca.taskamanager.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toMap;
+
+@Component
+@ConditionalOnProperty(name = "events.outbox.enabled", havingValue = "true")
+public class EventOutbox {
+    private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES = Stream.<Class<? extends DomainEvent>>of(
+            StoryDoneEvent.class, StoryApprovedEvent.class, TaskApprovedEvent.class, EpicReadyToPrioritize.class, ToDoItemReleasedEvent.class,
+            ToDoItemStatusChangedEvent.class)
+            .collect(toMap(Class::getSimpleName, Function.identity()));
+
+    private final OutboxEventRepository repository;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Autowired
+    public EventOutbox(OutboxEventRepository repository, ObjectMapper objectMapper) {
+        this(repository, objectMapper, Clock.systemUTC());
+    }
+
+    EventOutbox(OutboxEventRepository repository, ObjectMapper objectMapper, Clock clock) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Transactional
+    public void append(DomainEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setType(event.getClass().getSimpleName());
+        outboxEvent.setPayload(payloadOf(event));
+        outboxEvent.setOccurredAt(clock.instant());
+        outboxEvent.setNextAttemptAt(outboxEvent.getOccurredAt());
+
+        repository.save(outboxEvent);
+    }
+
+    DomainEvent eventOf(OutboxEvent outboxEvent) {
+        Class<? extends DomainEvent> type = EVENT_TYPES.get(outboxEvent.getType());
+
+        if (type == null) {
+            throw new IllegalStateException("Unknown outbox event type: " + outboxEvent.getType());
+        }
+
+        try {
+            return objectMapper.readValue(outboxEvent.getPayload(), type);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private String payloadOf(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -1,38 +1,66 @@
 package com.smalaca.taskamanager.registry;
 
+import com.smalaca.taskamanager.events.DomainEvent;
 import com.smalaca.taskamanager.events.EpicReadyToPrioritize;
 import com.smalaca.taskamanager.events.StoryApprovedEvent;
 import com.smalaca.taskamanager.events.StoryDoneEvent;
 import com.smalaca.taskamanager.events.TaskApprovedEvent;
 import com.smalaca.taskamanager.events.ToDoItemReleasedEvent;
+import com.smalaca.taskamanager.events.ToDoItemStatusChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 @Component
 public class EventsRegistry {
     private final ApplicationEventPublisher publisher;
+    private final Optional<EventOutbox> outbox;
+    private final Optional<EventDispatcher> dispatcher;
 
     public EventsRegistry(ApplicationEventPublisher publisher) {
+        this(publisher, Optional.empty(), Optional.empty());
+    }
+
+    @Autowired
+    public EventsRegistry(ApplicationEventPublisher publisher, Optional<EventOutbox> outbox, Optional<EventDispatcher> dispatcher) {
         this.publisher = publisher;
+        this.outbox = outbox;
+        this.dispatcher = dispatcher;
     }
 
     public void publish(StoryDoneEvent event) {
-        publisher.publishEvent(event);
+        dispatch(event);
     }
 
     public void publish(StoryApprovedEvent event) {
-        publisher.publishEvent(event);
+        dispatch(event);
     }
 
     public void publish(TaskApprovedEvent event) {
-        publisher.publishEvent(event);
+        dispatch(event);
     }
 
     public void publish(EpicReadyToPrioritize event) {
-        publisher.publishEvent(event);
+        dispatch(event);
     }
 
     public void publish(ToDoItemReleasedEvent event) {
-        publisher.publishEvent(event);
+        dispatch(event);
+    }
+
+    public void publish(ToDoItemStatusChangedEvent event) {
+        dispatch(event);
+    }
+
+    private void dispatch(DomainEvent event) {
+        if (outbox.isPresent()) {
+            outbox.get().append(event);
+        } else if (dispatcher.isPresent()) {
+            dispatcher.get().dispatch(event);
+        } else {
+            publisher.publishEvent(event);
+        }
     }
 }
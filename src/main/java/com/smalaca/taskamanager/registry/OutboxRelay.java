@@ -0,0 +1,122 @@
+package com.smalaca.taskamanager.registry;
+
+import com.smalaca.taskamanager.events.DomainEvent;
+import com.smalaca.taskamanager.model.entities.OutboxEvent;
+import com.smalaca.taskamanager.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.stream.Collectors.toList;
+
+@Component
+@ConditionalOnProperty(name = "events.outbox.enabled", havingValue = "true")
+@SuppressWarnings("checkstyle:IllegalCatch")
+public class OutboxRelay {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository repository;
+    private final EventOutbox outbox;
+    private final ApplicationEventPublisher publisher;
+    private final Optional<EventDispatcher> dispatcher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final Clock clock;
+
+    @Autowired
+    public OutboxRelay(
+            OutboxEventRepository repository, EventOutbox outbox, ApplicationEventPublisher publisher, Optional<EventDispatcher> dispatcher,
+            PlatformTransactionManager transactionManager, @Value("${events.outbox.batch-size:100}") int batchSize,
+            @Value("${events.outbox.max-attempts:5}") int maxAttempts, @Value("${events.outbox.retry-backoff-millis:1000}") long retryBackoffMillis) {
+        this(repository, outbox, publisher, dispatcher, transactionManager, batchSize, maxAttempts, retryBackoffMillis, Clock.systemUTC());
+    }
+
+    OutboxRelay(
+            OutboxEventRepository repository, EventOutbox outbox, ApplicationEventPublisher publisher, Optional<EventDispatcher> dispatcher,
+            PlatformTransactionManager transactionManager, int batchSize, int maxAttempts, long retryBackoffMillis, Clock clock) {
+        this.repository = repository;
+        this.outbox = outbox;
+        this.publisher = publisher;
+        this.dispatcher = dispatcher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${events.outbox.relay-interval-millis:500}")
+    public void relay() {
+        boolean fullBatchRelayed = true;
+
+        while (fullBatchRelayed) {
+            fullBatchRelayed = Boolean.TRUE.equals(transactionTemplate.execute(status -> relayBatch()));
+        }
+    }
+
+    private boolean relayBatch() {
+        Instant now = clock.instant();
+        List<OutboxEvent> batch = repository.findAllByDeadLetteredFalseAndNextAttemptAtLessThanEqualOrderByIdAsc(now, PageRequest.of(0, batchSize));
+        List<CompletableFuture<Void>> deliveries = batch.stream().map(this::deliver).collect(toList());
+        List<OutboxEvent> delivered = new ArrayList<>(batch.size());
+
+        for (int index = 0; index < batch.size(); index++) {
+            OutboxEvent outboxEvent = batch.get(index);
+
+            try {
+                deliveries.get(index).join();
+                delivered.add(outboxEvent);
+            } catch (RuntimeException exception) {
+                outboxEvent.failedAttempt();
+
+                if (outboxEvent.getAttempts() < maxAttempts) {
+                    outboxEvent.setNextAttemptAt(now.plusMillis(retryBackoffMillis * outboxEvent.getAttempts()));
+                } else {
+                    deadLetter(outboxEvent, exception);
+                }
+            }
+        }
+
+        repository.deleteAll(delivered);
+        return batch.size() == batchSize;
+    }
+
+    private void deadLetter(OutboxEvent outboxEvent, RuntimeException exception) {
+        outboxEvent.deadLetter();
+        repository.save(outboxEvent);
+        LOGGER.error("Outbox event {} of type {} moved to dead letter after {} failed attempts.",
+                outboxEvent.getId(), outboxEvent.getType(), outboxEvent.getAttempts(), exception);
+    }
+
+    private CompletableFuture<Void> deliver(OutboxEvent outboxEvent) {
+        try {
+            DomainEvent event = outbox.eventOf(outboxEvent);
+
+            if (dispatcher.isPresent()) {
+                return dispatcher.get().dispatch(event);
+            }
+
+            publisher.publishEvent(event);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+}
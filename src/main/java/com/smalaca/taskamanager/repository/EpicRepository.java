@@ -1,9 +1,30 @@
 package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.Epic;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @Repository
 public interface EpicRepository extends CrudRepository<Epic, Long> {
+    @Query("select e.version from Epic e where e.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    default Optional<Epic> findDetailedById(Long id) {
+        Optional<Epic> found = findWithWatchersById(id);
+        found.ifPresent(epic -> findWithStakeholdersById(id));
+
+        return found;
+    }
+
+    @Query("select e from Epic e left join fetch e.project p left join fetch p.productOwner left join fetch e.watchers where e.id = :id")
+    Optional<Epic> findWithWatchersById(@Param("id") Long id);
+
+    @Query("select e from Epic e left join fetch e.stakeholders where e.id = :id")
+    Optional<Epic> findWithStakeholdersById(@Param("id") Long id);
 }
@@ -0,0 +1,17 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.entities.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends CrudRepository<OutboxEvent, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<OutboxEvent> findAllByDeadLetteredFalseAndNextAttemptAtLessThanEqualOrderByIdAsc(Instant now, Pageable pageable);
+}
@@ -1,12 +1,38 @@
 package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.Project;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface ProjectRepository extends CrudRepository<Project, Long> {
+    String SELECT_SUMMARY = "select p.id as id, p.name as name, p.projectStatus as projectStatus, po.id as productOwnerId "
+            + "from Project p left join p.productOwner po ";
+
     Optional<Project> findByName(String name);
+
+    @Query(SELECT_SUMMARY + "where p.id > :after order by p.id")
+    List<ProjectSummary> findSummariesAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "order by p.id")
+    List<ProjectSummary> findAllSummaries();
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = StreamingHints.READ_ONLY)
+    })
+    @Query(SELECT_SUMMARY + "order by p.id")
+    Stream<ProjectSummary> streamAll();
 }
@@ -0,0 +1,12 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.entities.RollupEntry;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RollupEntryRepository extends CrudRepository<RollupEntry, Long> {
+    Optional<RollupEntry> findByItemTypeAndItemId(String itemType, Long itemId);
+}
@@ -0,0 +1,17 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+
+public interface SprintBoardItem {
+    Long getId();
+
+    String getTitle();
+
+    ToDoItemStatus getStatus();
+
+    String getAssigneeFirstName();
+
+    String getAssigneeLastName();
+
+    Long getAssigneeTeamId();
+}
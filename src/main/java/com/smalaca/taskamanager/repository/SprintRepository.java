@@ -1,12 +1,46 @@
 package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.Sprint;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface SprintRepository extends CrudRepository<Sprint, Long> {
+    String SELECT_BOARD_ITEM = "select i.id as id, i.title as title, i.status as status, "
+            + "i.assignee.firstName as assigneeFirstName, i.assignee.lastName as assigneeLastName, i.assignee.teamId as assigneeTeamId ";
+    String SELECT_BOARD_TASKS = SELECT_BOARD_ITEM + "from Sprint s join s.tasks i where s.id = :id order by i.status, i.id";
+    String SELECT_BOARD_STORIES = SELECT_BOARD_ITEM + "from Sprint s join s.stories i where s.id = :id order by i.status, i.id";
+
     Optional<Sprint> findByNameAndProjectId(String name, Long projectId);
+
+    @Query(SELECT_BOARD_TASKS)
+    List<SprintBoardItem> findBoardTasksById(@Param("id") Long id);
+
+    @Query(SELECT_BOARD_STORIES)
+    List<SprintBoardItem> findBoardStoriesById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = StreamingHints.READ_ONLY)
+    })
+    @Query(SELECT_BOARD_TASKS)
+    Stream<SprintBoardItem> streamBoardTasksById(@Param("id") Long id);
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = StreamingHints.READ_ONLY)
+    })
+    @Query(SELECT_BOARD_STORIES)
+    Stream<SprintBoardItem> streamBoardStoriesById(@Param("id") Long id);
 }
@@ -0,0 +1,20 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.entities.StatusRollup;
+import com.smalaca.taskamanager.model.enums.RollupScope;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.LockModeType;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StatusRollupRepository extends CrudRepository<StatusRollup, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<StatusRollup> findByScopeAndScopeIdAndItemTypeAndStatus(RollupScope scope, Long scopeId, String itemType, ToDoItemStatus status);
+
+    List<StatusRollup> findAllByScopeAndScopeId(RollupScope scope, Long scopeId);
+}
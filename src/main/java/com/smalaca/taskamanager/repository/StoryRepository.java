@@ -1,9 +1,34 @@
 package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.Story;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @Repository
 public interface StoryRepository extends CrudRepository<Story, Long> {
+    @Query("select s.version from Story s where s.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    default Optional<Story> findDetailedById(Long id) {
+        Optional<Story> found = findWithWatchersById(id);
+        found.ifPresent(story -> findWithStakeholdersById(id));
+
+        return found;
+    }
+
+    @Query("select s from Story s "
+            + "left join fetch s.epic e left join fetch e.project ep left join fetch ep.productOwner "
+            + "left join fetch s.currentSprint cs left join fetch cs.project csp left join fetch csp.productOwner "
+            + "left join fetch s.watchers "
+            + "where s.id = :id")
+    Optional<Story> findWithWatchersById(@Param("id") Long id);
+
+    @Query("select s from Story s left join fetch s.stakeholders where s.id = :id")
+    Optional<Story> findWithStakeholdersById(@Param("id") Long id);
 }
@@ -0,0 +1,8 @@
+package com.smalaca.taskamanager.repository;
+
+final class StreamingHints {
+    static final String FETCH_SIZE = "500";
+    static final String READ_ONLY = "true";
+
+    private StreamingHints() {}
+}
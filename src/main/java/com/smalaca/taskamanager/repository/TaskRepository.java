@@ -1,9 +1,36 @@
 package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.Task;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends CrudRepository<Task, Long> {
+    @Query("select t.version from Task t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Transactional(readOnly = true)
+    default Optional<Task> findDetailedById(Long id) {
+        Optional<Task> found = findWithWatchersById(id);
+        found.ifPresent(task -> findWithStakeholdersById(id));
+
+        return found;
+    }
+
+    @Query("select t from Task t "
+            + "left join fetch t.story s "
+            + "left join fetch s.epic e left join fetch e.project ep left join fetch ep.productOwner "
+            + "left join fetch s.currentSprint scs left join fetch scs.project scsp left join fetch scsp.productOwner "
+            + "left join fetch t.currentSprint cs left join fetch cs.project csp left join fetch csp.productOwner "
+            + "left join fetch t.watchers "
+            + "where t.id = :id")
+    Optional<Task> findWithWatchersById(@Param("id") Long id);
+
+    @Query("select t from Task t left join fetch t.stakeholders where t.id = :id")
+    Optional<Task> findWithStakeholdersById(@Param("id") Long id);
 }
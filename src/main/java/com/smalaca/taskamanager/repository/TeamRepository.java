@@ -1,12 +1,34 @@
 package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.Team;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface TeamRepository extends CrudRepository<Team, Long> {
+    String SELECT_SUMMARY = "select t.id as id, t.name as name, t.codename.shortName as codenameShort, "
+            + "t.codename.fullName as codenameFull, t.description as description "
+            + "from Team t ";
+
     Optional<Team> findByName(String name);
+
+    @Query(SELECT_SUMMARY + "order by t.id")
+    List<TeamSummary> findAllSummaries();
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = StreamingHints.READ_ONLY)
+    })
+    @Query(SELECT_SUMMARY + "order by t.id")
+    Stream<TeamSummary> streamAll();
 }
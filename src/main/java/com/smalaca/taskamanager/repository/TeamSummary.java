@@ -0,0 +1,13 @@
+package com.smalaca.taskamanager.repository;
+
+public interface TeamSummary {
+    Long getId();
+
+    String getName();
+
+    String getCodenameShort();
+
+    String getCodenameFull();
+
+    String getDescription();
+}
@@ -0,0 +1,15 @@
+package com.smalaca.taskamanager.repository;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+public final class UniqueConstraintViolations {
+    private UniqueConstraintViolations() {}
+
+    public static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+        String message = exception.getMostSpecificCause().getMessage();
+
+        return message != null && message.toLowerCase(Locale.ROOT).contains(constraintName.toLowerCase(Locale.ROOT));
+    }
+}
@@ -1,12 +1,42 @@
 package com.smalaca.taskamanager.repository;
 
 import com.smalaca.taskamanager.model.entities.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface UserRepository extends CrudRepository<User, Long> {
+    String SELECT_SUMMARY = "select u.id as id, u.userName.firstName as firstName, u.userName.lastName as lastName, "
+            + "u.login as login, u.password as password, u.teamRole as teamRole, "
+            + "u.phoneNumber.prefix as phonePrefix, u.phoneNumber.number as phoneNumber, u.emailAddress.emailAddress as emailAddress "
+            + "from User u ";
+
     Optional<User> findByUserNameFirstNameAndUserNameLastName(String firstName, String lastName);
+
+    Optional<User> findFirstByLogin(String login);
+
+    @Query(SELECT_SUMMARY + "where u.id > :after order by u.id")
+    List<UserSummary> findSummariesAfter(@Param("after") Long after, Pageable pageable);
+
+    @Query(SELECT_SUMMARY + "order by u.id")
+    List<UserSummary> findAllSummaries();
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = StreamingHints.FETCH_SIZE),
+            @QueryHint(name = HINT_READONLY, value = StreamingHints.READ_ONLY)
+    })
+    @Query(SELECT_SUMMARY + "order by u.id")
+    Stream<UserSummary> streamAll();
 }
@@ -0,0 +1,75 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.embedded.EmailAddress;
+import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import com.smalaca.taskamanager.model.embedded.UserName;
+import com.smalaca.taskamanager.model.entities.User;
+
+public final class UserSnapshot {
+    private final Long id;
+    private final String firstName;
+    private final String lastName;
+    private final String phonePrefix;
+    private final String phoneNumber;
+    private final String emailAddress;
+    private final boolean hasPhoneNumber;
+    private final boolean hasEmailAddress;
+
+    private UserSnapshot(User user) {
+        id = user.getId();
+        firstName = user.getUserName().getFirstName();
+        lastName = user.getUserName().getLastName();
+        hasPhoneNumber = user.getPhoneNumber() != null;
+        hasEmailAddress = user.getEmailAddress() != null;
+
+        if (hasPhoneNumber) {
+            phonePrefix = user.getPhoneNumber().getPrefix();
+            phoneNumber = user.getPhoneNumber().getNumber();
+        } else {
+            phonePrefix = null;
+            phoneNumber = null;
+        }
+
+        if (hasEmailAddress) {
+            emailAddress = user.getEmailAddress().getEmailAddress();
+        } else {
+            emailAddress = null;
+        }
+    }
+
+    static UserSnapshot of(User user) {
+        return new UserSnapshot(user);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public UserName getUserName() {
+        UserName userName = new UserName();
+        userName.setFirstName(firstName);
+        userName.setLastName(lastName);
+        return userName;
+    }
+
+    public PhoneNumber getPhoneNumber() {
+        if (!hasPhoneNumber) {
+            return null;
+        }
+
+        PhoneNumber copy = new PhoneNumber();
+        copy.setPrefix(phonePrefix);
+        copy.setNumber(phoneNumber);
+        return copy;
+    }
+
+    public EmailAddress getEmailAddress() {
+        if (!hasEmailAddress) {
+            return null;
+        }
+
+        EmailAddress copy = new EmailAddress();
+        copy.setEmailAddress(emailAddress);
+        return copy;
+    }
+}
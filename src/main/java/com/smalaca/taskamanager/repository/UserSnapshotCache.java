@@ -0,0 +1,57 @@
+package com.smalaca.taskamanager.repository;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class UserSnapshotCache {
+    private final UserRepository userRepository;
+    private final Cache<Long, UserSnapshot> snapshots;
+
+    public UserSnapshotCache(
+            UserRepository userRepository,
+            @Value("${user-snapshot-cache.maximum-size:10000}") long maximumSize,
+            @Value("${user-snapshot-cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+        this.userRepository = userRepository;
+        snapshots = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<UserSnapshot> findById(Long id) {
+        UserSnapshot cached = snapshots.getIfPresent(id);
+
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<UserSnapshot> found = userRepository.findById(id).map(UserSnapshot::of);
+        found.ifPresent(snapshot -> snapshots.put(id, snapshot));
+
+        return found;
+    }
+
+    public void invalidate(Long id) {
+        snapshots.invalidate(id);
+    }
+
+    public void invalidateAll(Iterable<Long> ids) {
+        snapshots.invalidateAll(ids);
+    }
+
+    public CacheStats stats() {
+        return snapshots.stats();
+    }
+
+    public long size() {
+        return snapshots.size();
+    }
+}
@@ -0,0 +1,23 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.enums.TeamRole;
+
+public interface UserSummary {
+    Long getId();
+
+    String getFirstName();
+
+    String getLastName();
+
+    String getLogin();
+
+    String getPassword();
+
+    TeamRole getTeamRole();
+
+    String getPhonePrefix();
+
+    String getPhoneNumber();
+
+    String getEmailAddress();
+}
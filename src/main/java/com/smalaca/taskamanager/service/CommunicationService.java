@@ -1,6 +1,5 @@
 package com.smalaca.taskamanager.service;
 
-import com.smalaca.taskamanager.infrastructure.enums.CommunicatorType;
 import com.smalaca.taskamanager.model.embedded.Owner;
 import com.smalaca.taskamanager.model.embedded.Stakeholder;
 import com.smalaca.taskamanager.model.embedded.Watcher;
@@ -11,8 +10,6 @@ import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.interfaces.ToDoItem;
 
 public interface CommunicationService {
-    void setType(CommunicatorType type);
-
     void notify(ToDoItem toDoItem, ProductOwner productOwner);
 
     void notify(ToDoItem toDoItem, Owner owner);
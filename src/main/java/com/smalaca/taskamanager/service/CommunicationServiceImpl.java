@@ -5,6 +5,7 @@ import com.smalaca.taskamanager.client.MailClient;
 import com.smalaca.taskamanager.client.SmsCommunicatorClient;
 import com.smalaca.taskamanager.devnull.DevNullDirectory;
 import com.smalaca.taskamanager.infrastructure.enums.CommunicatorType;
+import com.smalaca.taskamanager.infrastructure.executor.BatchedFanOut;
 import com.smalaca.taskamanager.model.embedded.EmailAddress;
 import com.smalaca.taskamanager.model.embedded.Owner;
 import com.smalaca.taskamanager.model.embedded.PhoneNumber;
@@ -17,38 +18,71 @@ import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.interfaces.ToDoItem;
 import com.smalaca.taskamanager.model.other.ChatRoom;
 import com.smalaca.taskamanager.model.other.Mail;
+import com.smalaca.taskamanager.session.SessionContext;
 import com.smalaca.taskamanager.session.SessionHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PreDestroy;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+
 @Service
 public class CommunicationServiceImpl implements CommunicationService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CommunicationServiceImpl.class);
     private static final String SEPARATOR = ".";
+    static final String TOPIC_PREFIX = "NOTIFICATION ABOUT: ";
+    static final String SYSTEM_SENDER = "taskmanager@smalaca.com";
 
     private final ProjectBacklogService projectBacklogService;
     private final DevNullDirectory devNullDirectory;
     private final ChatClient chat;
     private final SmsCommunicatorClient smsCommunicator;
     private final MailClient mailClient;
-    private CommunicatorType type;
+    private final CommunicatorRouting routing;
+    private final NotificationCoalescer coalescer;
+    private final Map<CommunicatorType, BatchedFanOut> channels = new EnumMap<>(CommunicatorType.class);
 
     public CommunicationServiceImpl(
             ProjectBacklogService projectBacklogService, DevNullDirectory devNullDirectory, ChatClient chat,
-            SmsCommunicatorClient smsCommunicator, MailClient mailClient) {
+            SmsCommunicatorClient smsCommunicator, MailClient mailClient, CommunicatorRouting routing, NotificationCoalescer coalescer,
+            @Value("${communication.fan-out.batch-size:100}") int batchSize,
+            @Value("${communication.fan-out.parallelism:4}") int parallelism,
+            @Value("${communication.fan-out.queue-capacity:100}") int queueCapacity,
+            @Value("${communication.fan-out.offer-timeout-millis:500}") long offerTimeoutMillis) {
         this.projectBacklogService = projectBacklogService;
         this.devNullDirectory = devNullDirectory;
         this.chat = chat;
         this.smsCommunicator = smsCommunicator;
         this.mailClient = mailClient;
-    }
+        this.routing = routing;
+        this.coalescer = coalescer;
 
+        for (CommunicatorType channel : List.of(CommunicatorType.SMS, CommunicatorType.DIRECT, CommunicatorType.MAIL)) {
+            channels.put(channel, new BatchedFanOut(
+                    "communication-" + channel.name().toLowerCase() + "-fan-out", batchSize, parallelism, queueCapacity, offerTimeoutMillis));
+        }
+    }
 
-    public void setType(CommunicatorType type) {
-        this.type = type;
+    @PreDestroy
+    void shutdown() {
+        channels.values().forEach(BatchedFanOut::shutdown);
     }
 
     @SuppressWarnings("MissingSwitchDefault")
     public void notify(ToDoItem toDoItem, ProductOwner productOwner) {
-        switch (type) {
+        switch (routing.routeWithoutPreference()) {
             case MAIL:
                 notifyAbout(toDoItem, productOwner.getEmailAddress());
                 break;
@@ -66,7 +100,7 @@ public class CommunicationServiceImpl implements CommunicationService {
 
     @SuppressWarnings("MissingSwitchDefault")
     public void notify(ToDoItem toDoItem, Owner owner) {
-        switch (type) {
+        switch (routing.routeWithoutPreference()) {
             case SMS:
                 notifyAbout(toDoItem, owner.getPhoneNumber());
                 break;
@@ -84,7 +118,7 @@ public class CommunicationServiceImpl implements CommunicationService {
 
     @SuppressWarnings("MissingSwitchDefault")
     public void notify(ToDoItem toDoItem, Watcher watcher) {
-        switch (type) {
+        switch (routing.routeWithoutPreference()) {
             case SMS:
                 notifyAbout(toDoItem, watcher.getPhoneNumber());
                 break;
@@ -102,7 +136,7 @@ public class CommunicationServiceImpl implements CommunicationService {
 
     @SuppressWarnings("MissingSwitchDefault")
     public void notify(ToDoItem toDoItem, User user) {
-        switch (type) {
+        switch (routing.route(user)) {
             case SMS:
                 notifyAbout(toDoItem, user.getPhoneNumber());
                 break;
@@ -120,7 +154,7 @@ public class CommunicationServiceImpl implements CommunicationService {
 
     @SuppressWarnings("MissingSwitchDefault")
     public void notify(ToDoItem toDoItem, Stakeholder stakeholder) {
-        switch (type) {
+        switch (routing.routeWithoutPreference()) {
             case DIRECT:
                 notifyAbout(toDoItem, stakeholder.getFirstName() + SEPARATOR + stakeholder.getLastName());
                 break;
@@ -137,15 +171,123 @@ public class CommunicationServiceImpl implements CommunicationService {
     }
 
     public void notifyTeamsAbout(ToDoItem toDoItem, Project project) {
-        for (Team team : project.getTeams()) {
-            notify(toDoItem, team);
-        }
+        fanOut(toDoItem, project.getTeams().stream().flatMap(team -> team.getMembers().stream()));
     }
 
     public void notify(ToDoItem toDoItem, Team team) {
-        for (User user : team.getMembers()) {
-            notify(toDoItem, user);
+        fanOut(toDoItem, team.getMembers().stream());
+    }
+
+    CompletableFuture<Void> fanOut(ToDoItem toDoItem, Stream<User> members) {
+        Map<CommunicatorType, List<User>> recipients = members
+                .distinct()
+                .collect(groupingBy(routing::route, () -> new EnumMap<>(CommunicatorType.class), toList()));
+
+        return CompletableFuture.allOf(recipients.entrySet().stream()
+                .map(channel -> handOff(channel.getKey(), channel.getValue().size(), () -> fanOut(toDoItem, channel.getKey(), channel.getValue())))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private CompletableFuture<Void> handOff(CommunicatorType channel, int recipients, Supplier<CompletableFuture<Void>> send) {
+        CompletableFuture<Void> sending;
+
+        try {
+            sending = send.get();
+        } catch (RuntimeException exception) {
+            sending = CompletableFuture.failedFuture(exception);
+        }
+
+        return sending.exceptionally(failure -> {
+            LOGGER.error("Failed to notify {} recipient(s) via {}.", recipients, channel, failure);
+            return null;
+        });
+    }
+
+    @SuppressWarnings("MissingSwitchDefault")
+    private CompletableFuture<Void> fanOut(ToDoItem toDoItem, CommunicatorType communicatorType, List<User> users) {
+        if (coalescer.isEnabled()) {
+            coalesce(toDoItem, communicatorType, users);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        BatchedFanOut channel = channels.get(communicatorType);
+
+        switch (communicatorType) {
+            case SMS:
+                String smsLink = projectBacklogService.linkFor(toDoItem.getId());
+                return channel.inBatchesAsync(distinct(users, User::getPhoneNumber), batch -> smsCommunicator.textToAll(batch, smsLink));
+            case DIRECT:
+                String chatLink = projectBacklogService.linkFor(toDoItem.getId());
+                return channel.inBatchesAsync(distinct(users, User::getLogin), batch -> chat.sendToAll(batch, chatLink));
+            case MAIL:
+                return channel.inBatchesAsync(mailsAbout(toDoItem, distinct(users, User::getEmailAddress)), mailClient::sendAll);
+            case NULL_TYPE:
+                users.forEach(user -> notifyAbout());
+                break;
+        }
+
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @SuppressWarnings("MissingSwitchDefault")
+    private void coalesce(ToDoItem toDoItem, CommunicatorType communicatorType, List<User> users) {
+        switch (communicatorType) {
+            case SMS:
+                String smsLink = projectBacklogService.linkFor(toDoItem.getId());
+                distinct(users, User::getPhoneNumber).forEach(phoneNumber -> coalescer.text(phoneNumber, smsLink));
+                break;
+            case DIRECT:
+                String chatLink = projectBacklogService.linkFor(toDoItem.getId());
+                distinct(users, User::getLogin).forEach(login -> coalescer.chat(login, chatLink));
+                break;
+            case MAIL:
+                EmailAddress from = sender();
+                distinct(users, User::getEmailAddress).forEach(to -> coalescer.mail(from, to, toDoItem.getId()));
+                break;
+            case NULL_TYPE:
+                users.forEach(user -> notifyAbout());
+                break;
+        }
+    }
+
+    private <T> List<T> distinct(List<User> users, Function<User, T> address) {
+        return users.stream()
+                .map(address)
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(toList());
+    }
+
+    private List<Mail> mailsAbout(ToDoItem toDoItem, List<EmailAddress> recipients) {
+        if (recipients.isEmpty()) {
+            return List.of();
+        }
+
+        EmailAddress from = sender();
+        String topic = TOPIC_PREFIX + toDoItem.getId();
+        String content = String.valueOf(toDoItem.getId());
+
+        return recipients.stream().map(to -> {
+            Mail mail = new Mail();
+            mail.setFrom(from);
+            mail.setTo(to);
+            mail.setTopic(topic);
+            mail.setContent(content);
+            return mail;
+        }).collect(toList());
+    }
+
+    private EmailAddress sender() {
+        SessionContext session = SessionHolder.instance().current();
+
+        if (session == null || session.emailAddress() == null) {
+            EmailAddress systemSender = new EmailAddress();
+            systemSender.setEmailAddress(SYSTEM_SENDER);
+            return systemSender;
         }
+
+        return session.emailAddress();
     }
 
     private void notifyAbout() {
@@ -153,20 +295,34 @@ public class CommunicationServiceImpl implements CommunicationService {
     }
 
     private void notifyAbout(ToDoItem toDoItem, String userName) {
+        if (coalescer.isEnabled()) {
+            coalescer.chat(userName, projectBacklogService.linkFor(toDoItem.getId()));
+            return;
+        }
+
         ChatRoom chatRoom = chat.connectWith(userName);
         chatRoom.send(projectBacklogService.linkFor(toDoItem.getId()));
     }
 
     private void notifyAbout(ToDoItem toDoItem, PhoneNumber phoneNumber) {
+        if (coalescer.isEnabled()) {
+            coalescer.text(phoneNumber, projectBacklogService.linkFor(toDoItem.getId()));
+            return;
+        }
+
         smsCommunicator.textTo(phoneNumber, projectBacklogService.linkFor(toDoItem.getId()));
     }
 
     private void notifyAbout(ToDoItem toDoItem, EmailAddress emailAddress) {
-        User loggedUser = SessionHolder.instance().logged();
+        if (coalescer.isEnabled()) {
+            coalescer.mail(sender(), emailAddress, toDoItem.getId());
+            return;
+        }
+
         Mail mail = new Mail();
-        mail.setFrom(loggedUser.getEmailAddress());
+        mail.setFrom(sender());
         mail.setTo(emailAddress);
-        mail.setTopic("NOTIFICATION ABOUT: " + toDoItem.getId());
+        mail.setTopic(TOPIC_PREFIX + toDoItem.getId());
         mail.setContent(String.valueOf(toDoItem.getId()));
 
         mailClient.send(mail);
@@ -0,0 +1,87 @@
+package com.smalaca.taskamanager.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.smalaca.taskamanager.infrastructure.enums.CommunicatorType;
+import com.smalaca.taskamanager.model.entities.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class CommunicatorRouting {
+    private final CommunicatorType defaultType;
+    private final Cache<Long, Optional<CommunicatorType>> routes;
+
+    public CommunicatorRouting(
+            @Value("${communication.routing.default-communicator:MAIL}") CommunicatorType defaultType,
+            @Value("${communication.routing.maximum-size:10000}") long maximumSize,
+            @Value("${communication.routing.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+        this.defaultType = defaultType;
+        routes = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWriteSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    public CommunicatorType route(User user) {
+        return preferredFor(user).orElse(defaultType);
+    }
+
+    public CommunicatorType routeWithoutPreference() {
+        return defaultType;
+    }
+
+    public void invalidate(Long userId) {
+        routes.invalidate(userId);
+    }
+
+    private Optional<CommunicatorType> preferredFor(User user) {
+        Long userId = user.getId();
+
+        if (userId == null) {
+            return reachablePreference(user);
+        }
+
+        Optional<CommunicatorType> cached = routes.getIfPresent(userId);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        Optional<CommunicatorType> route = reachablePreference(user);
+        routes.put(userId, route);
+
+        return route;
+    }
+
+    @SuppressWarnings("MissingSwitchDefault")
+    private Optional<CommunicatorType> reachablePreference(User user) {
+        CommunicatorType preferred = user.getPreferredCommunicator();
+
+        if (preferred == null) {
+            return Optional.empty();
+        }
+
+        switch (preferred) {
+            case MAIL:
+                return reachable(preferred, user.getEmailAddress());
+            case SMS:
+                return reachable(preferred, user.getPhoneNumber());
+            case DIRECT:
+                return reachable(preferred, user.getLogin());
+        }
+
+        return Optional.of(preferred);
+    }
+
+    private Optional<CommunicatorType> reachable(CommunicatorType preferred, Object address) {
+        if (address == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(preferred);
+    }
+}
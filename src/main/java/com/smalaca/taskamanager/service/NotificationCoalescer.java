@@ -0,0 +1,255 @@
+package com.smalaca.taskamanager.service;
+
+import com.google.common.collect.Lists;
+import com.smalaca.taskamanager.client.ChatClient;
+import com.smalaca.taskamanager.client.MailClient;
+import com.smalaca.taskamanager.client.SmsCommunicatorClient;
+import com.smalaca.taskamanager.infrastructure.enums.CommunicatorType;
+import com.smalaca.taskamanager.infrastructure.executor.PartitionedExecutor;
+import com.smalaca.taskamanager.model.embedded.EmailAddress;
+import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import com.smalaca.taskamanager.model.other.Mail;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static com.smalaca.taskamanager.infrastructure.enums.CommunicatorType.DIRECT;
+import static com.smalaca.taskamanager.infrastructure.enums.CommunicatorType.MAIL;
+import static com.smalaca.taskamanager.infrastructure.enums.CommunicatorType.SMS;
+import static java.util.stream.Collectors.toList;
+
+@Component
+@SuppressWarnings("checkstyle:IllegalCatch")
+public class NotificationCoalescer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotificationCoalescer.class);
+    private static final String LINE_SEPARATOR = "\n";
+    private static final String TOPIC_SEPARATOR = ", ";
+
+    private final ChatClient chat;
+    private final SmsCommunicatorClient smsCommunicator;
+    private final MailClient mailClient;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxPendingRecipients;
+    private final Map<CommunicatorType, PartitionedExecutor> senders = new EnumMap<>(CommunicatorType.class);
+    private Map<PhoneNumber, Set<String>> texts = new LinkedHashMap<>();
+    private Map<String, Set<String>> chats = new LinkedHashMap<>();
+    private Map<MailRoute, Set<Long>> mails = new LinkedHashMap<>();
+
+    public NotificationCoalescer(
+            ChatClient chat, SmsCommunicatorClient smsCommunicator, MailClient mailClient,
+            @Value("${communication.coalescing.enabled:false}") boolean enabled,
+            @Value("${communication.fan-out.batch-size:100}") int batchSize,
+            @Value("${communication.coalescing.max-pending-recipients:10000}") int maxPendingRecipients,
+            @Value("${communication.coalescing.sender-queue-capacity:100}") int senderQueueCapacity,
+            @Value("${communication.coalescing.sender-offer-timeout-millis:500}") long senderOfferTimeoutMillis) {
+        this.chat = chat;
+        this.smsCommunicator = smsCommunicator;
+        this.mailClient = mailClient;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxPendingRecipients = maxPendingRecipients;
+
+        for (CommunicatorType channel : List.of(SMS, DIRECT, MAIL)) {
+            senders.put(channel, new PartitionedExecutor(
+                    "notification-coalescer-" + channel.name().toLowerCase(), 1, senderQueueCapacity, senderOfferTimeoutMillis));
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void text(PhoneNumber phoneNumber, String link) {
+        Map<PhoneNumber, Set<String>> full;
+
+        synchronized (this) {
+            texts.computeIfAbsent(phoneNumber, recipient -> new LinkedHashSet<>()).add(link);
+
+            if (texts.size() < maxPendingRecipients) {
+                return;
+            }
+
+            full = texts;
+            texts = new LinkedHashMap<>();
+        }
+
+        sendTexts(full);
+    }
+
+    public void chat(String userName, String link) {
+        Map<String, Set<String>> full;
+
+        synchronized (this) {
+            chats.computeIfAbsent(userName, recipient -> new LinkedHashSet<>()).add(link);
+
+            if (chats.size() < maxPendingRecipients) {
+                return;
+            }
+
+            full = chats;
+            chats = new LinkedHashMap<>();
+        }
+
+        sendChats(full);
+    }
+
+    public void mail(EmailAddress from, EmailAddress to, Long toDoItemId) {
+        Map<MailRoute, Set<Long>> full;
+
+        synchronized (this) {
+            mails.computeIfAbsent(new MailRoute(from, to), recipient -> new LinkedHashSet<>()).add(toDoItemId);
+
+            if (mails.size() < maxPendingRecipients) {
+                return;
+            }
+
+            full = mails;
+            mails = new LinkedHashMap<>();
+        }
+
+        sendMails(full);
+    }
+
+    @Scheduled(fixedDelayString = "${communication.coalescing.window-millis:1000}")
+    public void flush() {
+        flushAll();
+    }
+
+    CompletableFuture<Void> flushAll() {
+        Map<PhoneNumber, Set<String>> pendingTexts;
+        Map<String, Set<String>> pendingChats;
+        Map<MailRoute, Set<Long>> pendingMails;
+
+        synchronized (this) {
+            pendingTexts = texts;
+            pendingChats = chats;
+            pendingMails = mails;
+            texts = new LinkedHashMap<>();
+            chats = new LinkedHashMap<>();
+            mails = new LinkedHashMap<>();
+        }
+
+        return CompletableFuture.allOf(sendTexts(pendingTexts), sendChats(pendingChats), sendMails(pendingMails));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushAll();
+        senders.values().forEach(PartitionedExecutor::shutdown);
+    }
+
+    private CompletableFuture<Void> sendTexts(Map<PhoneNumber, Set<String>> pending) {
+        return submit(SMS, pending.size(), () -> byDigest(pending).forEach((digest, phoneNumbers) ->
+                Lists.partition(phoneNumbers, batchSize)
+                        .forEach(batch -> attempt(SMS, batch.size(), () -> smsCommunicator.textToAll(batch, digest)))));
+    }
+
+    private CompletableFuture<Void> sendChats(Map<String, Set<String>> pending) {
+        return submit(DIRECT, pending.size(), () -> pending.forEach((userName, links) ->
+                attempt(DIRECT, 1, () -> chat.connectWith(userName).send(new ArrayList<>(links)))));
+    }
+
+    private CompletableFuture<Void> sendMails(Map<MailRoute, Set<Long>> pending) {
+        return submit(MAIL, pending.size(), () ->
+                Lists.partition(digestMails(pending), batchSize).forEach(batch -> attempt(MAIL, batch.size(), () -> mailClient.sendAll(batch))));
+    }
+
+    private CompletableFuture<Void> submit(CommunicatorType channel, int recipients, Runnable send) {
+        if (recipients == 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        CompletableFuture<Void> sent = new CompletableFuture<>();
+
+        try {
+            senders.get(channel).execute(channel, () -> {
+                try {
+                    send.run();
+                } finally {
+                    sent.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            LOGGER.error("Dropped {} digest(s) for {} recipient(s), sender queue is full.", channel, recipients, exception);
+            sent.complete(null);
+        }
+
+        return sent;
+    }
+
+    private void attempt(CommunicatorType channel, int recipients, Runnable send) {
+        try {
+            send.run();
+        } catch (RuntimeException exception) {
+            LOGGER.error("Failed to send {} digest(s) to {} recipient(s).", channel, recipients, exception);
+        }
+    }
+
+    private <R> Map<String, List<R>> byDigest(Map<R, Set<String>> pending) {
+        Map<String, List<R>> recipients = new LinkedHashMap<>();
+        pending.forEach((recipient, links) ->
+                recipients.computeIfAbsent(String.join(LINE_SEPARATOR, links), digest -> new ArrayList<>()).add(recipient));
+
+        return recipients;
+    }
+
+    private List<Mail> digestMails(Map<MailRoute, Set<Long>> pending) {
+        return pending.entrySet().stream().map(entry -> {
+            Mail mail = new Mail();
+            mail.setFrom(entry.getKey().from);
+            mail.setTo(entry.getKey().to);
+            mail.setTopic(CommunicationServiceImpl.TOPIC_PREFIX + join(entry.getValue(), TOPIC_SEPARATOR));
+            mail.setContent(join(entry.getValue(), LINE_SEPARATOR));
+            return mail;
+        }).collect(toList());
+    }
+
+    private String join(Set<Long> toDoItemIds, String separator) {
+        return toDoItemIds.stream().map(String::valueOf).collect(Collectors.joining(separator));
+    }
+
+    private static final class MailRoute {
+        private final EmailAddress from;
+        private final EmailAddress to;
+
+        private MailRoute(EmailAddress from, EmailAddress to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            MailRoute mailRoute = (MailRoute) o;
+            return Objects.equals(from, mailRoute.from) && Objects.equals(to, mailRoute.to);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(from, to);
+        }
+    }
+}
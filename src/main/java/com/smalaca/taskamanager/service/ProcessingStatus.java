@@ -0,0 +1,62 @@
+package com.smalaca.taskamanager.service;
+
+public final class ProcessingStatus {
+    public static final int PROCESSED = 1;
+    public static final int NOT_FOUND = -1;
+    public static final int FAILED = -2;
+
+    private final String ticket;
+    private final ToDoItemType type;
+    private final Long itemId;
+    private final Integer result;
+
+    private ProcessingStatus(String ticket, ToDoItemType type, Long itemId, Integer result) {
+        this.ticket = ticket;
+        this.type = type;
+        this.itemId = itemId;
+        this.result = result;
+    }
+
+    static ProcessingStatus pending(String ticket, ToDoItemType type, Long itemId) {
+        return new ProcessingStatus(ticket, type, itemId, null);
+    }
+
+    ProcessingStatus finishedWith(int result) {
+        return new ProcessingStatus(ticket, type, itemId, result);
+    }
+
+    public String getTicket() {
+        return ticket;
+    }
+
+    public ToDoItemType getType() {
+        return type;
+    }
+
+    public Long getItemId() {
+        return itemId;
+    }
+
+    public Integer getResult() {
+        return result;
+    }
+
+    public boolean isPending() {
+        return result == null;
+    }
+
+    public String getState() {
+        if (isPending()) {
+            return "PENDING";
+        }
+
+        switch (result) {
+            case PROCESSED:
+                return "PROCESSED";
+            case NOT_FOUND:
+                return "NOT_FOUND";
+            default:
+                return "FAILED";
+        }
+    }
+}
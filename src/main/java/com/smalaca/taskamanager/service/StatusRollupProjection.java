@@ -0,0 +1,84 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.events.ToDoItemStatusChangedEvent;
+import com.smalaca.taskamanager.model.entities.RollupEntry;
+import com.smalaca.taskamanager.model.entities.StatusRollup;
+import com.smalaca.taskamanager.model.enums.RollupScope;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.repository.RollupEntryRepository;
+import com.smalaca.taskamanager.repository.StatusRollupRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Component
+public class StatusRollupProjection {
+    private final RollupEntryRepository entryRepository;
+    private final StatusRollupRepository rollupRepository;
+
+    public StatusRollupProjection(RollupEntryRepository entryRepository, StatusRollupRepository rollupRepository) {
+        this.entryRepository = entryRepository;
+        this.rollupRepository = rollupRepository;
+    }
+
+    @Transactional
+    @EventListener
+    public void on(ToDoItemStatusChangedEvent event) {
+        Optional<RollupEntry> found = entryRepository.findByItemTypeAndItemId(event.getType(), event.getToDoItemId());
+        found.ifPresent(entry -> count(entry, -1));
+
+        if (event.getStatus() == null) {
+            found.ifPresent(entryRepository::delete);
+        } else {
+            RollupEntry entry = found.orElseGet(RollupEntry::new);
+            entry.setItemType(event.getType());
+            entry.setItemId(event.getToDoItemId());
+            entry.setStatus(ToDoItemStatus.valueOf(event.getStatus()));
+            entry.setEpicId(event.getEpicId());
+            entry.setProjectId(event.getProjectId());
+            entry.setSprintId(event.getSprintId());
+            count(entry, 1);
+            entryRepository.save(entry);
+        }
+    }
+
+    @Transactional
+    @EventListener
+    public void on(StoryDoneEvent event) {
+        entryRepository.findByItemTypeAndItemId(ToDoItemType.STORY.name(), event.getStoryId()).ifPresent(entry -> {
+            count(entry, -1);
+            entry.setStatus(ToDoItemStatus.DONE);
+            count(entry, 1);
+            entryRepository.save(entry);
+        });
+    }
+
+    private void count(RollupEntry entry, long delta) {
+        count(RollupScope.EPIC, entry.getEpicId(), entry, delta);
+        count(RollupScope.PROJECT, entry.getProjectId(), entry, delta);
+        count(RollupScope.SPRINT, entry.getSprintId(), entry, delta);
+    }
+
+    private void count(RollupScope scope, Long scopeId, RollupEntry entry, long delta) {
+        if (scopeId == null) {
+            return;
+        }
+
+        StatusRollup rollup = rollupRepository.findByScopeAndScopeIdAndItemTypeAndStatus(scope, scopeId, entry.getItemType(), entry.getStatus())
+                .orElseGet(() -> newRollup(scope, scopeId, entry));
+        rollup.add(delta);
+        rollupRepository.save(rollup);
+    }
+
+    private StatusRollup newRollup(RollupScope scope, Long scopeId, RollupEntry entry) {
+        StatusRollup rollup = new StatusRollup();
+        rollup.setScope(scope);
+        rollup.setScopeId(scopeId);
+        rollup.setItemType(entry.getItemType());
+        rollup.setStatus(entry.getStatus());
+        return rollup;
+    }
+}
@@ -4,11 +4,15 @@ import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Task;
 import org.springframework.stereotype.Service;
 
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+
 @Service
 public class StoryServiceImpl implements StoryService {
     @Override
     public void updateProgressOf(Story story, Task task) {
-
+        if (story.getProgress().isAllDone() && story.getStatus().compareTo(DONE) < 0) {
+            story.setStatus(DONE);
+        }
     }
 
     @Override
@@ -0,0 +1,102 @@
+package com.smalaca.taskamanager.service;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.smalaca.taskamanager.infrastructure.executor.PartitionedExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+@Service
+@SuppressWarnings("checkstyle:IllegalCatch")
+public class ToDoItemProcessingQueue {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ToDoItemProcessingQueue.class);
+    private static final long MAXIMUM_TICKETS = 10_000;
+    private static final long TICKET_RETENTION_MINUTES = 15;
+
+    private final ToDoItemService toDoItemService;
+    private final TransactionTemplate transactionTemplate;
+    private final PartitionedExecutor executor;
+    private final Cache<String, ProcessingStatus> statuses = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_TICKETS)
+            .expireAfterWrite(TICKET_RETENTION_MINUTES, TimeUnit.MINUTES)
+            .build();
+
+    public ToDoItemProcessingQueue(
+            ToDoItemService toDoItemService, PlatformTransactionManager transactionManager,
+            @Value("${todo-item-processing.async:false}") boolean async,
+            @Value("${todo-item-processing.partitions:4}") int partitions,
+            @Value("${todo-item-processing.capacity-per-partition:100}") int capacityPerPartition,
+            @Value("${todo-item-processing.offer-timeout-millis:500}") long offerTimeoutMillis) {
+        this.toDoItemService = toDoItemService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        if (async) {
+            executor = new PartitionedExecutor("todo-item-processing", partitions, capacityPerPartition, offerTimeoutMillis);
+        } else {
+            executor = null;
+        }
+    }
+
+    public Optional<String> submitEpic(Long epicId) {
+        return submit(ToDoItemType.EPIC, epicId, toDoItemService::processEpic);
+    }
+
+    public Optional<String> submitStory(Long storyId) {
+        return submit(ToDoItemType.STORY, storyId, toDoItemService::processStory);
+    }
+
+    public Optional<String> submitTask(Long taskId) {
+        return submit(ToDoItemType.TASK, taskId, toDoItemService::processTask);
+    }
+
+    public Optional<ProcessingStatus> statusOf(String ticket) {
+        return Optional.ofNullable(statuses.getIfPresent(ticket));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    private Optional<String> submit(ToDoItemType type, Long id, ToIntFunction<Long> processing) {
+        if (executor == null) {
+            processing.applyAsInt(id);
+            return Optional.empty();
+        }
+
+        String ticket = UUID.randomUUID().toString();
+        ProcessingStatus pending = ProcessingStatus.pending(ticket, type, id);
+        statuses.put(ticket, pending);
+
+        try {
+            executor.execute(type.name() + id, () -> statuses.put(ticket, pending.finishedWith(process(type, id, processing))));
+        } catch (RejectedExecutionException exception) {
+            statuses.invalidate(ticket);
+            throw exception;
+        }
+
+        return Optional.of(ticket);
+    }
+
+    private int process(ToDoItemType type, Long id, ToIntFunction<Long> processing) {
+        try {
+            return Optional.ofNullable(transactionTemplate.execute(status -> processing.applyAsInt(id))).orElse(ProcessingStatus.FAILED);
+        } catch (RuntimeException exception) {
+            LOGGER.error("Failed to process {} {}.", type, id, exception);
+            return ProcessingStatus.FAILED;
+        }
+    }
+}
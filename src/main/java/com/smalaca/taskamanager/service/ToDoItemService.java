@@ -3,13 +3,24 @@ package com.smalaca.taskamanager.service;
 import com.smalaca.taskamanager.model.entities.Epic;
 import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
 import com.smalaca.taskamanager.processor.ToDoItemProcessor;
+import com.smalaca.taskamanager.registry.EventsRegistry;
 import com.smalaca.taskamanager.repository.EpicRepository;
 import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TaskRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @SuppressWarnings({"IllegalCatch", "MagicNumber"})
@@ -18,13 +29,18 @@ public class ToDoItemService {
     private final EpicRepository epicRepository;
     private final StoryRepository storyRepository;
     private final TaskRepository taskRepository;
+    private final EventsRegistry eventsRegistry;
+    private final TransactionTemplate transactionTemplate;
 
     public ToDoItemService(
-            ToDoItemProcessor processor, EpicRepository epicRepository, StoryRepository storyRepository, TaskRepository taskRepository) {
+            ToDoItemProcessor processor, EpicRepository epicRepository, StoryRepository storyRepository, TaskRepository taskRepository,
+            EventsRegistry eventsRegistry, PlatformTransactionManager transactionManager) {
         this.processor = processor;
         this.epicRepository = epicRepository;
         this.storyRepository = storyRepository;
         this.taskRepository = taskRepository;
+        this.eventsRegistry = eventsRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     public int processTask(Long taskId) {
@@ -35,6 +51,7 @@ public class ToDoItemService {
         }
 
         Task task = found.get();
+        eventsRegistry.publish(ToDoItemStatusChanges.statusOf(task));
 
         try {
             processor.processFor(task);
@@ -52,6 +69,7 @@ public class ToDoItemService {
         }
 
         Story story = found.get();
+        eventsRegistry.publish(ToDoItemStatusChanges.statusOf(story));
 
         try {
             processor.processFor(story);
@@ -66,6 +84,7 @@ public class ToDoItemService {
 
         if (found.isPresent()) {
             Epic epic = found.get();
+            eventsRegistry.publish(ToDoItemStatusChanges.statusOf(epic));
 
             try {
                 processor.processFor(epic);
@@ -77,4 +96,50 @@ public class ToDoItemService {
             return -1;
         }
     }
+
+    public Map<Long, Integer> processAll(ToDoItemType type, Map<Long, ToDoItemStatus> statuses) {
+        return transactionTemplate.execute(transaction -> processAll(type, statuses, transaction));
+    }
+
+    private Map<Long, Integer> processAll(ToDoItemType type, Map<Long, ToDoItemStatus> statuses, TransactionStatus transaction) {
+        Map<Long, Integer> results = new LinkedHashMap<>();
+        statuses.keySet().forEach(id -> results.put(id, ProcessingStatus.NOT_FOUND));
+        List<ToDoItem> changed = new ArrayList<>();
+
+        for (ToDoItem toDoItem : findAllById(type, statuses.keySet())) {
+            ToDoItemStatus status = statuses.get(toDoItem.getId());
+            results.put(toDoItem.getId(), ProcessingStatus.PROCESSED);
+
+            if (status != toDoItem.getStatus()) {
+                toDoItem.setStatus(status);
+                changed.add(toDoItem);
+            }
+        }
+
+        changed.forEach(toDoItem -> eventsRegistry.publish(ToDoItemStatusChanges.statusOf(toDoItem)));
+
+        List<ToDoItem> failed = processor.processAll(changed);
+
+        if (transaction.isRollbackOnly()) {
+            transaction.setRollbackOnly();
+            changed.forEach(toDoItem -> results.put(toDoItem.getId(), ProcessingStatus.FAILED));
+        } else {
+            failed.forEach(toDoItem -> results.put(toDoItem.getId(), ProcessingStatus.FAILED));
+        }
+
+        return results;
+    }
+
+    private Iterable<? extends ToDoItem> findAllById(ToDoItemType type, Set<Long> ids) {
+        switch (type) {
+            case EPIC:
+                return epicRepository.findAllById(ids);
+
+            case STORY:
+                return storyRepository.findAllById(ids);
+
+            default:
+                return taskRepository.findAllById(ids);
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.events.ToDoItemStatusChangedEvent;
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+
+public final class ToDoItemStatusChanges {
+    private ToDoItemStatusChanges() {}
+
+    public static ToDoItemStatusChangedEvent statusOf(ToDoItem toDoItem) {
+        ToDoItemStatusChangedEvent event = removalOf(toDoItem);
+        event.setStatus(toDoItem.getStatus().name());
+        return event;
+    }
+
+    public static ToDoItemStatusChangedEvent removalOf(ToDoItem toDoItem) {
+        ToDoItemStatusChangedEvent event = new ToDoItemStatusChangedEvent();
+        event.setToDoItemId(toDoItem.getId());
+
+        if (toDoItem instanceof Task) {
+            Task task = (Task) toDoItem;
+            event.setType(ToDoItemType.TASK.name());
+            event.setSprintId(idOf(task.getCurrentSprint()));
+            withScopesOf(task.getStory(), event);
+        } else if (toDoItem instanceof Story) {
+            Story story = (Story) toDoItem;
+            event.setType(ToDoItemType.STORY.name());
+            event.setSprintId(idOf(story.getCurrentSprint()));
+            withScopesOf(story, event);
+        } else {
+            event.setType(ToDoItemType.EPIC.name());
+            withProjectOf((Epic) toDoItem, event);
+        }
+
+        return event;
+    }
+
+    private static void withScopesOf(Story story, ToDoItemStatusChangedEvent event) {
+        if (story != null && story.getEpic() != null) {
+            event.setEpicId(story.getEpic().getId());
+            withProjectOf(story.getEpic(), event);
+        }
+    }
+
+    private static void withProjectOf(Epic epic, ToDoItemStatusChangedEvent event) {
+        if (epic.getProject() != null) {
+            event.setProjectId(epic.getProject().getId());
+        }
+    }
+
+    private static Long idOf(Sprint sprint) {
+        if (sprint == null) {
+            return null;
+        }
+
+        return sprint.getId();
+    }
+}
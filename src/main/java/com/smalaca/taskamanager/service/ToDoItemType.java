@@ -0,0 +1,5 @@
+package com.smalaca.taskamanager.service;
+
+public enum ToDoItemType {
+    EPIC, STORY, TASK
+}
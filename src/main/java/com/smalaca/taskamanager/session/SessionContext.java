@@ -0,0 +1,37 @@
+package com.smalaca.taskamanager.session;
+
+import com.google.common.base.Suppliers;
+import com.smalaca.taskamanager.model.embedded.EmailAddress;
+import com.smalaca.taskamanager.model.entities.User;
+
+import java.util.function.Supplier;
+
+public final class SessionContext {
+    private final Supplier<User> user;
+
+    private SessionContext(Supplier<User> user) {
+        this.user = user;
+    }
+
+    static SessionContext of(User user) {
+        return new SessionContext(() -> user);
+    }
+
+    static SessionContext resolvedOnDemand(Supplier<User> user) {
+        return new SessionContext(Suppliers.memoize(user::get));
+    }
+
+    public User user() {
+        return user.get();
+    }
+
+    public EmailAddress emailAddress() {
+        User current = user();
+
+        if (current == null) {
+            return null;
+        }
+
+        return current.getEmailAddress();
+    }
+}
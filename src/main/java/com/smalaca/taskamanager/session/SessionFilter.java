@@ -0,0 +1,41 @@
+package com.smalaca.taskamanager.session;
+
+import com.smalaca.taskamanager.repository.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.security.Principal;
+
+@Component
+public class SessionFilter extends OncePerRequestFilter {
+    private final UserRepository userRepository;
+
+    public SessionFilter(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SessionHolder sessionHolder = SessionHolder.instance();
+        sessionHolder.logOut();
+
+        try {
+            Principal principal = request.getUserPrincipal();
+
+            if (principal != null) {
+                String login = principal.getName();
+                sessionHolder.logInOnDemand(() -> userRepository.findFirstByLogin(login).orElse(null));
+            }
+
+            filterChain.doFilter(request, response);
+        } finally {
+            sessionHolder.logOut();
+        }
+    }
+}
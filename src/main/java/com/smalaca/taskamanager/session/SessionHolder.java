@@ -2,10 +2,12 @@ package com.smalaca.taskamanager.session;
 
 import com.smalaca.taskamanager.model.entities.User;
 
+import java.util.function.Supplier;
+
 public final class SessionHolder {
     private static final SessionHolder INSTANCE = new SessionHolder();
 
-    private User user;
+    private final ThreadLocal<SessionContext> context = new ThreadLocal<>();
 
     private SessionHolder() {}
 
@@ -14,10 +16,55 @@ public final class SessionHolder {
     }
 
     public void logIn(User user) {
-        this.user = user;
+        context.set(SessionContext.of(user));
+    }
+
+    void logInOnDemand(Supplier<User> user) {
+        context.set(SessionContext.resolvedOnDemand(user));
+    }
+
+    public void logOut() {
+        context.remove();
     }
 
     public User logged() {
-        return user;
+        SessionContext current = context.get();
+
+        if (current == null) {
+            return null;
+        }
+
+        return current.user();
+    }
+
+    public SessionContext current() {
+        return context.get();
+    }
+
+    public Runnable propagating(Runnable task) {
+        SessionContext captured = context.get();
+
+        if (captured == null) {
+            return task;
+        }
+
+        return () -> {
+            SessionContext previous = context.get();
+            context.set(captured);
+
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private void restore(SessionContext previous) {
+        if (previous == null) {
+            context.remove();
+        } else {
+            context.set(previous);
+        }
     }
 }
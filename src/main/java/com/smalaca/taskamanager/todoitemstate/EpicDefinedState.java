@@ -0,0 +1,30 @@
+package com.smalaca.taskamanager.todoitemstate;
+
+import com.smalaca.taskamanager.events.EpicReadyToPrioritize;
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import com.smalaca.taskamanager.registry.EventsRegistry;
+import com.smalaca.taskamanager.service.CommunicationService;
+import com.smalaca.taskamanager.service.ProjectBacklogService;
+
+class EpicDefinedState implements ToDoItemState {
+    private final ProjectBacklogService projectBacklogService;
+    private final EventsRegistry eventsRegistry;
+    private final CommunicationService communicationService;
+
+    EpicDefinedState(ProjectBacklogService projectBacklogService, EventsRegistry eventsRegistry, CommunicationService communicationService) {
+        this.projectBacklogService = projectBacklogService;
+        this.eventsRegistry = eventsRegistry;
+        this.communicationService = communicationService;
+    }
+
+    @Override
+    public void process(ToDoItem toDoItem) {
+        Epic epic = (Epic) toDoItem;
+        projectBacklogService.putOnTop(epic);
+        EpicReadyToPrioritize event = new EpicReadyToPrioritize();
+        event.setEpicId(epic.getId());
+        eventsRegistry.publish(event);
+        communicationService.notify(epic, epic.getProject().getProductOwner());
+    }
+}
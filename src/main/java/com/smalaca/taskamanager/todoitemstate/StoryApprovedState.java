@@ -0,0 +1,20 @@
+package com.smalaca.taskamanager.todoitemstate;
+
+import com.smalaca.taskamanager.events.StoryApprovedEvent;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import com.smalaca.taskamanager.registry.EventsRegistry;
+
+class StoryApprovedState implements ToDoItemState {
+    private final EventsRegistry eventsRegistry;
+
+    StoryApprovedState(EventsRegistry eventsRegistry) {
+        this.eventsRegistry = eventsRegistry;
+    }
+
+    @Override
+    public void process(ToDoItem toDoItem) {
+        StoryApprovedEvent event = new StoryApprovedEvent();
+        event.setStoryId(toDoItem.getId());
+        eventsRegistry.publish(event);
+    }
+}
@@ -0,0 +1,27 @@
+package com.smalaca.taskamanager.todoitemstate;
+
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import com.smalaca.taskamanager.service.CommunicationService;
+import com.smalaca.taskamanager.service.ProjectBacklogService;
+
+class StoryDefinedState implements ToDoItemState {
+    private final ProjectBacklogService projectBacklogService;
+    private final CommunicationService communicationService;
+
+    StoryDefinedState(ProjectBacklogService projectBacklogService, CommunicationService communicationService) {
+        this.projectBacklogService = projectBacklogService;
+        this.communicationService = communicationService;
+    }
+
+    @Override
+    public void process(ToDoItem toDoItem) {
+        Story story = (Story) toDoItem;
+
+        if (story.getTasks().isEmpty()) {
+            projectBacklogService.moveToReadyForDevelopment(story, story.getProject());
+        } else if (!story.isAssigned()) {
+            communicationService.notifyTeamsAbout(story, story.getProject());
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.smalaca.taskamanager.todoitemstate;
+
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import com.smalaca.taskamanager.registry.EventsRegistry;
+
+class StoryDoneState implements ToDoItemState {
+    private final EventsRegistry eventsRegistry;
+
+    StoryDoneState(EventsRegistry eventsRegistry) {
+        this.eventsRegistry = eventsRegistry;
+    }
+
+    @Override
+    public void process(ToDoItem toDoItem) {
+        StoryDoneEvent event = new StoryDoneEvent();
+        event.setStoryId(toDoItem.getId());
+        eventsRegistry.publish(event);
+    }
+}
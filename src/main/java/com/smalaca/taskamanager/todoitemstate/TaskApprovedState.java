@@ -0,0 +1,30 @@
+package com.smalaca.taskamanager.todoitemstate;
+
+import com.smalaca.taskamanager.events.TaskApprovedEvent;
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import com.smalaca.taskamanager.registry.EventsRegistry;
+import com.smalaca.taskamanager.service.StoryService;
+
+class TaskApprovedState implements ToDoItemState {
+    private final StoryService storyService;
+    private final EventsRegistry eventsRegistry;
+
+    TaskApprovedState(StoryService storyService, EventsRegistry eventsRegistry) {
+        this.storyService = storyService;
+        this.eventsRegistry = eventsRegistry;
+    }
+
+    @Override
+    public void process(ToDoItem toDoItem) {
+        Task task = (Task) toDoItem;
+
+        if (task.isSubtask()) {
+            TaskApprovedEvent event = new TaskApprovedEvent();
+            event.setTaskId(task.getId());
+            eventsRegistry.publish(event);
+        } else {
+            storyService.attachPartialApprovalFor(task.getStory().getId(), task.getId());
+        }
+    }
+}
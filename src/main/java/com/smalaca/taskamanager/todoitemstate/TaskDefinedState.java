@@ -0,0 +1,19 @@
+package com.smalaca.taskamanager.todoitemstate;
+
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import com.smalaca.taskamanager.service.SprintBacklogService;
+
+class TaskDefinedState implements ToDoItemState {
+    private final SprintBacklogService sprintBacklogService;
+
+    TaskDefinedState(SprintBacklogService sprintBacklogService) {
+        this.sprintBacklogService = sprintBacklogService;
+    }
+
+    @Override
+    public void process(ToDoItem toDoItem) {
+        Task task = (Task) toDoItem;
+        sprintBacklogService.moveToReadyForDevelopment(task, task.getCurrentSprint());
+    }
+}
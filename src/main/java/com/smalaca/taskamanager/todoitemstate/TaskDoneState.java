@@ -0,0 +1,33 @@
+package com.smalaca.taskamanager.todoitemstate;
+
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import com.smalaca.taskamanager.registry.EventsRegistry;
+import com.smalaca.taskamanager.service.StoryService;
+
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+
+class TaskDoneState implements ToDoItemState {
+    private final StoryService storyService;
+    private final EventsRegistry eventsRegistry;
+
+    TaskDoneState(StoryService storyService, EventsRegistry eventsRegistry) {
+        this.storyService = storyService;
+        this.eventsRegistry = eventsRegistry;
+    }
+
+    @Override
+    public void process(ToDoItem toDoItem) {
+        Task task = (Task) toDoItem;
+        Story story = task.getStory();
+        storyService.updateProgressOf(story, task);
+
+        if (DONE.equals(story.getStatus())) {
+            StoryDoneEvent event = new StoryDoneEvent();
+            event.setStoryId(story.getId());
+            eventsRegistry.publish(event);
+        }
+    }
+}
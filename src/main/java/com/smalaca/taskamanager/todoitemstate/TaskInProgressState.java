@@ -0,0 +1,19 @@
+package com.smalaca.taskamanager.todoitemstate;
+
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import com.smalaca.taskamanager.service.StoryService;
+
+class TaskInProgressState implements ToDoItemState {
+    private final StoryService storyService;
+
+    TaskInProgressState(StoryService storyService) {
+        this.storyService = storyService;
+    }
+
+    @Override
+    public void process(ToDoItem toDoItem) {
+        Task task = (Task) toDoItem;
+        storyService.updateProgressOf(task.getStory(), task);
+    }
+}
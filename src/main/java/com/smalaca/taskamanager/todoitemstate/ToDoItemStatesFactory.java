@@ -1,17 +1,55 @@
 package com.smalaca.taskamanager.todoitemstate;
 
-import com.google.common.collect.ImmutableMap;
 import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.registry.EventsRegistry;
+import com.smalaca.taskamanager.service.CommunicationService;
+import com.smalaca.taskamanager.service.ProjectBacklogService;
+import com.smalaca.taskamanager.service.SprintBacklogService;
 import com.smalaca.taskamanager.service.StoryService;
+import com.smalaca.taskamanager.service.ToDoItemType;
 
-import java.util.Map;
+import java.util.Arrays;
 
-public class ToDoItemStatesFactory {
-    public Map<ToDoItemStatus, ToDoItemState> getAll(StoryService storyService, EventsRegistry eventsRegistry) {
-        return ImmutableMap.of(
-                ToDoItemStatus.APPROVED, new ToDoItemApprovedState(storyService, eventsRegistry),
-                ToDoItemStatus.RELEASED, new ToDoItemReleasedState(eventsRegistry)
-        );
+import static com.smalaca.taskamanager.service.ToDoItemType.EPIC;
+import static com.smalaca.taskamanager.service.ToDoItemType.STORY;
+import static com.smalaca.taskamanager.service.ToDoItemType.TASK;
+
+class ToDoItemStatesFactory {
+    static final int UNSUPPORTED_TYPE = ToDoItemType.values().length;
+
+    private static final ToDoItemState NO_ACTION = toDoItem -> { };
+
+    private final StoryService storyService;
+    private final EventsRegistry eventsRegistry;
+    private final ProjectBacklogService projectBacklogService;
+    private final CommunicationService communicationService;
+    private final SprintBacklogService sprintBacklogService;
+
+    ToDoItemStatesFactory(
+            StoryService storyService, EventsRegistry eventsRegistry, ProjectBacklogService projectBacklogService,
+            CommunicationService communicationService, SprintBacklogService sprintBacklogService) {
+        this.storyService = storyService;
+        this.eventsRegistry = eventsRegistry;
+        this.projectBacklogService = projectBacklogService;
+        this.communicationService = communicationService;
+        this.sprintBacklogService = sprintBacklogService;
+    }
+
+    ToDoItemState[][] getAll() {
+        ToDoItemState[][] states = new ToDoItemState[ToDoItemStatus.values().length][UNSUPPORTED_TYPE + 1];
+        Arrays.stream(states).forEach(row -> Arrays.fill(row, NO_ACTION));
+
+        states[ToDoItemStatus.DEFINED.ordinal()][EPIC.ordinal()] = new EpicDefinedState(projectBacklogService, eventsRegistry, communicationService);
+        states[ToDoItemStatus.DEFINED.ordinal()][STORY.ordinal()] = new StoryDefinedState(projectBacklogService, communicationService);
+        states[ToDoItemStatus.DEFINED.ordinal()][TASK.ordinal()] = new TaskDefinedState(sprintBacklogService);
+        states[ToDoItemStatus.DEFINED.ordinal()][UNSUPPORTED_TYPE] = new UnsupportedToDoItemState();
+        states[ToDoItemStatus.IN_PROGRESS.ordinal()][TASK.ordinal()] = new TaskInProgressState(storyService);
+        states[ToDoItemStatus.DONE.ordinal()][STORY.ordinal()] = new StoryDoneState(eventsRegistry);
+        states[ToDoItemStatus.DONE.ordinal()][TASK.ordinal()] = new TaskDoneState(storyService, eventsRegistry);
+        states[ToDoItemStatus.APPROVED.ordinal()][STORY.ordinal()] = new StoryApprovedState(eventsRegistry);
+        states[ToDoItemStatus.APPROVED.ordinal()][TASK.ordinal()] = new TaskApprovedState(storyService, eventsRegistry);
+        Arrays.fill(states[ToDoItemStatus.RELEASED.ordinal()], new ToDoItemReleasedState(eventsRegistry));
+
+        return states;
     }
 }
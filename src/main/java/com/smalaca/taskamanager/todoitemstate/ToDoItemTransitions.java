@@ -0,0 +1,95 @@
+package com.smalaca.taskamanager.todoitemstate;
+
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+import com.smalaca.taskamanager.registry.EventsRegistry;
+import com.smalaca.taskamanager.service.CommunicationService;
+import com.smalaca.taskamanager.service.ProjectBacklogService;
+import com.smalaca.taskamanager.service.SprintBacklogService;
+import com.smalaca.taskamanager.service.StoryService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.smalaca.taskamanager.service.ToDoItemType.EPIC;
+import static com.smalaca.taskamanager.service.ToDoItemType.STORY;
+import static com.smalaca.taskamanager.service.ToDoItemType.TASK;
+import static com.smalaca.taskamanager.todoitemstate.ToDoItemStatesFactory.UNSUPPORTED_TYPE;
+
+public class ToDoItemTransitions {
+    private static final Set<ToDoItemStatus> STORY_PROGRESS = EnumSet.of(ToDoItemStatus.IN_PROGRESS, ToDoItemStatus.DONE);
+
+    private final ToDoItemState[][] states;
+
+    public ToDoItemTransitions(
+            StoryService storyService, EventsRegistry eventsRegistry, ProjectBacklogService projectBacklogService,
+            CommunicationService communicationService, SprintBacklogService sprintBacklogService) {
+        states = new ToDoItemStatesFactory(
+                storyService, eventsRegistry, projectBacklogService, communicationService, sprintBacklogService).getAll();
+    }
+
+    public ToDoItemState stateOf(ToDoItem toDoItem) {
+        return states[toDoItem.getStatus().ordinal()][typeOf(toDoItem)];
+    }
+
+    @SuppressWarnings("IllegalCatch")
+    public List<ToDoItem> processAll(Collection<? extends ToDoItem> toDoItems) {
+        Map<Story, List<Task>> progressedTasks = new LinkedHashMap<>();
+        List<ToDoItem> failed = new ArrayList<>();
+
+        for (ToDoItem toDoItem : toDoItems) {
+            if (isProgressOfStory(toDoItem)) {
+                Task task = (Task) toDoItem;
+                progressedTasks.computeIfAbsent(task.getStory(), story -> new ArrayList<>()).add(task);
+            } else if (!tryToProcess(toDoItem)) {
+                failed.add(toDoItem);
+            }
+        }
+
+        progressedTasks.values().forEach(tasks -> {
+            if (!tryToProcess(tasks.get(tasks.size() - 1))) {
+                failed.addAll(tasks);
+            }
+        });
+
+        return failed;
+    }
+
+    @SuppressWarnings("IllegalCatch")
+    private boolean tryToProcess(ToDoItem toDoItem) {
+        try {
+            stateOf(toDoItem).process(toDoItem);
+            return true;
+        } catch (RuntimeException exception) {
+            return false;
+        }
+    }
+
+    private boolean isProgressOfStory(ToDoItem toDoItem) {
+        return toDoItem instanceof Task && ((Task) toDoItem).getStory() != null && STORY_PROGRESS.contains(toDoItem.getStatus());
+    }
+
+    private int typeOf(ToDoItem toDoItem) {
+        if (toDoItem instanceof Task) {
+            return TASK.ordinal();
+        }
+
+        if (toDoItem instanceof Story) {
+            return STORY.ordinal();
+        }
+
+        if (toDoItem instanceof Epic) {
+            return EPIC.ordinal();
+        }
+
+        return UNSUPPORTED_TYPE;
+    }
+}
@@ -0,0 +1,11 @@
+package com.smalaca.taskamanager.todoitemstate;
+
+import com.smalaca.taskamanager.exception.UnsupportedToDoItemType;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
+
+class UnsupportedToDoItemState implements ToDoItemState {
+    @Override
+    public void process(ToDoItem toDoItem) {
+        throw new UnsupportedToDoItemType();
+    }
+}
@@ -4,6 +4,7 @@ import com.smalaca.taskamanager.dto.AssigneeDto;
 import com.smalaca.taskamanager.dto.EpicDto;
 import com.smalaca.taskamanager.dto.StakeholderDto;
 import com.smalaca.taskamanager.dto.WatcherDto;
+import com.smalaca.taskamanager.events.ToDoItemStatusChangedEvent;
 import com.smalaca.taskamanager.model.embedded.Assignee;
 import com.smalaca.taskamanager.model.embedded.EmailAddress;
 import com.smalaca.taskamanager.model.embedded.Owner;
@@ -16,15 +17,18 @@ import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.registry.EventsRegistry;
 import com.smalaca.taskamanager.repository.EpicRepository;
 import com.smalaca.taskamanager.repository.ProjectRepository;
 import com.smalaca.taskamanager.repository.TeamRepository;
 import com.smalaca.taskamanager.repository.UserRepository;
-import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.repository.UserSnapshotCache;
+import com.smalaca.taskamanager.service.ToDoItemProcessingQueue;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.lang.reflect.Field;
 import java.util.Optional;
@@ -59,30 +63,39 @@ class EpicControllerTest {
     private static final long STAKEHOLDER_ID = 17;
     private static final long TEAM_ID = 987;
     private static final long ASSIGNEE_ID = 476;
+    private static final long VERSION = 7;
+    private static final String NO_ETAG = null;
+    private static final String CURRENT_ETAG = "\"7\"";
+    private static final String STALE_ETAG = "\"6\"";
+    private static final String TICKET = "c0ffee";
+    private static final long CACHE_SIZE = 100;
+    private static final long CACHE_TTL_SECONDS = 60;
 
     private final EpicRepository epicRepository = mock(EpicRepository.class);
     private final UserRepository userRepository = mock(UserRepository.class);
     private final TeamRepository teamRepository = mock(TeamRepository.class);
     private final ProjectRepository projectRepository = mock(ProjectRepository.class);
-    private final ToDoItemService toDoItemService = mock(ToDoItemService.class);
+    private final ToDoItemProcessingQueue toDoItemProcessingQueue = mock(ToDoItemProcessingQueue.class);
+    private final EventsRegistry eventsRegistry = mock(EventsRegistry.class);
     private final EpicController controller = new EpicController(
-            epicRepository, userRepository, teamRepository, projectRepository, toDoItemService);
+            epicRepository, userRepository, teamRepository, projectRepository, toDoItemProcessingQueue,
+            new UserSnapshotCache(userRepository, CACHE_SIZE, CACHE_TTL_SECONDS), eventsRegistry);
     private final ArgumentCaptor<Epic> epicCaptor = ArgumentCaptor.forClass(Epic.class);
 
     @Test
     void shouldNotFindEpic() {
-        given(epicRepository.findById(EPIC_ID)).willReturn(Optional.empty());
+        given(epicRepository.findDetailedById(EPIC_ID)).willReturn(Optional.empty());
 
-        ResponseEntity<EpicDto> actual = controller.findById(EPIC_ID);
+        ResponseEntity<EpicDto> actual = controller.findById(EPIC_ID, NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
     @Test
     void shouldFindEpic() {
-        given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(existingEpic()));
+        given(epicRepository.findDetailedById(EPIC_ID)).willReturn(Optional.of(existingEpic()));
 
-        ResponseEntity<EpicDto> actual = controller.findById(EPIC_ID);
+        ResponseEntity<EpicDto> actual = controller.findById(EPIC_ID, NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         EpicDto dto = actual.getBody();
@@ -172,6 +185,7 @@ class EpicControllerTest {
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(actual.getBody()).isEqualTo(EPIC_ID);
+        then(eventsRegistry).should().publish(any(ToDoItemStatusChangedEvent.class));
         then(epicRepository).should().save(epicCaptor.capture());
         Epic epic = epicCaptor.getValue();
         assertThat(epic.getTitle()).isEqualTo(TITLE);
@@ -201,11 +215,55 @@ class EpicControllerTest {
         return dto;
     }
 
+    @Test
+    void shouldRespondNotModifiedWithoutLoadingEpicWhenETagMatches() {
+        given(epicRepository.findVersionById(EPIC_ID)).willReturn(Optional.of(VERSION));
+
+        ResponseEntity<EpicDto> actual = controller.findById(EPIC_ID, CURRENT_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(actual.getHeaders().getETag()).isEqualTo(CURRENT_ETAG);
+        then(epicRepository).should(never()).findDetailedById(any());
+    }
+
+    @Test
+    void shouldReturnEpicWithETagWhenETagDoesNotMatch() {
+        given(epicRepository.findVersionById(EPIC_ID)).willReturn(Optional.of(VERSION));
+        given(epicRepository.findDetailedById(EPIC_ID)).willReturn(Optional.of(withVersion(existingEpic(), VERSION)));
+
+        ResponseEntity<EpicDto> actual = controller.findById(EPIC_ID, STALE_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getHeaders().getETag()).isEqualTo(CURRENT_ETAG);
+    }
+
+    @Test
+    void shouldNotUpdateEpicWhenIfMatchIsStale() {
+        given(epicRepository.existsById(EPIC_ID)).willReturn(true);
+        given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(withVersion(epic(), VERSION)));
+
+        ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto(), STALE_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        then(epicRepository).should(never()).save(any());
+    }
+
+    @Test
+    void shouldNotUpdateEpicModifiedConcurrently() {
+        given(epicRepository.existsById(EPIC_ID)).willReturn(true);
+        given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(withVersion(epic(), VERSION)));
+        given(epicRepository.save(any())).willThrow(new ObjectOptimisticLockingFailureException(Epic.class, EPIC_ID));
+
+        ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto(), CURRENT_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
     @Test
     void shouldNotUpdateNotExistingEpic() {
         given(epicRepository.existsById(EPIC_ID)).willReturn(false);
 
-        ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto());
+        ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
@@ -216,7 +274,7 @@ class EpicControllerTest {
         given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epicWithoutOwner()));
         given(userRepository.existsById(OWNER_ID)).willReturn(false);
 
-        ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto());
+        ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.FAILED_DEPENDENCY);
     }
@@ -226,13 +284,13 @@ class EpicControllerTest {
         given(epicRepository.existsById(EPIC_ID)).willReturn(true);
         given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epic()));
 
-        ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto());
+        ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         then(epicRepository).should().save(epicCaptor.capture());
         Epic epic = epicCaptor.getValue();
         assertThat(epic.getStatus()).isEqualTo(IN_PROGRESS);
-        then(toDoItemService).should(never()).processEpic(any());
+        then(toDoItemProcessingQueue).should(never()).submitEpic(any());
     }
 
     @Test
@@ -241,14 +299,16 @@ class EpicControllerTest {
         given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epic()));
         EpicDto dto = updateEpicDto();
         dto.setStatus("RELEASED");
+        given(toDoItemProcessingQueue.submitEpic(EPIC_ID)).willReturn(Optional.of(TICKET));
 
-        ResponseEntity<Void> actual = controller.update(EPIC_ID, dto);
+        ResponseEntity<Void> actual = controller.update(EPIC_ID, dto, NO_ETAG);
 
-        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(actual.getHeaders().getLocation()).hasToString("/processing/" + TICKET);
         then(epicRepository).should().save(epicCaptor.capture());
         Epic epic = epicCaptor.getValue();
         assertThat(epic.getStatus()).isEqualTo(RELEASED);
-        then(toDoItemService).should().processEpic(EPIC_ID);
+        then(toDoItemProcessingQueue).should().submitEpic(EPIC_ID);
     }
 
     @Test
@@ -256,7 +316,7 @@ class EpicControllerTest {
         given(epicRepository.existsById(EPIC_ID)).willReturn(true);
         given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epic()));
 
-        ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto());
+        ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         then(epicRepository).should().save(epicCaptor.capture());
@@ -279,7 +339,7 @@ class EpicControllerTest {
         given(userRepository.existsById(OWNER_ID)).willReturn(true);
         given(userRepository.findById(OWNER_ID)).willReturn(Optional.of(owner()));
 
-        ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto());
+        ResponseEntity<Void> actual = controller.update(EPIC_ID, updateEpicDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         then(epicRepository).should().save(epicCaptor.capture());
@@ -351,6 +411,19 @@ class EpicControllerTest {
         assertThat(epicCaptor.getValue().getId()).isEqualTo(EPIC_ID);
     }
 
+    @Test
+    void shouldPublishRemovalOfDeletedEpic() {
+        given(epicRepository.findById(EPIC_ID)).willReturn(Optional.of(epicWithId()));
+
+        controller.delete(EPIC_ID);
+
+        ArgumentCaptor<ToDoItemStatusChangedEvent> captor = ArgumentCaptor.forClass(ToDoItemStatusChangedEvent.class);
+        then(eventsRegistry).should().publish(captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo("EPIC");
+        assertThat(captor.getValue().getToDoItemId()).isEqualTo(EPIC_ID);
+        assertThat(captor.getValue().getStatus()).isNull();
+    }
+
     @Test
     void shouldNotAddWatcherToNotExistingEpic() {
         given(epicRepository.findById(EPIC_ID)).willReturn(Optional.empty());
@@ -671,6 +744,17 @@ class EpicControllerTest {
         return user;
     }
 
+    private <T> T withVersion(T entity, long version) {
+        try {
+            Field fieldVersion = entity.getClass().getDeclaredField("version");
+            fieldVersion.setAccessible(true);
+            fieldVersion.set(entity, version);
+            return entity;
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private <T> T withId(T entity, long id) {
         try {
             Field fieldId = entity.getClass().getDeclaredField("id");
@@ -0,0 +1,44 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.dto.EventDispatchStatsDto;
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.registry.EventDispatcher;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class EventsControllerTest {
+    private static final int WORKERS = 2;
+    private static final int CAPACITY = 10;
+    private static final long OFFER_TIMEOUT = 10;
+
+    @Test
+    void shouldNotFindStatsWhenAsyncDispatchIsDisabled() {
+        EventsController controller = new EventsController(Optional.empty());
+
+        ResponseEntity<EventDispatchStatsDto> actual = controller.getDispatchStats();
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void shouldReturnDispatchStats() {
+        EventDispatcher dispatcher = new EventDispatcher(mock(ApplicationEventPublisher.class), WORKERS, CAPACITY, OFFER_TIMEOUT);
+        EventsController controller = new EventsController(Optional.of(dispatcher));
+        dispatcher.dispatch(new StoryDoneEvent()).join();
+
+        ResponseEntity<EventDispatchStatsDto> actual = controller.getDispatchStats();
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody().getDispatched()).isEqualTo(1);
+        assertThat(actual.getBody().getFailed()).isZero();
+        assertThat(actual.getBody().getQueueDepth()).isZero();
+        assertThat(actual.getBody().getMaxLatencyMicros()).isGreaterThanOrEqualTo(actual.getBody().getAverageLatencyMicros());
+    }
+}
@@ -3,17 +3,25 @@ package com.smalaca.taskamanager.api.rest;
 import com.smalaca.taskamanager.model.embedded.Codename;
 import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.repository.TeamRepository;
+import com.smalaca.taskamanager.repository.TeamSummary;
 import org.apache.commons.lang3.RandomUtils;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.lang.reflect.Field;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import static java.util.Comparator.comparing;
 import static java.util.List.copyOf;
+import static java.util.stream.Collectors.toList;
 
 class InMemoryTeamRepository implements TeamRepository {
     private final Map<Long, Team> teams = new HashMap<>();
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
 
     public InMemoryTeamRepository() {
         teams.put(1L, createTeam(1L, "Avengers", "A", "Mighty Avengers", "the greatest team on Earth"));
@@ -72,6 +80,33 @@ class InMemoryTeamRepository implements TeamRepository {
         return Optional.empty();
     }
 
+    @Override
+    public List<TeamSummary> findAllSummaries() {
+        return summaries().collect(toList());
+    }
+
+    @Override
+    public Stream<TeamSummary> streamAll() {
+        return summaries();
+    }
+
+    private Stream<TeamSummary> summaries() {
+        return teams.values().stream()
+                .sorted(comparing(Team::getId))
+                .map(this::asSummary);
+    }
+
+    private TeamSummary asSummary(Team team) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", team.getId());
+        values.put("name", team.getName());
+        values.put("codenameShort", team.getCodename().getShortName());
+        values.put("codenameFull", team.getCodename().getFullName());
+        values.put("description", team.getDescription());
+
+        return projectionFactory.createProjection(TeamSummary.class, values);
+    }
+
     @Override
     public Optional<Team> findById(Long id) {
         if (teams.containsKey(id)) {
@@ -6,7 +6,11 @@ import com.smalaca.taskamanager.model.embedded.UserName;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.TeamRole;
 import com.smalaca.taskamanager.repository.UserRepository;
+import com.smalaca.taskamanager.repository.UserSummary;
 import org.apache.commons.lang3.RandomUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -14,15 +18,19 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static com.smalaca.taskamanager.model.enums.TeamRole.BUSINESS_ANALYSIS;
 import static com.smalaca.taskamanager.model.enums.TeamRole.DEVELOPER;
 import static com.smalaca.taskamanager.model.enums.TeamRole.TESTER;
+import static java.util.Comparator.comparing;
 import static java.util.List.copyOf;
+import static java.util.stream.Collectors.toList;
 
 class InMemoryUserRepository implements UserRepository {
     private static final String DUMMY_PASSWORD = "somethingExtremelyConfidential";
     private final Map<Long, User> users = new HashMap<>();
+    private final ProjectionFactory projectionFactory = new SpelAwareProxyProjectionFactory();
 
     public InMemoryUserRepository() {
         users.put(1L, aUser(1L, "Bruce", "Banner", "bbanner", DEVELOPER, "hulk@fake.domain.com", "123456789"));
@@ -90,6 +98,56 @@ class InMemoryUserRepository implements UserRepository {
         return Optional.empty();
     }
 
+    @Override
+    public Optional<User> findFirstByLogin(String login) {
+        for (User user : findAll()) {
+            if (login.equals(user.getLogin())) {
+                return Optional.of(user);
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public List<UserSummary> findSummariesAfter(Long after, Pageable pageable) {
+        return summaries()
+                .filter(user -> user.getId() > after)
+                .limit(pageable.getPageSize())
+                .collect(toList());
+    }
+
+    @Override
+    public List<UserSummary> findAllSummaries() {
+        return summaries().collect(toList());
+    }
+
+    @Override
+    public Stream<UserSummary> streamAll() {
+        return summaries();
+    }
+
+    private Stream<UserSummary> summaries() {
+        return users.values().stream()
+                .sorted(comparing(User::getId))
+                .map(this::asSummary);
+    }
+
+    private UserSummary asSummary(User user) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", user.getId());
+        values.put("firstName", user.getUserName().getFirstName());
+        values.put("lastName", user.getUserName().getLastName());
+        values.put("login", user.getLogin());
+        values.put("password", user.getPassword());
+        values.put("teamRole", user.getTeamRole());
+        values.put("phonePrefix", user.getPhoneNumber().getPrefix());
+        values.put("phoneNumber", user.getPhoneNumber().getNumber());
+        values.put("emailAddress", user.getEmailAddress().getEmailAddress());
+
+        return projectionFactory.createProjection(UserSummary.class, values);
+    }
+
     @Override
     public Optional<User> findById(Long id) {
         if (users.containsKey(id)) {
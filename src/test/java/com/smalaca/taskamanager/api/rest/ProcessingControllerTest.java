@@ -0,0 +1,113 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.dto.BatchItemResultDto;
+import com.smalaca.taskamanager.dto.ProcessingStatusDto;
+import com.smalaca.taskamanager.dto.StatusTransitionDto;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.service.ToDoItemProcessingQueue;
+import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.service.ToDoItemType;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.RELEASED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ProcessingControllerTest {
+    private static final long STORY_ID = 13;
+    private static final long MISSING_ID = 42;
+    private static final long FAILED_ID = 69;
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final long POLL_MILLIS = 10;
+
+    private final ToDoItemService toDoItemService = mock(ToDoItemService.class);
+    private final ToDoItemProcessingQueue queue = new ToDoItemProcessingQueue(
+            toDoItemService, mock(PlatformTransactionManager.class), true, 1, 1, 1);
+    private final ProcessingController controller = new ProcessingController(queue, toDoItemService);
+
+    @Test
+    void shouldNotFindUnknownTicket() {
+        ResponseEntity<ProcessingStatusDto> actual = controller.findByTicket("unknown");
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void shouldReturnProcessingResult() throws InterruptedException {
+        given(toDoItemService.processStory(STORY_ID)).willReturn(1);
+        String ticket = queue.submitStory(STORY_ID).get();
+
+        ResponseEntity<ProcessingStatusDto> actual = awaitFinished(ticket);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody().getTicket()).isEqualTo(ticket);
+        assertThat(actual.getBody().getType()).isEqualTo("STORY");
+        assertThat(actual.getBody().getItemId()).isEqualTo(STORY_ID);
+        assertThat(actual.getBody().getState()).isEqualTo("PROCESSED");
+        assertThat(actual.getBody().getResult()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotTransitionItemsOfUnknownType() {
+        ResponseEntity<List<BatchItemResultDto>> actual = controller.transitionAll("sprint", List.of(transition(STORY_ID, "DONE")));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    void shouldReturnResultOfEveryTransition() {
+        Map<Long, ToDoItemStatus> statuses = new LinkedHashMap<>();
+        statuses.put(STORY_ID, DONE);
+        statuses.put(MISSING_ID, DONE);
+        statuses.put(FAILED_ID, RELEASED);
+        given(toDoItemService.processAll(ToDoItemType.STORY, statuses)).willReturn(Map.of(STORY_ID, 1, MISSING_ID, -1, FAILED_ID, -2));
+
+        ResponseEntity<List<BatchItemResultDto>> actual = controller.transitionAll(
+                "story", List.of(transition(STORY_ID, "DONE"), transition(MISSING_ID, "DONE"), transition(FAILED_ID, "RELEASED")));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody()).extracting(BatchItemResultDto::getIndex).containsExactly(0, 1, 2);
+        assertThat(actual.getBody()).extracting(BatchItemResultDto::getId).containsExactly(STORY_ID, MISSING_ID, FAILED_ID);
+        assertThat(actual.getBody()).extracting(BatchItemResultDto::getStatus).containsExactly("OK", "NOT_FOUND", "INTERNAL_SERVER_ERROR");
+    }
+
+    @Test
+    void shouldRejectTransitionsToUnknownStatus() {
+        Map<Long, ToDoItemStatus> statuses = Map.of(STORY_ID, DONE);
+        given(toDoItemService.processAll(ToDoItemType.STORY, statuses)).willReturn(Map.of(STORY_ID, 1));
+
+        ResponseEntity<List<BatchItemResultDto>> actual = controller.transitionAll(
+                "story", List.of(transition(STORY_ID, "DONE"), transition(MISSING_ID, "FINISHED"), transition(FAILED_ID, null)));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody()).extracting(BatchItemResultDto::getStatus).containsExactly("OK", "BAD_REQUEST", "BAD_REQUEST");
+    }
+
+    private ResponseEntity<ProcessingStatusDto> awaitFinished(String ticket) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        ResponseEntity<ProcessingStatusDto> found = controller.findByTicket(ticket);
+
+        while ("PENDING".equals(found.getBody().getState()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLL_MILLIS);
+            found = controller.findByTicket(ticket);
+        }
+
+        return found;
+    }
+
+    private StatusTransitionDto transition(long id, String status) {
+        StatusTransitionDto dto = new StatusTransitionDto();
+        dto.setId(id);
+        dto.setStatus(status);
+        return dto;
+    }
+}
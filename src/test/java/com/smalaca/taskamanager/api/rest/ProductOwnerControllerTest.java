@@ -42,7 +42,7 @@ class ProductOwnerControllerTest {
 
     private final ProductOwnerRepository productOwnerRepository = mock(ProductOwnerRepository.class);
     private final ProjectRepository projectRepository = mock(ProjectRepository.class);
-    private final ProductOwnerController controller = new ProductOwnerController(productOwnerRepository, projectRepository);
+    private final ProductOwnerController controller = new ProductOwnerController(productOwnerRepository, projectRepository, false);
 
     @Test
     void shouldRecognizeTheProductOwnerToFindDoesNotExist() {
@@ -1,20 +1,30 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.dto.PageDto;
 import com.smalaca.taskamanager.dto.ProjectDto;
 import com.smalaca.taskamanager.model.entities.ProductOwner;
 import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.model.enums.ProjectStatus;
 import com.smalaca.taskamanager.repository.ProjectRepository;
+import com.smalaca.taskamanager.repository.ProjectSummary;
 import com.smalaca.taskamanager.repository.TeamRepository;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.lang.reflect.Field;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.smalaca.taskamanager.model.enums.ProjectStatus.ANALYSIS_OF_ROI;
@@ -28,6 +38,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
 
 class ProjectControllerTest {
@@ -38,14 +49,16 @@ class ProjectControllerTest {
 
     private final ProjectRepository projectRepository = mock(ProjectRepository.class);
     private final TeamRepository teamRepository = mock(TeamRepository.class);
-    private final ProjectController controller = new ProjectController(projectRepository, teamRepository);
+    private final ProjectController controller = new ProjectController(projectRepository, teamRepository, ndJsonStreamer(), false);
+    private final ProjectController constraintBasedController = new ProjectController(
+            projectRepository, teamRepository, ndJsonStreamer(), true);
 
     @Test
     void shouldFindAllProjects() {
-        given(projectRepository.findAll()).willReturn(asList(
-                project(1, "Avengers vs. X-Men", PROOF_OF_CONCEPT),
-                project(2, "Fantastic Four vs. X-Men", IDEA, 13),
-                project(3, "Empyre", ANALYSIS_OF_ROI, 42)
+        given(projectRepository.findAllSummaries()).willReturn(asList(
+                projectSummary(1, "Avengers vs. X-Men", PROOF_OF_CONCEPT, null),
+                projectSummary(2, "Fantastic Four vs. X-Men", IDEA, 13L),
+                projectSummary(3, "Empyre", ANALYSIS_OF_ROI, 42L)
         ));
 
         ResponseEntity<List<ProjectDto>> actual = controller.getAllProjects();
@@ -72,6 +85,46 @@ class ProjectControllerTest {
                 });
     }
 
+    @Test
+    void shouldFindPageOfProjects() {
+        given(projectRepository.findSummariesAfter(0L, PageRequest.of(0, 2))).willReturn(asList(
+                projectSummary(1, "Avengers vs. X-Men", PROOF_OF_CONCEPT, null),
+                projectSummary(2, "Fantastic Four vs. X-Men", IDEA, 13L)
+        ));
+
+        ResponseEntity<PageDto<ProjectDto>> actual = controller.getProjects(null, 2);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody().getItems()).extracting(ProjectDto::getId).containsExactly(1L, 2L);
+        assertThat(actual.getBody().getNext()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldFindLastPageOfProjects() {
+        given(projectRepository.findSummariesAfter(2L, PageRequest.of(0, 2))).willReturn(asList(
+                projectSummary(3, "Empyre", ANALYSIS_OF_ROI, 42L)
+        ));
+
+        ResponseEntity<PageDto<ProjectDto>> actual = controller.getProjects(2L, 2);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody().getItems()).hasSize(1)
+                .anySatisfy(projectDto -> {
+                    assertThat(projectDto.getId()).isEqualTo(3);
+                    assertThat(projectDto.getName()).isEqualTo("Empyre");
+                    assertThat(projectDto.getProjectStatus()).isEqualTo("ANALYSIS_OF_ROI");
+                    assertThat(projectDto.getProductOwnerId()).isEqualTo(42);
+                });
+        assertThat(actual.getBody().getNext()).isNull();
+    }
+
+    @Test
+    void shouldCapPageSizeOfProjects() {
+        controller.getProjects(null, 100000);
+
+        then(projectRepository).should().findSummariesAfter(0L, PageRequest.of(0, 500));
+    }
+
     @Test
     void shouldRecognizeProjectIsNotFound() {
         given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.empty());
@@ -111,6 +164,31 @@ class ProjectControllerTest {
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
     }
 
+    @Test
+    void shouldRecognizeProjectAlreadyExistWithUniqueConstraint() {
+        given(projectRepository.save(any())).willThrow(uniqueViolationOf(Project.UNIQUE_NAME));
+        ProjectDto dto = new ProjectDto();
+        dto.setName("Weapon X");
+
+        ResponseEntity<Void> actual = constraintBasedController.createProject(dto, null);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        then(projectRepository).should(never()).findByName(any());
+    }
+
+    @Test
+    void shouldCreateProjectWithoutLookupWithUniqueConstraint() {
+        given(projectRepository.save(any())).willReturn(withId(new Project(), 69));
+        ProjectDto dto = new ProjectDto();
+        dto.setName("Weapon X");
+
+        ResponseEntity<Void> actual = constraintBasedController.createProject(dto, fromUriString("/"));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(actual.getHeaders().getLocation().getPath()).isEqualTo("/project/69");
+        then(projectRepository).should(never()).findByName(any());
+    }
+
     @Test
     void shouldCreateProject() {
         UriComponentsBuilder uriComponentsBuilder = fromUriString("/");
@@ -270,6 +348,16 @@ class ProjectControllerTest {
         return project;
     }
 
+    private ProjectSummary projectSummary(long id, String name, ProjectStatus projectStatus, Long productOwnerId) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("id", id);
+        values.put("name", name);
+        values.put("projectStatus", projectStatus);
+        values.put("productOwnerId", productOwnerId);
+
+        return new SpelAwareProxyProjectionFactory().createProjection(ProjectSummary.class, values);
+    }
+
     private Project project(int id, String name, ProjectStatus projectStatus, int productOwnerId) {
         Project project = project(id, name, projectStatus);
         project.setProductOwner(withId(new ProductOwner(), productOwnerId));
@@ -294,4 +382,13 @@ class ProjectControllerTest {
             throw new RuntimeException(e);
         }
     }
+
+    private static NdJsonStreamer ndJsonStreamer() {
+        return new NdJsonStreamer(mock(PlatformTransactionManager.class), new ObjectMapper());
+    }
+
+    private DataIntegrityViolationException uniqueViolationOf(String constraintName) {
+        String message = "Unique index or primary key violation: \"PUBLIC." + constraintName.toUpperCase() + "_INDEX_1\"";
+        return new DataIntegrityViolationException("could not execute statement", new SQLIntegrityConstraintViolationException(message));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.smalaca.taskamanager.api.rest;
+
+import com.smalaca.taskamanager.dto.RollupSummaryDto;
+import com.smalaca.taskamanager.model.entities.StatusRollup;
+import com.smalaca.taskamanager.model.enums.RollupScope;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.repository.StatusRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.TO_BE_DEFINED;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class RollupSummaryControllerTest {
+    private static final long EPIC_ID = 42;
+    private static final long PROJECT_ID = 69;
+    private static final long DONE_TASKS = 3;
+    private static final long IN_PROGRESS_TASKS = 2;
+    private static final long DONE_STORIES = 1;
+
+    private final StatusRollupRepository statusRollupRepository = mock(StatusRollupRepository.class);
+    private final RollupSummaryController controller = new RollupSummaryController(statusRollupRepository);
+
+    @Test
+    void shouldReturnEpicSummary() {
+        given(statusRollupRepository.findAllByScopeAndScopeId(RollupScope.EPIC, EPIC_ID)).willReturn(asList(
+                rollup("TASK", DONE, DONE_TASKS), rollup("TASK", IN_PROGRESS, IN_PROGRESS_TASKS), rollup("STORY", DONE, DONE_STORIES)));
+
+        ResponseEntity<RollupSummaryDto> actual = controller.findEpicSummary(EPIC_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        RollupSummaryDto summary = actual.getBody();
+        assertThat(summary.getId()).isEqualTo(EPIC_ID);
+        assertThat(summary.getTotals()).containsOnlyKeys("STORY", "TASK")
+                .containsEntry("TASK", DONE_TASKS + IN_PROGRESS_TASKS)
+                .containsEntry("STORY", DONE_STORIES);
+        assertThat(summary.getStatuses().get("TASK"))
+                .hasSize(ToDoItemStatus.values().length)
+                .containsEntry(DONE.name(), DONE_TASKS)
+                .containsEntry(IN_PROGRESS.name(), IN_PROGRESS_TASKS)
+                .containsEntry(TO_BE_DEFINED.name(), 0L);
+    }
+
+    @Test
+    void shouldReturnEmptyProjectSummary() {
+        ResponseEntity<RollupSummaryDto> actual = controller.findProjectSummary(PROJECT_ID);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        RollupSummaryDto summary = actual.getBody();
+        assertThat(summary.getTotals()).containsOnlyKeys("EPIC", "STORY", "TASK").containsValues(0L);
+        assertThat(summary.getStatuses().get("EPIC")).hasSize(ToDoItemStatus.values().length).containsValues(0L);
+    }
+
+    private StatusRollup rollup(String itemType, ToDoItemStatus status, long items) {
+        StatusRollup rollup = new StatusRollup();
+        rollup.setItemType(itemType);
+        rollup.setStatus(status);
+        rollup.add(items);
+        return rollup;
+    }
+}
@@ -1,26 +1,49 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.dto.BatchItemResultDto;
+import com.smalaca.taskamanager.dto.SprintBoardDto;
+import com.smalaca.taskamanager.dto.SprintBoardItemDto;
 import com.smalaca.taskamanager.dto.SprintDto;
+import com.smalaca.taskamanager.dto.SprintItemDto;
 import com.smalaca.taskamanager.model.entities.Project;
 import com.smalaca.taskamanager.model.entities.Sprint;
 import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.repository.ProjectRepository;
+import com.smalaca.taskamanager.repository.SprintBoardItem;
 import com.smalaca.taskamanager.repository.SprintRepository;
 import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TaskRepository;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.FAILED_DEPENDENCY;
@@ -34,13 +57,17 @@ class SprintControllerTest {
     private static final String PROJECT_NAME = "Epic project";
     private static final long TASK_ID = 17;
     private static final long STORY_ID = 29;
+    private static final long OTHER_TASK_ID = 31;
+    private static final long TEAM_ID = 7;
 
     private final SprintRepository sprintRepository = mock(SprintRepository.class);
     private final TaskRepository taskRepository = mock(TaskRepository.class);
     private final StoryRepository storyRepository = mock(StoryRepository.class);
     private final ProjectRepository projectRepository = mock(ProjectRepository.class);
     private final SprintController controller = new SprintController(
-            sprintRepository, taskRepository, storyRepository, projectRepository);
+            sprintRepository, taskRepository, storyRepository, projectRepository, ndJsonStreamer(), false);
+    private final SprintController constraintBasedController = new SprintController(
+            sprintRepository, taskRepository, storyRepository, projectRepository, ndJsonStreamer(), true);
 
     @Test
     void shouldNotFoundNotExistingSprint() {
@@ -64,6 +91,85 @@ class SprintControllerTest {
         assertThat(dto.getProjectId()).isEqualTo(PROJECT_ID);
     }
 
+    @Test
+    void shouldNotFindBoardOfNotExistingSprint() {
+        given(sprintRepository.findById(SPRINT_ID)).willReturn(Optional.empty());
+
+        ResponseEntity<SprintBoardDto> response = controller.findBoard(SPRINT_ID);
+
+        assertThat(response.getStatusCode()).isEqualTo(NOT_FOUND);
+    }
+
+    @Test
+    void shouldGroupSprintBoardByStatus() {
+        given(sprintRepository.findById(SPRINT_ID)).willReturn(Optional.of(existingSprint()));
+        SprintBoardItem assignedTask = boardItem(TASK_ID, IN_PROGRESS, "Tony");
+        SprintBoardItem doneTask = boardItem(OTHER_TASK_ID, DONE, null);
+        given(sprintRepository.findBoardTasksById(SPRINT_ID)).willReturn(asList(assignedTask, doneTask));
+        SprintBoardItem story = boardItem(STORY_ID, IN_PROGRESS, null);
+        given(sprintRepository.findBoardStoriesById(SPRINT_ID)).willReturn(singletonList(story));
+
+        ResponseEntity<SprintBoardDto> response = controller.findBoard(SPRINT_ID);
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        SprintBoardDto dto = response.getBody();
+        assertThat(dto.getId()).isEqualTo(SPRINT_ID);
+        assertThat(dto.getName()).isEqualTo(SPRINT_NAME);
+        assertThat(dto.getProjectId()).isEqualTo(PROJECT_ID);
+        assertThat(dto.getTasks()).hasSize(ToDoItemStatus.values().length);
+        assertThat(dto.getTasks().get(IN_PROGRESS.name())).hasOnlyOneElementSatisfying(task -> {
+            assertThat(task.getId()).isEqualTo(TASK_ID);
+            assertThat(task.getType()).isEqualTo("TASK");
+            assertThat(task.getAssignee().getFirstName()).isEqualTo("Tony");
+            assertThat(task.getAssignee().getTeamId()).isEqualTo(TEAM_ID);
+        });
+        assertThat(dto.getTasks().get(DONE.name())).extracting(SprintBoardItemDto::getAssignee).containsOnlyNulls();
+        assertThat(dto.getTasks().get(ToDoItemStatus.TO_BE_DEFINED.name())).isEmpty();
+        assertThat(dto.getStories().get(IN_PROGRESS.name())).extracting(SprintBoardItemDto::getType).containsExactly("STORY");
+    }
+
+    @Test
+    void shouldFindBoardOfSprintWithoutProject() {
+        Sprint sprint = existingSprint();
+        sprint.setProject(null);
+        given(sprintRepository.findById(SPRINT_ID)).willReturn(Optional.of(sprint));
+
+        ResponseEntity<SprintBoardDto> response = controller.findBoard(SPRINT_ID);
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getBody().getId()).isEqualTo(SPRINT_ID);
+        assertThat(response.getBody().getProjectId()).isNull();
+    }
+
+    @Test
+    void shouldNotStreamBoardOfNotExistingSprint() {
+        given(sprintRepository.existsById(SPRINT_ID)).willReturn(false);
+
+        ResponseEntity<StreamingResponseBody> response = controller.streamBoard(SPRINT_ID);
+
+        assertThat(response.getStatusCode()).isEqualTo(NOT_FOUND);
+    }
+
+    @Test
+    void shouldStreamSprintBoard() throws IOException {
+        given(sprintRepository.existsById(SPRINT_ID)).willReturn(true);
+        SprintBoardItem task = boardItem(TASK_ID, IN_PROGRESS, "Tony");
+        given(sprintRepository.streamBoardTasksById(SPRINT_ID)).willReturn(Stream.of(task));
+        SprintBoardItem story = boardItem(STORY_ID, DONE, null);
+        given(sprintRepository.streamBoardStoriesById(SPRINT_ID)).willReturn(Stream.of(story));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ResponseEntity<StreamingResponseBody> response = controller.streamBoard(SPRINT_ID);
+        response.getBody().writeTo(outputStream);
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("application/x-ndjson");
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"type\":\"TASK\"", "\"status\":\"IN_PROGRESS\"", "\"firstName\":\"Tony\"");
+        assertThat(lines[1]).contains("\"type\":\"STORY\"", "\"assignee\":null");
+    }
+
     @Test
     void shouldNotCreateSprintIfSprintWithTheSameNameForProjectAlreadyExist() {
         given(sprintRepository.findByNameAndProjectId(SPRINT_NAME, PROJECT_ID)).willReturn(Optional.of(existingSprint()));
@@ -73,6 +179,28 @@ class SprintControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(CONFLICT);
     }
 
+    @Test
+    void shouldNotCreateSprintIfUniqueConstraintIsViolated() {
+        given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.of(existingProject()));
+        given(sprintRepository.save(any())).willThrow(uniqueViolationOf(Sprint.UNIQUE_NAME_IN_PROJECT));
+
+        ResponseEntity<Long> response = constraintBasedController.create(newSprintDto());
+
+        assertThat(response.getStatusCode()).isEqualTo(CONFLICT);
+        then(sprintRepository).should(never()).findByNameAndProjectId(any(), any());
+    }
+
+    @Test
+    void shouldCreateSprintWithoutLookupWithUniqueConstraint() {
+        given(projectRepository.findById(PROJECT_ID)).willReturn(Optional.of(existingProject()));
+        given(sprintRepository.save(any())).willAnswer(invocation -> invocation.getArgument(0));
+
+        ResponseEntity<Long> response = constraintBasedController.create(newSprintDto());
+
+        assertThat(response.getStatusCode()).isEqualTo(CREATED);
+        then(sprintRepository).should(never()).findByNameAndProjectId(any(), any());
+    }
+
     @Test
     void shouldNotCreateWhenProjectDoesNotExist() {
         given(sprintRepository.findByNameAndProjectId(SPRINT_NAME, PROJECT_ID)).willReturn(Optional.empty());
@@ -222,6 +350,48 @@ class SprintControllerTest {
                 .allSatisfy(story -> assertThat(story.getId()).isEqualTo(STORY_ID));
     }
 
+    @Test
+    void shouldNotPlanItemsInNotExistingSprint() {
+        given(sprintRepository.findById(SPRINT_ID)).willReturn(Optional.empty());
+
+        ResponseEntity<List<BatchItemResultDto>> response = controller.addItems(SPRINT_ID, singletonList(sprintItem("TASK", TASK_ID)));
+
+        assertThat(response.getStatusCode()).isEqualTo(NOT_FOUND);
+    }
+
+    @Test
+    void shouldPlanManyItemsInSprint() {
+        Sprint sprint = existingSprint();
+        given(sprintRepository.findById(SPRINT_ID)).willReturn(Optional.of(sprint));
+        Task task = withId(new Task(), TASK_ID);
+        given(taskRepository.findAllById(idsOf(TASK_ID, OTHER_TASK_ID))).willReturn(singletonList(task));
+        Story story = withId(new Story(), STORY_ID);
+        given(storyRepository.findAllById(idsOf(STORY_ID))).willReturn(singletonList(story));
+
+        ResponseEntity<List<BatchItemResultDto>> response = controller.addItems(SPRINT_ID, asList(
+                sprintItem("TASK", TASK_ID), sprintItem("TASK", OTHER_TASK_ID), sprintItem("STORY", STORY_ID), sprintItem("EPIC", STORY_ID)));
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getBody()).extracting(BatchItemResultDto::getStatus)
+                .containsExactly("OK", "NOT_FOUND", "OK", "BAD_REQUEST");
+        assertThat(sprint.getTasks()).containsExactly(task);
+        assertThat(sprint.getStories()).containsExactly(story);
+        assertThat(task.getCurrentSprint()).isSameAs(sprint);
+        assertThat(story.getCurrentSprint()).isSameAs(sprint);
+        then(sprintRepository).should().save(sprint);
+    }
+
+    private SprintItemDto sprintItem(String type, long id) {
+        SprintItemDto dto = new SprintItemDto();
+        dto.setType(type);
+        dto.setId(id);
+        return dto;
+    }
+
+    private Set<Long> idsOf(Long... ids) {
+        return new HashSet<>(asList(ids));
+    }
+
     private Sprint existingSprint() {
         Sprint sprint = withId(new Sprint(), SPRINT_ID);
         sprint.setName(SPRINT_NAME);
@@ -229,6 +399,15 @@ class SprintControllerTest {
         return sprint;
     }
     
+    private SprintBoardItem boardItem(long id, ToDoItemStatus status, String assigneeFirstName) {
+        SprintBoardItem item = mock(SprintBoardItem.class);
+        given(item.getId()).willReturn(id);
+        given(item.getStatus()).willReturn(status);
+        given(item.getAssigneeFirstName()).willReturn(assigneeFirstName);
+        given(item.getAssigneeTeamId()).willReturn(TEAM_ID);
+        return item;
+    }
+
     private <T> T withId(T entity, long id) {
         try {
             Field fieldId = entity.getClass().getDeclaredField("id");
@@ -239,4 +418,13 @@ class SprintControllerTest {
             throw new RuntimeException(e);
         }
     }
+
+    private static NdJsonStreamer ndJsonStreamer() {
+        return new NdJsonStreamer(mock(PlatformTransactionManager.class), new ObjectMapper());
+    }
+
+    private DataIntegrityViolationException uniqueViolationOf(String constraintName) {
+        String message = "Unique index or primary key violation: \"PUBLIC." + constraintName.toUpperCase() + "_INDEX_1\"";
+        return new DataIntegrityViolationException("could not execute statement", new SQLIntegrityConstraintViolationException(message));
+    }
 }
\ No newline at end of file
@@ -1,9 +1,11 @@
 package com.smalaca.taskamanager.api.rest;
 
 import com.smalaca.taskamanager.dto.AssigneeDto;
+import com.smalaca.taskamanager.dto.BatchItemResultDto;
 import com.smalaca.taskamanager.dto.StakeholderDto;
 import com.smalaca.taskamanager.dto.StoryDto;
 import com.smalaca.taskamanager.dto.WatcherDto;
+import com.smalaca.taskamanager.events.ToDoItemStatusChangedEvent;
 import com.smalaca.taskamanager.model.embedded.Assignee;
 import com.smalaca.taskamanager.model.embedded.EmailAddress;
 import com.smalaca.taskamanager.model.embedded.Owner;
@@ -16,27 +18,34 @@ import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.registry.EventsRegistry;
 import com.smalaca.taskamanager.repository.EpicRepository;
 import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TeamRepository;
 import com.smalaca.taskamanager.repository.UserRepository;
-import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.repository.UserSnapshotCache;
+import com.smalaca.taskamanager.service.ToDoItemProcessingQueue;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.RELEASED;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 class StoryControllerTest {
     private static final String TITLE = "Title like all the others";
@@ -55,34 +64,44 @@ class StoryControllerTest {
     private static final long STORY_ID = 13;
     private static final long OWNER_ID = 42;
     private static final long EPIC_ID = 69;
+    private static final long NOT_EXISTING_EPIC_ID = 70;
     private static final long WATCHER_ID = 5;
     private static final long STAKEHOLDER_ID = 17;
     private static final long TEAM_ID = 987;
     private static final long ASSIGNEE_ID = 476;
+    private static final long VERSION = 7;
+    private static final String NO_ETAG = null;
+    private static final String CURRENT_ETAG = "\"7\"";
+    private static final String STALE_ETAG = "\"6\"";
+    private static final String TICKET = "c0ffee";
+    private static final long CACHE_SIZE = 100;
+    private static final long CACHE_TTL_SECONDS = 60;
 
     private final StoryRepository storyRepository = mock(StoryRepository.class);
     private final UserRepository userRepository = mock(UserRepository.class);
     private final TeamRepository teamRepository = mock(TeamRepository.class);
     private final EpicRepository epicRepository = mock(EpicRepository.class);
-    private final ToDoItemService toDoItemService = mock(ToDoItemService.class);
+    private final ToDoItemProcessingQueue toDoItemProcessingQueue = mock(ToDoItemProcessingQueue.class);
+    private final EventsRegistry eventsRegistry = mock(EventsRegistry.class);
     private final StoryController controller = new StoryController(
-            storyRepository, userRepository, teamRepository, epicRepository, toDoItemService);
+            storyRepository, userRepository, teamRepository, epicRepository, toDoItemProcessingQueue,
+            new UserSnapshotCache(userRepository, CACHE_SIZE, CACHE_TTL_SECONDS), eventsRegistry);
     private final ArgumentCaptor<Story> storyCaptor = ArgumentCaptor.forClass(Story.class);
 
     @Test
     void shouldNotFindStory() {
-        given(storyRepository.findById(STORY_ID)).willReturn(Optional.empty());
+        given(storyRepository.findDetailedById(STORY_ID)).willReturn(Optional.empty());
 
-        ResponseEntity<StoryDto> actual = controller.findById(STORY_ID);
+        ResponseEntity<StoryDto> actual = controller.findById(STORY_ID, NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
     @Test
     void shouldFindStory() {
-        given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(existingStory()));
+        given(storyRepository.findDetailedById(STORY_ID)).willReturn(Optional.of(existingStory()));
 
-        ResponseEntity<StoryDto> actual = controller.findById(STORY_ID);
+        ResponseEntity<StoryDto> actual = controller.findById(STORY_ID, NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         StoryDto dto = actual.getBody();
@@ -117,6 +136,9 @@ class StoryControllerTest {
         assertThat(dto.getAssignee().getFirstName()).isEqualTo(ANOTHER_FIRST_NAME);
         assertThat(dto.getAssignee().getLastName()).isEqualTo(ANOTHER_LAST_NAME);
         assertThat(dto.getAssignee().getTeamId()).isEqualTo(TEAM_ID);
+        assertThat(dto.getTasksByStatus()).containsEntry("TO_BE_DEFINED", 0).containsEntry("DONE", 0);
+        assertThat(dto.getPercentDone()).isZero();
+        assertThat(dto.getAllTasksDone()).isFalse();
     }
 
     private Story existingStory() {
@@ -172,6 +194,7 @@ class StoryControllerTest {
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(actual.getBody()).isEqualTo(STORY_ID);
+        then(eventsRegistry).should().publish(any(ToDoItemStatusChangedEvent.class));
         then(storyRepository).should().save(storyCaptor.capture());
         Story story = storyCaptor.getValue();
         assertThat(story.getTitle()).isEqualTo(TITLE);
@@ -201,11 +224,86 @@ class StoryControllerTest {
         return dto;
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateStoriesInBatch() {
+        Epic epic = epic();
+        given(userRepository.findAllById(any())).willReturn(asList(owner()));
+        given(epicRepository.findAllById(any())).willReturn(asList(epic));
+        StoryDto withNotExistingEpic = newStoryDto();
+        withNotExistingEpic.setEpicId(NOT_EXISTING_EPIC_ID);
+        StoryDto withoutEpic = newStoryDto();
+        withoutEpic.setEpicId(null);
+        StoryDto withoutStatus = newStoryDto();
+        withoutStatus.setStatus(null);
+
+        ResponseEntity<List<BatchItemResultDto>> actual = controller.createAll(
+                asList(withNotExistingEpic, newStoryDto(), withoutEpic, withoutStatus));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody()).extracting(BatchItemResultDto::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(actual.getBody()).extracting(BatchItemResultDto::getStatus)
+                .containsExactly("FAILED_DEPENDENCY", "CREATED", "FAILED_DEPENDENCY", "BAD_REQUEST");
+        ArgumentCaptor<Iterable<Story>> storiesCaptor = ArgumentCaptor.forClass(Iterable.class);
+        then(storyRepository).should().saveAll(storiesCaptor.capture());
+        then(eventsRegistry).should(times(1)).publish(any(ToDoItemStatusChangedEvent.class));
+        assertThat(storiesCaptor.getValue()).hasSize(1)
+                .allSatisfy(story -> {
+                    assertThat(story.getOwner().getFirstName()).isEqualTo(FIRST_NAME);
+                    assertThat(story.getEpic()).isSameAs(epic);
+                });
+        assertThat(epic.getStories()).hasSize(1);
+    }
+
+    @Test
+    void shouldRespondNotModifiedWithoutLoadingStoryWhenETagMatches() {
+        given(storyRepository.findVersionById(STORY_ID)).willReturn(Optional.of(VERSION));
+
+        ResponseEntity<StoryDto> actual = controller.findById(STORY_ID, CURRENT_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(actual.getHeaders().getETag()).isEqualTo(CURRENT_ETAG);
+        then(storyRepository).should(never()).findDetailedById(any());
+    }
+
+    @Test
+    void shouldReturnStoryWithETagWhenETagDoesNotMatch() {
+        given(storyRepository.findVersionById(STORY_ID)).willReturn(Optional.of(VERSION));
+        given(storyRepository.findDetailedById(STORY_ID)).willReturn(Optional.of(withVersion(existingStory(), VERSION)));
+
+        ResponseEntity<StoryDto> actual = controller.findById(STORY_ID, STALE_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getHeaders().getETag()).isEqualTo(CURRENT_ETAG);
+    }
+
+    @Test
+    void shouldNotUpdateStoryWhenIfMatchIsStale() {
+        given(storyRepository.existsById(STORY_ID)).willReturn(true);
+        given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(withVersion(story(), VERSION)));
+
+        ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto(), STALE_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        then(storyRepository).should(never()).save(any());
+    }
+
+    @Test
+    void shouldNotUpdateStoryModifiedConcurrently() {
+        given(storyRepository.existsById(STORY_ID)).willReturn(true);
+        given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(withVersion(story(), VERSION)));
+        given(storyRepository.save(any())).willThrow(new ObjectOptimisticLockingFailureException(Story.class, STORY_ID));
+
+        ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto(), CURRENT_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
     @Test
     void shouldNotUpdateNotExistingStory() {
         given(storyRepository.existsById(STORY_ID)).willReturn(false);
 
-        ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto());
+        ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
@@ -216,7 +314,7 @@ class StoryControllerTest {
         given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(storyWithoutOwner()));
         given(userRepository.existsById(OWNER_ID)).willReturn(false);
 
-        ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto());
+        ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.FAILED_DEPENDENCY);
     }
@@ -226,13 +324,13 @@ class StoryControllerTest {
         given(storyRepository.existsById(STORY_ID)).willReturn(true);
         given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(story()));
 
-        ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto());
+        ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         then(storyRepository).should().save(storyCaptor.capture());
         Story story = storyCaptor.getValue();
         assertThat(story.getStatus()).isEqualTo(IN_PROGRESS);
-        then(toDoItemService).should(never()).processStory(any());
+        then(toDoItemProcessingQueue).should(never()).submitStory(any());
     }
 
     @Test
@@ -241,14 +339,44 @@ class StoryControllerTest {
         given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(story()));
         StoryDto dto = updateStoryDto();
         dto.setStatus("RELEASED");
+        given(toDoItemProcessingQueue.submitStory(STORY_ID)).willReturn(Optional.of(TICKET));
 
-        ResponseEntity<Void> actual = controller.update(STORY_ID, dto);
+        ResponseEntity<Void> actual = controller.update(STORY_ID, dto, NO_ETAG);
 
-        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(actual.getHeaders().getLocation()).hasToString("/processing/" + TICKET);
         then(storyRepository).should().save(storyCaptor.capture());
         Story story = storyCaptor.getValue();
         assertThat(story.getStatus()).isEqualTo(RELEASED);
-        then(toDoItemService).should().processStory(STORY_ID);
+        then(toDoItemProcessingQueue).should().submitStory(STORY_ID);
+    }
+
+    @Test
+    void shouldProcessStatusChangeInlineWhenQueueIsNotAsync() {
+        given(storyRepository.existsById(STORY_ID)).willReturn(true);
+        given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(story()));
+        StoryDto dto = updateStoryDto();
+        dto.setStatus("RELEASED");
+        given(toDoItemProcessingQueue.submitStory(STORY_ID)).willReturn(Optional.empty());
+
+        ResponseEntity<Void> actual = controller.update(STORY_ID, dto, NO_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getHeaders().getLocation()).isNull();
+        then(toDoItemProcessingQueue).should().submitStory(STORY_ID);
+    }
+
+    @Test
+    void shouldInformProcessingQueueIsSaturated() {
+        given(storyRepository.existsById(STORY_ID)).willReturn(true);
+        given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(story()));
+        StoryDto dto = updateStoryDto();
+        dto.setStatus("RELEASED");
+        given(toDoItemProcessingQueue.submitStory(STORY_ID)).willThrow(new RejectedExecutionException());
+
+        ResponseEntity<Void> actual = controller.update(STORY_ID, dto, NO_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
     }
 
     @Test
@@ -256,7 +384,7 @@ class StoryControllerTest {
         given(storyRepository.existsById(STORY_ID)).willReturn(true);
         given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(story()));
 
-        ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto());
+        ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         then(storyRepository).should().save(storyCaptor.capture());
@@ -279,7 +407,7 @@ class StoryControllerTest {
         given(userRepository.existsById(OWNER_ID)).willReturn(true);
         given(userRepository.findById(OWNER_ID)).willReturn(Optional.of(owner()));
 
-        ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto());
+        ResponseEntity<Void> actual = controller.update(STORY_ID, updateStoryDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         then(storyRepository).should().save(storyCaptor.capture());
@@ -351,6 +479,19 @@ class StoryControllerTest {
         assertThat(storyCaptor.getValue().getId()).isEqualTo(STORY_ID);
     }
 
+    @Test
+    void shouldPublishRemovalOfDeletedStory() {
+        given(storyRepository.findById(STORY_ID)).willReturn(Optional.of(storyWithId()));
+
+        controller.delete(STORY_ID);
+
+        ArgumentCaptor<ToDoItemStatusChangedEvent> captor = ArgumentCaptor.forClass(ToDoItemStatusChangedEvent.class);
+        then(eventsRegistry).should().publish(captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo("STORY");
+        assertThat(captor.getValue().getToDoItemId()).isEqualTo(STORY_ID);
+        assertThat(captor.getValue().getStatus()).isNull();
+    }
+
     @Test
     void shouldNotAddWatcherToNotExistingStory() {
         given(storyRepository.findById(STORY_ID)).willReturn(Optional.empty());
@@ -671,6 +812,17 @@ class StoryControllerTest {
         return user;
     }
 
+    private <T> T withVersion(T entity, long version) {
+        try {
+            Field fieldVersion = entity.getClass().getDeclaredField("version");
+            fieldVersion.setAccessible(true);
+            fieldVersion.set(entity, version);
+            return entity;
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private <T> T withId(T entity, long id) {
         try {
             Field fieldId = entity.getClass().getDeclaredField("id");
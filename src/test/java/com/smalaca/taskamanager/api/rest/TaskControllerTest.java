@@ -1,9 +1,11 @@
 package com.smalaca.taskamanager.api.rest;
 
 import com.smalaca.taskamanager.dto.AssigneeDto;
+import com.smalaca.taskamanager.dto.BatchItemResultDto;
 import com.smalaca.taskamanager.dto.StakeholderDto;
 import com.smalaca.taskamanager.dto.TaskDto;
 import com.smalaca.taskamanager.dto.WatcherDto;
+import com.smalaca.taskamanager.events.ToDoItemStatusChangedEvent;
 import com.smalaca.taskamanager.model.embedded.Assignee;
 import com.smalaca.taskamanager.model.embedded.EmailAddress;
 import com.smalaca.taskamanager.model.embedded.Owner;
@@ -16,27 +18,33 @@ import com.smalaca.taskamanager.model.entities.Task;
 import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.registry.EventsRegistry;
 import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TaskRepository;
 import com.smalaca.taskamanager.repository.TeamRepository;
 import com.smalaca.taskamanager.repository.UserRepository;
-import com.smalaca.taskamanager.service.ToDoItemService;
+import com.smalaca.taskamanager.repository.UserSnapshotCache;
+import com.smalaca.taskamanager.service.ToDoItemProcessingQueue;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Optional;
 
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.RELEASED;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 class TaskControllerTest {
     private static final String TITLE = "Title like all the others";
@@ -54,35 +62,45 @@ class TaskControllerTest {
     private static final String ANOTHER_PHONE_NUMBER = "982478438743";
     private static final long TASK_ID = 13;
     private static final long OWNER_ID = 42;
+    private static final long NOT_EXISTING_OWNER_ID = 43;
     private static final long STORY_ID = 69;
     private static final long WATCHER_ID = 5;
     private static final long STAKEHOLDER_ID = 17;
     private static final long TEAM_ID = 987;
     private static final long ASSIGNEE_ID = 476;
+    private static final long VERSION = 7;
+    private static final String NO_ETAG = null;
+    private static final String CURRENT_ETAG = "\"7\"";
+    private static final String STALE_ETAG = "\"6\"";
+    private static final String TICKET = "c0ffee";
+    private static final long CACHE_SIZE = 100;
+    private static final long CACHE_TTL_SECONDS = 60;
 
     private final TaskRepository taskRepository = mock(TaskRepository.class);
     private final UserRepository userRepository = mock(UserRepository.class);
     private final TeamRepository teamRepository = mock(TeamRepository.class);
     private final StoryRepository storyRepository = mock(StoryRepository.class);
-    private final ToDoItemService toDoItemService = mock(ToDoItemService.class);
+    private final ToDoItemProcessingQueue toDoItemProcessingQueue = mock(ToDoItemProcessingQueue.class);
+    private final EventsRegistry eventsRegistry = mock(EventsRegistry.class);
     private final TaskController controller = new TaskController(
-            taskRepository, userRepository, teamRepository, storyRepository, toDoItemService);
+            taskRepository, userRepository, teamRepository, storyRepository, toDoItemProcessingQueue,
+            new UserSnapshotCache(userRepository, CACHE_SIZE, CACHE_TTL_SECONDS), eventsRegistry);
     private final ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
 
     @Test
     void shouldNotFindTask() {
-        given(taskRepository.findById(TASK_ID)).willReturn(Optional.empty());
+        given(taskRepository.findDetailedById(TASK_ID)).willReturn(Optional.empty());
 
-        ResponseEntity<TaskDto> actual = controller.findById(TASK_ID);
+        ResponseEntity<TaskDto> actual = controller.findById(TASK_ID, NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
 
     @Test
     void shouldFindTask() {
-        given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(existingTask()));
+        given(taskRepository.findDetailedById(TASK_ID)).willReturn(Optional.of(existingTask()));
 
-        ResponseEntity<TaskDto> actual = controller.findById(TASK_ID);
+        ResponseEntity<TaskDto> actual = controller.findById(TASK_ID, NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         TaskDto dto = actual.getBody();
@@ -172,6 +190,7 @@ class TaskControllerTest {
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(actual.getBody()).isEqualTo(TASK_ID);
+        then(eventsRegistry).should().publish(any(ToDoItemStatusChangedEvent.class));
         then(taskRepository).should().save(taskCaptor.capture());
         Task task = taskCaptor.getValue();
         assertThat(task.getTitle()).isEqualTo(TITLE);
@@ -206,6 +225,7 @@ class TaskControllerTest {
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(actual.getBody()).isEqualTo(TASK_ID);
+        then(eventsRegistry).should().publish(any(ToDoItemStatusChangedEvent.class));
         then(taskRepository).should().save(taskCaptor.capture());
         Task task = taskCaptor.getValue();
         assertThat(task.getTitle()).isEqualTo(TITLE);
@@ -229,11 +249,81 @@ class TaskControllerTest {
         return dto;
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateTasksInBatch() {
+        Story story = story();
+        given(userRepository.findAllById(any())).willReturn(asList(owner()));
+        given(storyRepository.findAllById(any())).willReturn(asList(story));
+        TaskDto withNotExistingOwner = newStandaloneTaskDto();
+        withNotExistingOwner.setOwnerId(NOT_EXISTING_OWNER_ID);
+        TaskDto withUnknownStatus = newStandaloneTaskDto();
+        withUnknownStatus.setStatus("FINISHED");
+
+        ResponseEntity<List<BatchItemResultDto>> actual = controller.createAll(
+                asList(newTaskDto(), withNotExistingOwner, newStandaloneTaskDto(), withUnknownStatus));
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getBody()).extracting(BatchItemResultDto::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(actual.getBody()).extracting(BatchItemResultDto::getStatus)
+                .containsExactly("CREATED", "FAILED_DEPENDENCY", "CREATED", "BAD_REQUEST");
+        ArgumentCaptor<Iterable<Task>> tasksCaptor = ArgumentCaptor.forClass(Iterable.class);
+        then(taskRepository).should().saveAll(tasksCaptor.capture());
+        then(eventsRegistry).should(times(2)).publish(any(ToDoItemStatusChangedEvent.class));
+        assertThat(tasksCaptor.getValue()).hasSize(2)
+                .allSatisfy(task -> assertThat(task.getOwner().getFirstName()).isEqualTo(FIRST_NAME));
+        assertThat(story.getTasks()).hasSize(1);
+    }
+
+    @Test
+    void shouldRespondNotModifiedWithoutLoadingTaskWhenETagMatches() {
+        given(taskRepository.findVersionById(TASK_ID)).willReturn(Optional.of(VERSION));
+
+        ResponseEntity<TaskDto> actual = controller.findById(TASK_ID, CURRENT_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(actual.getHeaders().getETag()).isEqualTo(CURRENT_ETAG);
+        then(taskRepository).should(never()).findDetailedById(any());
+    }
+
+    @Test
+    void shouldReturnTaskWithETagWhenETagDoesNotMatch() {
+        given(taskRepository.findVersionById(TASK_ID)).willReturn(Optional.of(VERSION));
+        given(taskRepository.findDetailedById(TASK_ID)).willReturn(Optional.of(withVersion(existingTask(), VERSION)));
+
+        ResponseEntity<TaskDto> actual = controller.findById(TASK_ID, STALE_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getHeaders().getETag()).isEqualTo(CURRENT_ETAG);
+    }
+
+    @Test
+    void shouldNotUpdateTaskWhenIfMatchIsStale() {
+        given(taskRepository.existsById(TASK_ID)).willReturn(true);
+        given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(withVersion(task(), VERSION)));
+
+        ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto(), STALE_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        then(taskRepository).should(never()).save(any());
+    }
+
+    @Test
+    void shouldNotUpdateTaskModifiedConcurrently() {
+        given(taskRepository.existsById(TASK_ID)).willReturn(true);
+        given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(withVersion(task(), VERSION)));
+        given(taskRepository.save(any())).willThrow(new ObjectOptimisticLockingFailureException(Task.class, TASK_ID));
+
+        ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto(), CURRENT_ETAG);
+
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+    }
+
     @Test
     void shouldNotUpdateNotExistingTask() {
         given(taskRepository.existsById(TASK_ID)).willReturn(false);
 
-        ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto());
+        ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
@@ -244,7 +334,7 @@ class TaskControllerTest {
         given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(taskWithoutOwner()));
         given(userRepository.existsById(OWNER_ID)).willReturn(false);
 
-        ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto());
+        ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.FAILED_DEPENDENCY);
     }
@@ -254,13 +344,13 @@ class TaskControllerTest {
         given(taskRepository.existsById(TASK_ID)).willReturn(true);
         given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(task()));
 
-        ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto());
+        ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         then(taskRepository).should().save(taskCaptor.capture());
         Task task = taskCaptor.getValue();
         assertThat(task.getStatus()).isEqualTo(IN_PROGRESS);
-        then(toDoItemService).should(never()).processTask(any());
+        then(toDoItemProcessingQueue).should(never()).submitTask(any());
     }
 
     @Test
@@ -269,14 +359,16 @@ class TaskControllerTest {
         given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(task()));
         TaskDto dto = updateTaskDto();
         dto.setStatus("RELEASED");
+        given(toDoItemProcessingQueue.submitTask(TASK_ID)).willReturn(Optional.of(TICKET));
 
-        ResponseEntity<Void> actual = controller.update(TASK_ID, dto);
+        ResponseEntity<Void> actual = controller.update(TASK_ID, dto, NO_ETAG);
 
-        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(actual.getHeaders().getLocation()).hasToString("/processing/" + TICKET);
         then(taskRepository).should().save(taskCaptor.capture());
         Task task = taskCaptor.getValue();
         assertThat(task.getStatus()).isEqualTo(RELEASED);
-        then(toDoItemService).should().processTask(TASK_ID);
+        then(toDoItemProcessingQueue).should().submitTask(TASK_ID);
     }
 
     @Test
@@ -284,7 +376,7 @@ class TaskControllerTest {
         given(taskRepository.existsById(TASK_ID)).willReturn(true);
         given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(task()));
 
-        ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto());
+        ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         then(taskRepository).should().save(taskCaptor.capture());
@@ -307,7 +399,7 @@ class TaskControllerTest {
         given(userRepository.existsById(OWNER_ID)).willReturn(true);
         given(userRepository.findById(OWNER_ID)).willReturn(Optional.of(owner()));
 
-        ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto());
+        ResponseEntity<Void> actual = controller.update(TASK_ID, updateTaskDto(), NO_ETAG);
 
         assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
         then(taskRepository).should().save(taskCaptor.capture());
@@ -379,6 +471,33 @@ class TaskControllerTest {
         assertThat(taskCaptor.getValue().getId()).isEqualTo(TASK_ID);
     }
 
+    @Test
+    void shouldPublishRemovalOfDeletedTask() {
+        given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(taskWithId()));
+
+        controller.delete(TASK_ID);
+
+        ArgumentCaptor<ToDoItemStatusChangedEvent> captor = ArgumentCaptor.forClass(ToDoItemStatusChangedEvent.class);
+        then(eventsRegistry).should().publish(captor.capture());
+        assertThat(captor.getValue().getType()).isEqualTo("TASK");
+        assertThat(captor.getValue().getToDoItemId()).isEqualTo(TASK_ID);
+        assertThat(captor.getValue().getStatus()).isNull();
+    }
+
+    @Test
+    void shouldRemoveDeletedTaskFromStory() {
+        Story story = new Story();
+        Task task = taskWithId();
+        task.setStory(story);
+        story.addTask(task);
+        given(taskRepository.findById(TASK_ID)).willReturn(Optional.of(task));
+
+        controller.delete(TASK_ID);
+
+        assertThat(story.getTasks()).isEmpty();
+        assertThat(story.getProgress().total()).isZero();
+    }
+
     @Test
     void shouldNotAddWatcherToNotExistingTask() {
         given(taskRepository.findById(TASK_ID)).willReturn(Optional.empty());
@@ -699,6 +818,17 @@ class TaskControllerTest {
         return user;
     }
 
+    private <T> T withVersion(T entity, long version) {
+        try {
+            Field fieldVersion = entity.getClass().getDeclaredField("version");
+            fieldVersion.setAccessible(true);
+            fieldVersion.set(entity, version);
+            return entity;
+        } catch (NoSuchFieldException | IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private <T> T withId(T entity, long id) {
         try {
             Field fieldId = entity.getClass().getDeclaredField("id");
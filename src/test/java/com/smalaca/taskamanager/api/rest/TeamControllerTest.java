@@ -1,18 +1,32 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smalaca.taskamanager.dto.TeamDto;
 import com.smalaca.taskamanager.dto.TeamMembersDto;
+import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.model.entities.User;
+import com.smalaca.taskamanager.repository.TeamRepository;
+import com.smalaca.taskamanager.repository.UserSnapshotCache;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -28,7 +42,8 @@ class TeamControllerTest {
 
     private final InMemoryUserRepository userRepository = new InMemoryUserRepository();
 
-    private final TeamController controller = new TeamController(new InMemoryTeamRepository(), userRepository);
+    private final TeamController controller = new TeamController(
+            new InMemoryTeamRepository(), userRepository, ndJsonStreamer(), new UserSnapshotCache(userRepository, 100, 60), false);
 
     @Test
     void shouldReturnAllTeams() {
@@ -44,6 +59,21 @@ class TeamControllerTest {
                 .anySatisfy(dto -> assertTeam(dto, 5L, "Champions", "CH", "CH", "New heroes in town"));
     }
 
+    @Test
+    void shouldExportAllTeamsAsNdJson() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ResponseEntity<StreamingResponseBody> response = controller.exportAll();
+        response.getBody().writeTo(outputStream);
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("application/x-ndjson");
+        assertThat(outputStream.toString(StandardCharsets.UTF_8).split("\n")).hasSize(5)
+                .allMatch(line -> line.startsWith("{") && line.endsWith("}"))
+                .anyMatch(line -> line.contains("\"name\":\"Avengers\""))
+                .anyMatch(line -> line.contains("\"name\":\"Champions\""));
+    }
+
     private void assertTeam(TeamDto dto, long id, String name, String codenameShort, String codenameFull, String description) {
         assertThat(dto.getId()).isEqualTo(id);
         assertThat(dto.getName()).isEqualTo(name);
@@ -150,6 +180,22 @@ class TeamControllerTest {
         assertThat(updated.getDescription()).isEqualTo(newDescription);
     }
 
+    @Test
+    void shouldReturnConflictWhenRenamingTeamToExistingName() {
+        TeamRepository teamRepository = mock(TeamRepository.class);
+        Team team = new Team();
+        given(teamRepository.findById(EXISTING_TEAM_ID)).willReturn(Optional.of(team));
+        given(teamRepository.save(team)).willThrow(uniqueViolationOf(Team.UNIQUE_NAME));
+        TeamController teamController = new TeamController(
+                teamRepository, userRepository, ndJsonStreamer(), new UserSnapshotCache(userRepository, 100, 60), true);
+        TeamDto dto = new TeamDto();
+        dto.setName("Guardians of the Galaxy");
+
+        ResponseEntity<TeamDto> response = teamController.updateTeam(EXISTING_TEAM_ID, dto);
+
+        assertThat(response.getStatusCode()).isEqualTo(CONFLICT);
+    }
+
     private String randomString() {
         return UUID.randomUUID().toString();
     }
@@ -280,4 +326,13 @@ class TeamControllerTest {
         dto.setUserIds(asList(userIds));
         return dto;
     }
+
+    private static NdJsonStreamer ndJsonStreamer() {
+        return new NdJsonStreamer(mock(PlatformTransactionManager.class), new ObjectMapper());
+    }
+
+    private DataIntegrityViolationException uniqueViolationOf(String constraintName) {
+        String message = "Unique index or primary key violation: \"PUBLIC." + constraintName.toUpperCase() + "_INDEX_1\"";
+        return new DataIntegrityViolationException("could not execute statement", new SQLIntegrityConstraintViolationException(message));
+    }
 }
\ No newline at end of file
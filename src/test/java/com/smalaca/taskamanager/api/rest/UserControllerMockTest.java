@@ -8,10 +8,13 @@ import com.smalaca.taskamanager.model.embedded.UserName;
 import com.smalaca.taskamanager.model.entities.User;
 import com.smalaca.taskamanager.model.enums.TeamRole;
 import com.smalaca.taskamanager.repository.UserRepository;
+import com.smalaca.taskamanager.repository.UserSnapshotCache;
+import com.smalaca.taskamanager.repository.UserSummary;
+import com.smalaca.taskamanager.service.CommunicatorRouting;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.ResponseEntity;
@@ -38,9 +41,9 @@ import static org.springframework.http.HttpStatus.OK;
 
 @ExtendWith(MockitoExtension.class)
 class UserControllerMockTest {
-    private static final User DUMMY_USER_1 = dummyUser();
-    private static final User DUMMY_USER_2 = dummyUser();
-    private static final List<User> DUMMY_USERS = ImmutableList.of(DUMMY_USER_1, DUMMY_USER_2);
+    private static final UserSummary DUMMY_USER_1 = mock(UserSummary.class);
+    private static final UserSummary DUMMY_USER_2 = mock(UserSummary.class);
+    private static final List<UserSummary> DUMMY_USERS = ImmutableList.of(DUMMY_USER_1, DUMMY_USER_2);
     private static final Long EXISTING_USER_ID = 13L;
     private static final Long NOT_EXISTING_USER_ID = 69L;
     private static final Long NEW_USER_ID = 42L;
@@ -61,11 +64,17 @@ class UserControllerMockTest {
     @Mock private UriComponents uriComponents;
 
     @Mock private UserRepository repository;
-    @InjectMocks private UserController controller;
+    @Mock private UserSnapshotCache userSnapshotCache;
+    private UserController controller;
+
+    @BeforeEach
+    void initController() {
+        controller = new UserController(repository, mock(NdJsonStreamer.class), userSnapshotCache, mock(CommunicatorRouting.class), false);
+    }
 
     @Test
     void shouldReturnAllUsers() {
-        given(repository.findAll()).willReturn(DUMMY_USERS);
+        given(repository.findAllSummaries()).willReturn(DUMMY_USERS);
 
         ResponseEntity<List<UserDto>> response = controller.getAllUsers();
 
@@ -213,13 +222,6 @@ class UserControllerMockTest {
         return user;
     }
 
-    private static User dummyUser() {
-        UserName userName = mock(UserName.class);
-        User user = mock(User.class);
-        given(user.getUserName()).willReturn(userName);
-        return user;
-    }
-
     private static UserName aMockedUserName() {
         UserName userName = mock(UserName.class);
         given(userName.getFirstName()).willReturn(FIRST_NAME);
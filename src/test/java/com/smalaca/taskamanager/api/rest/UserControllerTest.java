@@ -1,19 +1,26 @@
 package com.smalaca.taskamanager.api.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.dto.PageDto;
 import com.smalaca.taskamanager.dto.UserDto;
 import com.smalaca.taskamanager.model.enums.TeamRole;
+import com.smalaca.taskamanager.repository.UserSnapshotCache;
+import com.smalaca.taskamanager.service.CommunicatorRouting;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
 import java.util.UUID;
 
+import static com.smalaca.taskamanager.infrastructure.enums.CommunicatorType.MAIL;
 import static com.smalaca.taskamanager.model.enums.TeamRole.BUSINESS_ANALYSIS;
 import static com.smalaca.taskamanager.model.enums.TeamRole.DEVELOPER;
 import static com.smalaca.taskamanager.model.enums.TeamRole.TESTER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
@@ -30,7 +37,10 @@ class UserControllerTest {
     private static final String PASSWORD = "somethingExtremelyConfidential";
     private static final String TEAM_ROLE = DEVELOPER.name();
 
-    private final UserController controller = new UserController(new InMemoryUserRepository());
+    private final InMemoryUserRepository userRepository = new InMemoryUserRepository();
+    private final UserController controller = new UserController(
+            userRepository, ndJsonStreamer(), new UserSnapshotCache(userRepository, 100, 60),
+            new CommunicatorRouting(MAIL, 100, 60), false);
 
     @Test
     void shouldReturnAllUsers() {
@@ -45,6 +55,34 @@ class UserControllerTest {
                 .anySatisfy(userDto -> assertUser(userDto, 5L, "Anthony", "Stark", "Iron Man", DEVELOPER, "money@fake.domain.com", "123123123"));
     }
 
+    @Test
+    void shouldReturnFirstPageOfUsers() {
+        ResponseEntity<PageDto<UserDto>> response = controller.getUsers(null, 2);
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getBody().getItems()).extracting(UserDto::getId).containsExactly(1L, 2L);
+        assertThat(response.getBody().getNext()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldReturnNextPageOfUsers() {
+        ResponseEntity<PageDto<UserDto>> response = controller.getUsers(2L, 2);
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getBody().getItems()).extracting(UserDto::getId).containsExactly(3L, 4L);
+        assertThat(response.getBody().getNext()).isEqualTo(4L);
+    }
+
+    @Test
+    void shouldReturnLastPageOfUsersWithoutNextCursor() {
+        ResponseEntity<PageDto<UserDto>> response = controller.getUsers(4L, 2);
+
+        assertThat(response.getStatusCode()).isEqualTo(OK);
+        assertThat(response.getBody().getItems()).hasSize(1)
+                .anySatisfy(userDto -> assertUser(userDto, 5L, "Anthony", "Stark", "Iron Man", DEVELOPER, "money@fake.domain.com", "123123123"));
+        assertThat(response.getBody().getNext()).isNull();
+    }
+
     private void assertUser(UserDto updated, long id, String firstName, String lastName, String login, TeamRole teamRole, String emailAddress, String phoneNumber) {
         assertThat(updated.getId()).isEqualTo(id);
         assertThat(updated.getFirstName()).isEqualTo(firstName);
@@ -149,6 +187,7 @@ class UserControllerTest {
         userDto.setPhonePrefix(phonePrefix);
         userDto.setPhoneNumber(phoneNumber);
         userDto.setTeamRole(teamRole);
+        userDto.setPreferredCommunicator("SMS");
 
         ResponseEntity<UserDto> response = controller.updateUser(EXISTING_USER_ID, userDto);
 
@@ -163,6 +202,7 @@ class UserControllerTest {
         assertThat(actualDto.getPhonePrefix()).isEqualTo(phonePrefix);
         assertThat(actualDto.getPhoneNumber()).isEqualTo(phoneNumber);
         assertThat(actualDto.getTeamRole()).isEqualTo(teamRole);
+        assertThat(actualDto.getPreferredCommunicator()).isEqualTo("SMS");
         UserDto updated = controller.getUser(EXISTING_USER_ID).getBody();
         assertThat(updated.getLogin()).isEqualTo(newLogin);
         assertThat(updated.getPassword()).isEqualTo(newPassword);
@@ -170,6 +210,7 @@ class UserControllerTest {
         assertThat(updated.getPhonePrefix()).isEqualTo(phonePrefix);
         assertThat(updated.getPhoneNumber()).isEqualTo(phoneNumber);
         assertThat(updated.getTeamRole()).isEqualTo(teamRole);
+        assertThat(updated.getPreferredCommunicator()).isEqualTo("SMS");
     }
 
     private String randomString() {
@@ -190,4 +231,8 @@ class UserControllerTest {
         assertThat(response.getStatusCode()).isEqualTo(OK);
         assertThat(controller.getUser(EXISTING_USER_ID).getStatusCode()).isEqualTo(NOT_FOUND);
     }
+
+    private static NdJsonStreamer ndJsonStreamer() {
+        return new NdJsonStreamer(mock(PlatformTransactionManager.class), new ObjectMapper());
+    }
 }
\ No newline at end of file
@@ -7,7 +7,9 @@ import com.smalaca.taskamanager.model.entities.ProductOwner;
 import com.smalaca.taskamanager.repository.ProductOwnerRepository;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -16,6 +18,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 class ProductOwnerApplicationServiceTest {
     private static final String FIRST_NAME = "Tony";
@@ -23,6 +26,8 @@ class ProductOwnerApplicationServiceTest {
 
     private final ProductOwnerRepository repository = mock(ProductOwnerRepository.class);
     private final ProductOwnerApplicationService service = new ProductOwnerApplicationServiceFactory().productOwnerApplicationService(repository);
+    private final ProductOwnerApplicationService constraintBasedService = new ProductOwnerApplicationServiceFactory()
+            .productOwnerApplicationService(repository, true);
 
     @Test
     void shouldCreateProductOwner() {
@@ -62,7 +67,31 @@ class ProductOwnerApplicationServiceTest {
         given(repository.findByFirstNameAndLastName(FIRST_NAME, LAST_NAME)).willReturn(Optional.of(existing));
     }
 
+    @Test
+    void shouldCreateProductOwnerWithoutLookupWithUniqueConstraint() {
+        givenSavedProductOwner();
+
+        constraintBasedService.create(givenDto());
+
+        then(repository).should(never()).findByFirstNameAndLastName(any(), any());
+        then(repository).should().save(any());
+    }
+
+    @Test
+    void shouldRecognizeProductOwnerAlreadyExistsWithUniqueConstraint() {
+        given(repository.save(any())).willThrow(uniqueViolationOf(ProductOwner.UNIQUE_NAME));
+
+        ProductOwnerException actual = assertThrows(ProductOwnerException.class, () -> constraintBasedService.create(givenDto()));
+
+        assertThat(actual).hasMessage("Product Owner Tony Stark already exists.");
+    }
+
     private NewProductOwnerDto givenDto() {
         return new NewProductOwnerDto(FIRST_NAME, LAST_NAME);
     }
+
+    private DataIntegrityViolationException uniqueViolationOf(String constraintName) {
+        String message = "Unique index or primary key violation: \"PUBLIC." + constraintName.toUpperCase() + "_INDEX_1\"";
+        return new DataIntegrityViolationException("could not execute statement", new SQLIntegrityConstraintViolationException(message));
+    }
 }
\ No newline at end of file
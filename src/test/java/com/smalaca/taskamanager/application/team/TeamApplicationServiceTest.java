@@ -6,7 +6,9 @@ import com.smalaca.taskamanager.model.entities.Team;
 import com.smalaca.taskamanager.repository.TeamRepository;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.sql.SQLIntegrityConstraintViolationException;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -15,12 +17,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 class TeamApplicationServiceTest {
     private static final String TEAM_NAME = "Avengers";
 
     private final TeamRepository repository = mock(TeamRepository.class);
     private final TeamApplicationService service = new TeamApplicationServiceFactory().teamApplicationService(repository);
+    private final TeamApplicationService constraintBasedService = new TeamApplicationServiceFactory().teamApplicationService(repository, true);
 
     @Test
     void shouldCreateTeam() {
@@ -56,4 +60,38 @@ class TeamApplicationServiceTest {
         Optional<Team> existingTeam = Optional.of(TeamTestFactory.create(TEAM_NAME));
         given(repository.findByName(TEAM_NAME)).willReturn(existingTeam);
     }
+
+    @Test
+    void shouldCreateTeamWithoutLookupWithUniqueConstraint() {
+        givenSavedTeam();
+
+        constraintBasedService.create(TEAM_NAME);
+
+        then(repository).should(never()).findByName(any());
+        then(repository).should().save(any());
+    }
+
+    @Test
+    void shouldRecognizeTeamAlreadyExistsWithUniqueConstraint() {
+        given(repository.save(any())).willThrow(uniqueViolationOf(Team.UNIQUE_NAME));
+
+        TeamException actual = assertThrows(TeamException.class, () -> constraintBasedService.create(TEAM_NAME));
+
+        assertThat(actual).hasMessage("Team with name: Avengers already exists.");
+    }
+
+    @Test
+    void shouldNotHideViolationOfOtherConstraint() {
+        DataIntegrityViolationException violation = uniqueViolationOf("uk_other");
+        given(repository.save(any())).willThrow(violation);
+
+        DataIntegrityViolationException actual = assertThrows(DataIntegrityViolationException.class, () -> constraintBasedService.create(TEAM_NAME));
+
+        assertThat(actual).isSameAs(violation);
+    }
+
+    private DataIntegrityViolationException uniqueViolationOf(String constraintName) {
+        String message = "Unique index or primary key violation: \"PUBLIC." + constraintName.toUpperCase() + "_INDEX_1\"";
+        return new DataIntegrityViolationException("could not execute statement", new SQLIntegrityConstraintViolationException(message));
+    }
 }
\ No newline at end of file
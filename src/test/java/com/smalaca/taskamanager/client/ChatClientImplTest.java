@@ -3,6 +3,8 @@ package com.smalaca.taskamanager.client;
 import com.smalaca.taskamanager.model.other.ChatRoom;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ChatClientImplTest {
@@ -14,4 +16,9 @@ class ChatClientImplTest {
 
         assertThat(chatRoom.getUserName()).isEqualTo(userName);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldSendLinkToAllUserNames() {
+        new ChatClientImpl().sendToAll(List.of("steve.rogers", "tony.stark"), "www.refactoring.com");
+    }
+}
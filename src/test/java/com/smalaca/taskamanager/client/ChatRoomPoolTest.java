@@ -0,0 +1,80 @@
+package com.smalaca.taskamanager.client;
+
+import com.smalaca.taskamanager.exception.ChannelUnavailableException;
+import com.smalaca.taskamanager.model.other.ChatRoom;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ChatRoomPoolTest {
+    private static final String USER_NAME = "steve.rogers";
+    private static final int CONCURRENT_SENDERS = 16;
+
+    private final ChatRoomPool pool = new ChatRoomPool(100, 60);
+    private final AtomicInteger connections = new AtomicInteger();
+
+    @Test
+    void shouldConnectLoginOnlyOnceForConcurrentSenders() throws InterruptedException {
+        ExecutorService senders = Executors.newFixedThreadPool(CONCURRENT_SENDERS);
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentLinkedQueue<ChatRoom> chatRooms = new ConcurrentLinkedQueue<>();
+
+        for (int sender = 0; sender < CONCURRENT_SENDERS; sender++) {
+            senders.execute(() -> {
+                awaitQuietly(start);
+                chatRooms.add(pool.get(USER_NAME, this::connect));
+            });
+        }
+
+        start.countDown();
+        senders.shutdown();
+
+        assertThat(senders.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(connections).hasValue(1);
+        assertThat(chatRooms).hasSize(CONCURRENT_SENDERS).containsOnly(chatRooms.peek());
+    }
+
+    @Test
+    void shouldConnectAgainAfterInvalidation() {
+        pool.get(USER_NAME, this::connect);
+
+        pool.invalidate(USER_NAME);
+        pool.get(USER_NAME, this::connect);
+
+        assertThat(connections).hasValue(2);
+    }
+
+    @Test
+    void shouldRethrowConnectionFailure() {
+        ChannelUnavailableException failure = new ChannelUnavailableException("chat-client circuit is open.");
+
+        ChannelUnavailableException actual = assertThrows(ChannelUnavailableException.class, () -> pool.get(USER_NAME, userName -> {
+            throw failure;
+        }));
+
+        assertThat(actual).isSameAs(failure);
+    }
+
+    private ChatRoom connect(String userName) {
+        connections.incrementAndGet();
+        ChatRoom chatRoom = new ChatRoom();
+        chatRoom.setUserName(userName);
+        return chatRoom;
+    }
+
+    private void awaitQuietly(CountDownLatch start) {
+        try {
+            start.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
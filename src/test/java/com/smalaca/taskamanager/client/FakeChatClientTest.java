@@ -0,0 +1,26 @@
+package com.smalaca.taskamanager.client;
+
+import com.smalaca.taskamanager.model.other.ChatRoom;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FakeChatClientTest {
+    @Test
+    void shouldConnectWithUserName() {
+        ChatRoom chatRoom = new FakeChatClient(0, 0, 0).connectWith("steve.rogers");
+
+        chatRoom.send("www.refactoring.com");
+        chatRoom.send(List.of("www.refactoring.com", "www.legacy.code.com"));
+
+        assertThat(chatRoom.getUserName()).isEqualTo("steve.rogers");
+    }
+
+    @Test
+    void shouldFailAtConfiguredRate() {
+        assertThrows(IllegalStateException.class, () -> new FakeChatClient(0, 0, 1).connectWith("steve.rogers"));
+    }
+}
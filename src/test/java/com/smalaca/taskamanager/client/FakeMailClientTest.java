@@ -0,0 +1,20 @@
+package com.smalaca.taskamanager.client;
+
+import com.smalaca.taskamanager.model.other.Mail;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FakeMailClientTest {
+    @Test
+    void shouldSendMail() {
+        new FakeMailClient(0, 0, 0).sendAll(List.of(new Mail(), new Mail()));
+    }
+
+    @Test
+    void shouldFailAtConfiguredRate() {
+        assertThrows(IllegalStateException.class, () -> new FakeMailClient(0, 0, 1).send(new Mail()));
+    }
+}
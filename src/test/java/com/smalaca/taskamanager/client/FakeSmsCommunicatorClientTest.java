@@ -0,0 +1,18 @@
+package com.smalaca.taskamanager.client;
+
+import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FakeSmsCommunicatorClientTest {
+    @Test
+    void shouldTextToPhoneNumber() {
+        new FakeSmsCommunicatorClient(0, 0, 0).textTo(new PhoneNumber(), "www.refactoring.com");
+    }
+
+    @Test
+    void shouldFailAtConfiguredRate() {
+        assertThrows(IllegalStateException.class, () -> new FakeSmsCommunicatorClient(0, 0, 1).textTo(new PhoneNumber(), "www.refactoring.com"));
+    }
+}
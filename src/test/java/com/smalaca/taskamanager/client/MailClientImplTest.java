@@ -3,9 +3,16 @@ package com.smalaca.taskamanager.client;
 import com.smalaca.taskamanager.model.other.Mail;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 class MailClientImplTest {
     @Test
     void shouldSendMail() {
         new MailClientImpl().send(new Mail());
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldSendAllMails() {
+        new MailClientImpl().sendAll(List.of(new Mail(), new Mail()));
+    }
+}
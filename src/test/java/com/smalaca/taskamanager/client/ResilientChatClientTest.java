@@ -0,0 +1,90 @@
+package com.smalaca.taskamanager.client;
+
+import com.smalaca.taskamanager.exception.ChannelUnavailableException;
+import com.smalaca.taskamanager.infrastructure.resilience.CircuitBreaker;
+import com.smalaca.taskamanager.infrastructure.resilience.ResilientChannel;
+import com.smalaca.taskamanager.infrastructure.resilience.RetryBudget;
+import com.smalaca.taskamanager.model.other.ChatRoom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class ResilientChatClientTest {
+    private static final String USER_NAME = "steve.rogers";
+    private static final String LINK = "www.refactoring.com";
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final ChatClient gateway = mock(ChatClient.class);
+    private final ChatRoom chatRoom = mock(ChatRoom.class);
+    private final ResilientChannel channel = new ResilientChannel(
+            "chat-client", 2, 10, 1000, MAX_ATTEMPTS, 1, new RetryBudget(100, 0.1), new CircuitBreaker(10, 1000));
+    private final ResilientChatClient client = new ResilientChatClient(gateway, channel, new ChatRoomPool(100, 60));
+
+    @AfterEach
+    void shutdown() {
+        client.shutdown();
+    }
+
+    @Test
+    void shouldConnectThroughGateway() {
+        given(gateway.connectWith(USER_NAME)).willReturn(chatRoom);
+
+        ChatRoom actual = client.connectWith(USER_NAME);
+        actual.send(LINK);
+
+        assertThat(actual.getUserName()).isEqualTo(USER_NAME);
+        then(chatRoom).should().send(LINK);
+    }
+
+    @Test
+    void shouldReuseChatRoomOfUser() {
+        given(gateway.connectWith(USER_NAME)).willReturn(chatRoom);
+
+        client.sendToAll(List.of(USER_NAME, USER_NAME), LINK);
+
+        then(gateway).should().connectWith(USER_NAME);
+        then(chatRoom).should(times(2)).send(LINK);
+    }
+
+    @Test
+    void shouldSendSeveralLinksInOneCall() {
+        given(gateway.connectWith(USER_NAME)).willReturn(chatRoom);
+        List<String> links = List.of("/backlog/13", "/backlog/42");
+
+        client.connectWith(USER_NAME).send(links);
+
+        then(chatRoom).should().send(links);
+    }
+
+    @Test
+    void shouldRetrySendingToChatRoom() {
+        given(gateway.connectWith(USER_NAME)).willReturn(chatRoom);
+        willThrow(new IllegalStateException()).given(chatRoom).send(LINK);
+
+        ChatRoom actual = client.connectWith(USER_NAME);
+
+        assertThrows(ChannelUnavailableException.class, () -> actual.send(LINK));
+        then(chatRoom).should(times(MAX_ATTEMPTS)).send(LINK);
+    }
+
+    @Test
+    void shouldReconnectAfterChatRoomFailed() {
+        given(gateway.connectWith(USER_NAME)).willReturn(chatRoom);
+        willThrow(new IllegalStateException()).given(chatRoom).send(LINK);
+        ChatRoom broken = client.connectWith(USER_NAME);
+        assertThrows(ChannelUnavailableException.class, () -> broken.send(LINK));
+
+        client.connectWith(USER_NAME);
+
+        then(gateway).should(times(2)).connectWith(USER_NAME);
+    }
+}
@@ -0,0 +1,46 @@
+package com.smalaca.taskamanager.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SimulatedLatencyTest {
+    private static final long LATENCY_MILLIS = 20;
+
+    @AfterEach
+    void clearInterruption() {
+        Thread.interrupted();
+    }
+
+    @Test
+    void shouldDelayCallByConfiguredLatency() {
+        long startedAt = System.nanoTime();
+
+        new SimulatedLatency(LATENCY_MILLIS, 5, 0).apply();
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(LATENCY_MILLIS);
+    }
+
+    @Test
+    void shouldFailEveryCallWhenFailureRateIsOne() {
+        SimulatedLatency latency = new SimulatedLatency(0, 0, 1);
+
+        IllegalStateException actual = assertThrows(IllegalStateException.class, latency::apply);
+
+        assertThat(actual).hasMessage("Simulated gateway failure.");
+    }
+
+    @Test
+    void shouldFailAndKeepInterruptionWhenInterruptedWhileWaiting() {
+        Thread.currentThread().interrupt();
+
+        IllegalStateException actual = assertThrows(IllegalStateException.class, () -> new SimulatedLatency(LATENCY_MILLIS, 0, 0).apply());
+
+        assertThat(actual).hasCauseInstanceOf(InterruptedException.class);
+        assertThat(Thread.currentThread().isInterrupted()).isTrue();
+    }
+}
@@ -3,9 +3,16 @@ package com.smalaca.taskamanager.client;
 import com.smalaca.taskamanager.model.embedded.PhoneNumber;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 class SmsCommunicatorClientImplTest {
     @Test
     void shouldDoNothing() {
         new SmsCommunicatorClientImpl().textTo(new PhoneNumber(), "www.refactoring.com");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldDoNothingForManyRecipients() {
+        new SmsCommunicatorClientImpl().textToAll(List.of(new PhoneNumber(), new PhoneNumber()), "www.refactoring.com");
+    }
+}
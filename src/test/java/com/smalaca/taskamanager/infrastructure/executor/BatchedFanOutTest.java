@@ -0,0 +1,105 @@
+package com.smalaca.taskamanager.infrastructure.executor;
+
+import com.smalaca.taskamanager.model.entities.User;
+import com.smalaca.taskamanager.session.SessionHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+
+import static com.google.common.util.concurrent.Uninterruptibles.awaitUninterruptibly;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchedFanOutTest {
+    private static final int BATCH_SIZE = 10;
+    private static final int RECIPIENTS = 95;
+    private static final int CAPACITY = 100;
+    private static final long OFFER_TIMEOUT_MILLIS = 10;
+
+    private final ConcurrentLinkedQueue<List<Integer>> sent = new ConcurrentLinkedQueue<>();
+    private BatchedFanOut fanOut;
+
+    @AfterEach
+    void shutdown() {
+        fanOut.shutdown();
+        SessionHolder.instance().logOut();
+    }
+
+    @Test
+    void shouldSendAllRecipientsInBatchesInParallel() {
+        fanOut = new BatchedFanOut("test", BATCH_SIZE, 4, CAPACITY, OFFER_TIMEOUT_MILLIS);
+
+        fanOut.inBatches(recipients(), sent::add);
+
+        assertThat(sent).hasSize(10);
+        assertThat(sent).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(BATCH_SIZE));
+        assertThat(sent.stream().flatMap(List::stream)).containsExactlyInAnyOrderElementsOf(recipients());
+    }
+
+    @Test
+    void shouldSendBatchesWithSessionOfCaller() {
+        fanOut = new BatchedFanOut("test", BATCH_SIZE, 4, CAPACITY, OFFER_TIMEOUT_MILLIS);
+        User user = new User();
+        SessionHolder.instance().logIn(user);
+        ConcurrentLinkedQueue<User> loggedWhileSending = new ConcurrentLinkedQueue<>();
+
+        fanOut.inBatches(recipients(), batch -> loggedWhileSending.add(SessionHolder.instance().logged()));
+
+        assertThat(loggedWhileSending).hasSize(10).containsOnly(user);
+    }
+
+    @Test
+    void shouldSendBatchesInOrderWhenSequential() {
+        fanOut = new BatchedFanOut("test", BATCH_SIZE, 1, CAPACITY, OFFER_TIMEOUT_MILLIS);
+
+        fanOut.inBatches(recipients(), sent::add);
+
+        assertThat(sent.stream().flatMap(List::stream)).containsExactlyElementsOf(recipients());
+    }
+
+    @Test
+    void shouldSendNothingWhenNoRecipients() {
+        fanOut = new BatchedFanOut("test", BATCH_SIZE, 4, CAPACITY, OFFER_TIMEOUT_MILLIS);
+
+        fanOut.inBatches(List.<Integer>of(), sent::add);
+
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    void shouldSendOffCallerThreadWhenSequential() {
+        fanOut = new BatchedFanOut("test", BATCH_SIZE, 1, CAPACITY, OFFER_TIMEOUT_MILLIS);
+        ConcurrentLinkedQueue<Thread> sendingThreads = new ConcurrentLinkedQueue<>();
+
+        fanOut.inBatchesAsync(recipients(), batch -> sendingThreads.add(Thread.currentThread())).join();
+
+        assertThat(sendingThreads).hasSize(10).doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    void shouldRejectBatchesWhenQueueIsFull() {
+        fanOut = new BatchedFanOut("test", 1, 1, 1, OFFER_TIMEOUT_MILLIS);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> sending = fanOut.inBatchesAsync(asList(1, 2, 3), batch -> {
+            awaitUninterruptibly(release);
+            sent.add(batch);
+        });
+        release.countDown();
+
+        assertThatThrownBy(sending::join).hasCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(sent).containsExactly(asList(1), asList(2));
+    }
+
+    private List<Integer> recipients() {
+        return IntStream.range(0, RECIPIENTS).boxed().collect(toList());
+    }
+}
@@ -0,0 +1,68 @@
+package com.smalaca.taskamanager.infrastructure.executor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PartitionedExecutorTest {
+    private static final int ITEMS = 200;
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private PartitionedExecutor executor;
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldExecuteTasksOfTheSameKeyInSubmissionOrder() throws InterruptedException {
+        executor = new PartitionedExecutor("test", 4, ITEMS, 10);
+        List<Integer> executed = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(ITEMS);
+
+        IntStream.range(0, ITEMS).forEach(index -> executor.execute("STORY13", () -> {
+            executed.add(index);
+            done.countDown();
+        }));
+
+        assertThat(done.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactlyElementsOf(IntStream.range(0, ITEMS).boxed().collect(toList()));
+    }
+
+    @Test
+    void shouldRejectTaskWhenPartitionStaysFull() throws InterruptedException {
+        executor = new PartitionedExecutor("test", 1, 1, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute("STORY13", () -> {
+            started.countDown();
+            awaitQuietly(release);
+        });
+        started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        executor.execute("STORY13", () -> { });
+
+        assertThrows(RejectedExecutionException.class, () -> executor.execute("STORY13", () -> { }));
+        assertThat(executor.queued()).isEqualTo(1);
+        release.countDown();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.smalaca.taskamanager.infrastructure.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final long OPEN_MILLIS = 1000;
+    private static final int CONCURRENT_CALLERS = 16;
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(FAILURE_THRESHOLD, OPEN_MILLIS, now::get);
+
+    @Test
+    void shouldAllowCallsBelowFailureThreshold() {
+        circuitBreaker.failed();
+        circuitBreaker.failed();
+
+        assertThat(circuitBreaker.allowsCall()).isTrue();
+    }
+
+    @Test
+    void shouldOpenAfterConsecutiveFailures() {
+        failTimes(FAILURE_THRESHOLD);
+
+        assertThat(circuitBreaker.allowsCall()).isFalse();
+    }
+
+    @Test
+    void shouldNotCountFailuresSeparatedBySuccess() {
+        failTimes(FAILURE_THRESHOLD - 1);
+        circuitBreaker.succeeded();
+        circuitBreaker.failed();
+
+        assertThat(circuitBreaker.allowsCall()).isTrue();
+    }
+
+    @Test
+    void shouldLetTrialCallThroughWhenOpenPeriodPassed() {
+        failTimes(FAILURE_THRESHOLD);
+
+        passMillis(OPEN_MILLIS);
+
+        assertThat(circuitBreaker.allowsCall()).isTrue();
+    }
+
+    @Test
+    void shouldOpenAgainWhenTrialCallFailed() {
+        failTimes(FAILURE_THRESHOLD);
+        passMillis(OPEN_MILLIS);
+
+        circuitBreaker.failed();
+
+        assertThat(circuitBreaker.allowsCall()).isFalse();
+    }
+
+    @Test
+    void shouldCloseWhenTrialCallSucceeded() {
+        failTimes(FAILURE_THRESHOLD);
+        passMillis(OPEN_MILLIS);
+
+        circuitBreaker.succeeded();
+        circuitBreaker.failed();
+
+        assertThat(circuitBreaker.allowsCall()).isTrue();
+    }
+
+    @Test
+    void shouldLetOnlyOneConcurrentTrialCallThrough() throws InterruptedException {
+        failTimes(FAILURE_THRESHOLD);
+        passMillis(OPEN_MILLIS);
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENT_CALLERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        for (int caller = 0; caller < CONCURRENT_CALLERS; caller++) {
+            callers.execute(() -> {
+                awaitQuietly(start);
+
+                if (circuitBreaker.allowsCall()) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+
+        start.countDown();
+        callers.shutdown();
+
+        assertThat(callers.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(allowed).hasValue(1);
+    }
+
+    @Test
+    void shouldLetNextTrialCallThroughWhenTrialWasCancelled() {
+        failTimes(FAILURE_THRESHOLD);
+        passMillis(OPEN_MILLIS);
+        circuitBreaker.allowsCall();
+
+        circuitBreaker.cancelled();
+
+        assertThat(circuitBreaker.allowsCall()).isTrue();
+        assertThat(circuitBreaker.allowsCall()).isFalse();
+    }
+
+    private void awaitQuietly(CountDownLatch start) {
+        try {
+            start.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void failTimes(int failures) {
+        for (int failure = 0; failure < failures; failure++) {
+            circuitBreaker.failed();
+        }
+    }
+
+    private void passMillis(long millis) {
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
@@ -0,0 +1,161 @@
+package com.smalaca.taskamanager.infrastructure.resilience;
+
+import com.smalaca.taskamanager.exception.ChannelUnavailableException;
+import com.smalaca.taskamanager.model.entities.User;
+import com.smalaca.taskamanager.session.SessionHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResilientChannelTest {
+    private static final long TIMEOUT_MILLIS = 200;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final long OPEN_MILLIS = 60_000;
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private ResilientChannel channel = channel(TIMEOUT_MILLIS, new RetryBudget(100, 0.1));
+
+    @AfterEach
+    void shutdown() {
+        channel.shutdown();
+        SessionHolder.instance().logOut();
+    }
+
+    @Test
+    void shouldReturnResultOfCall() {
+        String result = channel.call(() -> "sent");
+
+        assertThat(result).isEqualTo("sent");
+    }
+
+    @Test
+    void shouldRetryFailedCall() {
+        String result = channel.call(() -> {
+            if (calls.incrementAndGet() < MAX_ATTEMPTS) {
+                throw new IllegalStateException();
+            }
+
+            return "sent";
+        });
+
+        assertThat(result).isEqualTo("sent");
+        assertThat(calls).hasValue(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void shouldGiveUpAfterMaxAttempts() {
+        IllegalStateException failure = new IllegalStateException();
+
+        ChannelUnavailableException actual = assertThrows(ChannelUnavailableException.class, () -> channel.run(() -> {
+            calls.incrementAndGet();
+            throw failure;
+        }));
+
+        assertThat(actual).hasCause(failure);
+        assertThat(calls).hasValue(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void shouldNotRetryWhenRetryBudgetIsSpent() {
+        channel.shutdown();
+        channel = channel(TIMEOUT_MILLIS, new RetryBudget(2, 0.1));
+
+        assertThrows(ChannelUnavailableException.class, () -> channel.run(() -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException();
+        }));
+
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void shouldFailCallExceedingDeadline() {
+        long startedAt = System.nanoTime();
+
+        assertThrows(ChannelUnavailableException.class, () -> channel.run(this::sleepLong));
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Test
+    void shouldRejectCallWhenBulkheadIsFull() throws InterruptedException {
+        channel.shutdown();
+        channel = channel(TimeUnit.SECONDS.toMillis(10), new RetryBudget(100, 0.1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread blocking = new Thread(() -> channel.run(() -> await(started, release)));
+        Thread queued = new Thread(() -> channel.run(() -> { }));
+        blocking.start();
+        started.await();
+        queued.start();
+        waitUntilQueued();
+
+        assertThrows(ChannelUnavailableException.class, () -> channel.run(calls::incrementAndGet));
+
+        release.countDown();
+        blocking.join();
+        queued.join();
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    void shouldStopCallingWhenCircuitIsOpen() {
+        for (int call = 0; call < 2; call++) {
+            assertThrows(ChannelUnavailableException.class, () -> channel.run(() -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException();
+            }));
+        }
+
+        assertThrows(ChannelUnavailableException.class, () -> channel.run(calls::incrementAndGet));
+
+        assertThat(calls).hasValue(FAILURE_THRESHOLD);
+    }
+
+    @Test
+    void shouldCallWithSessionOfCaller() {
+        User user = new User();
+        SessionHolder.instance().logIn(user);
+
+        User actual = channel.call(() -> SessionHolder.instance().logged());
+
+        assertThat(actual).isSameAs(user);
+    }
+
+    private ResilientChannel channel(long timeoutMillis, RetryBudget retryBudget) {
+        return new ResilientChannel(
+                "test", 1, 1, timeoutMillis, MAX_ATTEMPTS, 1,
+                retryBudget, new CircuitBreaker(FAILURE_THRESHOLD, OPEN_MILLIS));
+    }
+
+    private void sleepLong() {
+        try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void await(CountDownLatch started, CountDownLatch release) {
+        started.countDown();
+
+        try {
+            release.await();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        while (channel.queued() == 0) {
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.smalaca.taskamanager.infrastructure.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RetryBudgetTest {
+    private final RetryBudget retryBudget = new RetryBudget(10, 0.5);
+
+    @Test
+    void shouldAllowRetriesWhenBudgetIsFull() {
+        assertThat(retryBudget.allowsRetry()).isTrue();
+    }
+
+    @Test
+    void shouldStopRetriesWhenHalfOfBudgetIsSpent() {
+        failTimes(5);
+
+        assertThat(retryBudget.allowsRetry()).isFalse();
+    }
+
+    @Test
+    void shouldRefillBudgetWithSuccesses() {
+        failTimes(5);
+
+        retryBudget.succeeded();
+
+        assertThat(retryBudget.allowsRetry()).isTrue();
+    }
+
+    private void failTimes(int failures) {
+        for (int failure = 0; failure < failures; failure++) {
+            retryBudget.failed();
+        }
+    }
+}
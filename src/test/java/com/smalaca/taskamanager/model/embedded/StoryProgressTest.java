@@ -0,0 +1,61 @@
+package com.smalaca.taskamanager.model.embedded;
+
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import org.junit.jupiter.api.Test;
+
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.APPROVED;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.RELEASED;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.TO_BE_DEFINED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoryProgressTest {
+    private final StoryProgress progress = new StoryProgress();
+
+    @Test
+    void shouldHaveNoProgressWithoutTasks() {
+        assertThat(progress.total()).isZero();
+        assertThat(progress.percentDone()).isZero();
+        assertThat(progress.isAllDone()).isFalse();
+    }
+
+    @Test
+    void shouldCountTasksOfEveryStatus() {
+        for (ToDoItemStatus status : ToDoItemStatus.values()) {
+            progress.added(status);
+        }
+
+        for (ToDoItemStatus status : ToDoItemStatus.values()) {
+            assertThat(progress.count(status)).isEqualTo(1);
+        }
+        assertThat(progress.total()).isEqualTo(ToDoItemStatus.values().length);
+        assertThat(progress.percentDone()).isEqualTo(50);
+        assertThat(progress.isAllDone()).isFalse();
+    }
+
+    @Test
+    void shouldMoveTaskBetweenStatuses() {
+        progress.added(TO_BE_DEFINED);
+        progress.added(IN_PROGRESS);
+
+        progress.moved(TO_BE_DEFINED, DONE);
+
+        assertThat(progress.count(TO_BE_DEFINED)).isZero();
+        assertThat(progress.count(DONE)).isEqualTo(1);
+        assertThat(progress.percentDone()).isEqualTo(50);
+    }
+
+    @Test
+    void shouldRecognizeAllTasksDone() {
+        progress.added(DONE);
+        progress.added(APPROVED);
+        progress.added(IN_PROGRESS);
+
+        progress.removed(IN_PROGRESS);
+
+        assertThat(progress.count(RELEASED)).isZero();
+        assertThat(progress.percentDone()).isEqualTo(100);
+        assertThat(progress.isAllDone()).isTrue();
+    }
+}
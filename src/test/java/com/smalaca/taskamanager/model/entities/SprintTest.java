@@ -0,0 +1,59 @@
+package com.smalaca.taskamanager.model.entities;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SprintTest {
+    @Test
+    void shouldPlanTask() {
+        Sprint sprint = new Sprint();
+        Task task = new Task();
+
+        sprint.plan(task);
+
+        assertThat(sprint.getTasks()).containsExactly(task);
+        assertThat(task.getCurrentSprint()).isSameAs(sprint);
+    }
+
+    @Test
+    void shouldNotPlanTaskTwice() {
+        Sprint sprint = new Sprint();
+        Task task = new Task();
+
+        sprint.plan(task);
+        sprint.plan(task);
+
+        assertThat(sprint.getTasks()).containsExactly(task);
+    }
+
+    @Test
+    void shouldMoveTaskFromPreviousSprint() {
+        Sprint previous = new Sprint();
+        Sprint sprint = new Sprint();
+        Task task = new Task();
+        previous.plan(task);
+
+        sprint.plan(task);
+
+        assertThat(previous.getTasks()).isEmpty();
+        assertThat(sprint.getTasks()).containsExactly(task);
+        assertThat(task.getCurrentSprint()).isSameAs(sprint);
+    }
+
+    @Test
+    void shouldPlanStoryKeepingItsSprintHistory() {
+        Sprint previous = new Sprint();
+        Sprint sprint = new Sprint();
+        Story story = new Story();
+        previous.plan(story);
+
+        sprint.plan(story);
+        sprint.plan(story);
+
+        assertThat(previous.getStories()).containsExactly(story);
+        assertThat(sprint.getStories()).containsExactly(story);
+        assertThat(story.getSprints()).containsExactly(previous, sprint);
+        assertThat(story.getCurrentSprint()).isSameAs(sprint);
+    }
+}
@@ -3,8 +3,11 @@ package com.smalaca.taskamanager.model.entities;
 import com.smalaca.taskamanager.model.embedded.Assignee;
 import com.smalaca.taskamanager.model.embedded.Stakeholder;
 import com.smalaca.taskamanager.model.embedded.Watcher;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import org.junit.jupiter.api.Test;
 
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -129,4 +132,49 @@ class StoryTest {
         stakeholder.setLastName(lastName);
         return stakeholder;
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldTrackProgressOfTasks() {
+        Story story = new Story();
+        Task done = taskOf(story, DONE);
+        Task inProgress = taskOf(story, IN_PROGRESS);
+
+        inProgress.setStatus(DONE);
+
+        assertThat(story.getProgress().count(DONE)).isEqualTo(2);
+        assertThat(story.getProgress().count(IN_PROGRESS)).isZero();
+        assertThat(story.getProgress().isAllDone()).isTrue();
+        assertThat(story.getTasks()).containsExactly(done, inProgress);
+    }
+
+    @Test
+    void shouldNotTrackProgressOfRemovedTask() {
+        Story story = new Story();
+        taskOf(story, DONE);
+        Task removed = taskOf(story, IN_PROGRESS);
+
+        story.removeTask(removed);
+        story.removeTask(removed);
+
+        assertThat(story.getProgress().total()).isEqualTo(1);
+        assertThat(story.getProgress().percentDone()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldNotChangeProgressWhenStatusOfTaskIsTheSame() {
+        Story story = new Story();
+        Task task = taskOf(story, DONE);
+
+        task.setStatus(DONE);
+
+        assertThat(story.getProgress().count(DONE)).isEqualTo(1);
+    }
+
+    private Task taskOf(Story story, ToDoItemStatus status) {
+        Task task = new Task();
+        task.setStatus(status);
+        task.setStory(story);
+        story.addTask(task);
+        return task;
+    }
+}
@@ -2,9 +2,24 @@ package com.smalaca.taskamanager.model.other;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.spy;
+
 class ChatRoomTest {
     @Test
     void shouldDoNothingWhenSend() {
         new ChatRoom().send("www.legacy.code.com");
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldSendEachLinkWhenSendingSeveral() {
+        ChatRoom chatRoom = spy(new ChatRoom());
+
+        chatRoom.send(List.of("www.legacy.code.com", "www.refactoring.com"));
+
+        then(chatRoom).should().send("www.legacy.code.com");
+        then(chatRoom).should().send("www.refactoring.com");
+    }
+}
@@ -1,11 +1,18 @@
 package com.smalaca.taskamanager.processor;
 
+import com.smalaca.taskamanager.events.EpicReadyToPrioritize;
 import com.smalaca.taskamanager.events.StoryApprovedEvent;
+import com.smalaca.taskamanager.events.StoryDoneEvent;
 import com.smalaca.taskamanager.events.TaskApprovedEvent;
 import com.smalaca.taskamanager.events.ToDoItemReleasedEvent;
+import com.smalaca.taskamanager.exception.UnsupportedToDoItemType;
 import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.ProductOwner;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Sprint;
 import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import com.smalaca.taskamanager.model.interfaces.ToDoItem;
 import com.smalaca.taskamanager.registry.EventsRegistry;
 import com.smalaca.taskamanager.service.CommunicationService;
@@ -15,11 +22,21 @@ import com.smalaca.taskamanager.service.StoryService;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.util.List;
+
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.APPROVED;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DEFINED;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
 import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.RELEASED;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.TO_BE_DEFINED;
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -108,4 +125,206 @@ class ToDoItemProcessorTest {
         verifyNoMoreInteractions(eventsRegistry);
         verifyNoInteractions(storyService, projectBacklogService, communicationService, sprintBacklogService);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldNotProcessToDoItemToBeDefined() {
+        Story story = mock(Story.class);
+        given(story.getStatus()).willReturn(TO_BE_DEFINED);
+
+        processor.processFor(story);
+
+        verifyNoInteractions(eventsRegistry, storyService, projectBacklogService, communicationService, sprintBacklogService);
+    }
+
+    @Test
+    void shouldMoveDefinedStoryWithoutTasksToReadyForDevelopment() {
+        Project project = new Project();
+        Story story = mock(Story.class);
+        given(story.getStatus()).willReturn(DEFINED);
+        given(story.getTasks()).willReturn(emptyList());
+        given(story.getProject()).willReturn(project);
+
+        processor.processFor(story);
+
+        then(projectBacklogService).should().moveToReadyForDevelopment(story, project);
+        verifyNoInteractions(eventsRegistry, storyService, communicationService, sprintBacklogService);
+    }
+
+    @Test
+    void shouldNotifyTeamsAboutDefinedStoryThatIsNotAssigned() {
+        Project project = new Project();
+        Story story = mock(Story.class);
+        given(story.getStatus()).willReturn(DEFINED);
+        given(story.getTasks()).willReturn(List.of(new Task()));
+        given(story.isAssigned()).willReturn(false);
+        given(story.getProject()).willReturn(project);
+
+        processor.processFor(story);
+
+        then(communicationService).should().notifyTeamsAbout(story, project);
+        verifyNoInteractions(eventsRegistry, storyService, projectBacklogService, sprintBacklogService);
+    }
+
+    @Test
+    void shouldNotProcessDefinedStoryThatIsAssigned() {
+        Story story = mock(Story.class);
+        given(story.getStatus()).willReturn(DEFINED);
+        given(story.getTasks()).willReturn(List.of(new Task()));
+        given(story.isAssigned()).willReturn(true);
+
+        processor.processFor(story);
+
+        verifyNoInteractions(eventsRegistry, storyService, projectBacklogService, communicationService, sprintBacklogService);
+    }
+
+    @Test
+    void shouldMoveDefinedTaskToReadyForDevelopment() {
+        Sprint sprint = new Sprint();
+        Task task = mock(Task.class);
+        given(task.getStatus()).willReturn(DEFINED);
+        given(task.getCurrentSprint()).willReturn(sprint);
+
+        processor.processFor(task);
+
+        then(sprintBacklogService).should().moveToReadyForDevelopment(task, sprint);
+        verifyNoInteractions(eventsRegistry, storyService, projectBacklogService, communicationService);
+    }
+
+    @Test
+    void shouldPutDefinedEpicOnTopOfBacklog() {
+        ArgumentCaptor<EpicReadyToPrioritize> captor = ArgumentCaptor.forClass(EpicReadyToPrioritize.class);
+        ProductOwner productOwner = new ProductOwner();
+        Project project = new Project();
+        project.setProductOwner(productOwner);
+        Epic epic = mock(Epic.class);
+        given(epic.getStatus()).willReturn(DEFINED);
+        given(epic.getId()).willReturn(TO_DO_ITEM_ID);
+        given(epic.getProject()).willReturn(project);
+
+        processor.processFor(epic);
+
+        then(projectBacklogService).should().putOnTop(epic);
+        then(eventsRegistry).should().publish(captor.capture());
+        assertThat(captor.getValue().getEpicId()).isEqualTo(TO_DO_ITEM_ID);
+        then(communicationService).should().notify(epic, productOwner);
+        verifyNoInteractions(storyService, sprintBacklogService);
+    }
+
+    @Test
+    void shouldNotSupportDefinedToDoItemOfUnknownType() {
+        ToDoItem toDoItem = mock(ToDoItem.class);
+        given(toDoItem.getStatus()).willReturn(DEFINED);
+
+        assertThrows(UnsupportedToDoItemType.class, () -> processor.processFor(toDoItem));
+    }
+
+    @Test
+    void shouldUpdateProgressOfStoryWhenTaskInProgress() {
+        Story story = mock(Story.class);
+        Task task = mock(Task.class);
+        given(task.getStatus()).willReturn(IN_PROGRESS);
+        given(task.getStory()).willReturn(story);
+
+        processor.processFor(task);
+
+        then(storyService).should().updateProgressOf(story, task);
+        verifyNoInteractions(eventsRegistry, projectBacklogService, communicationService, sprintBacklogService);
+    }
+
+    @Test
+    void shouldNotProcessStoryInProgress() {
+        Story story = mock(Story.class);
+        given(story.getStatus()).willReturn(IN_PROGRESS);
+
+        processor.processFor(story);
+
+        verifyNoInteractions(eventsRegistry, storyService, projectBacklogService, communicationService, sprintBacklogService);
+    }
+
+    @Test
+    void shouldPublishStoryDoneWhenLastTaskIsDone() {
+        ArgumentCaptor<StoryDoneEvent> captor = ArgumentCaptor.forClass(StoryDoneEvent.class);
+        Story story = mock(Story.class);
+        given(story.getId()).willReturn(STORY_ID);
+        given(story.getStatus()).willReturn(DONE);
+        Task task = mock(Task.class);
+        given(task.getStatus()).willReturn(DONE);
+        given(task.getStory()).willReturn(story);
+
+        processor.processFor(task);
+
+        then(storyService).should().updateProgressOf(story, task);
+        then(eventsRegistry).should().publish(captor.capture());
+        assertThat(captor.getValue().getStoryId()).isEqualTo(STORY_ID);
+    }
+
+    @Test
+    void shouldOnlyUpdateProgressOfStoryWhenTaskIsDoneButStoryIsNot() {
+        Story story = mock(Story.class);
+        given(story.getStatus()).willReturn(IN_PROGRESS);
+        Task task = mock(Task.class);
+        given(task.getStatus()).willReturn(DONE);
+        given(task.getStory()).willReturn(story);
+
+        processor.processFor(task);
+
+        then(storyService).should().updateProgressOf(story, task);
+        verifyNoInteractions(eventsRegistry);
+    }
+
+    @Test
+    void shouldPublishStoryDoneWhenStoryIsDone() {
+        ArgumentCaptor<StoryDoneEvent> captor = ArgumentCaptor.forClass(StoryDoneEvent.class);
+        Story story = mock(Story.class);
+        given(story.getStatus()).willReturn(DONE);
+        given(story.getId()).willReturn(STORY_ID);
+
+        processor.processFor(story);
+
+        then(eventsRegistry).should().publish(captor.capture());
+        assertThat(captor.getValue().getStoryId()).isEqualTo(STORY_ID);
+        verifyNoInteractions(storyService, projectBacklogService, communicationService, sprintBacklogService);
+    }
+
+    @Test
+    void shouldUpdateProgressOfEveryStoryOnceWhenProcessingManyItems() {
+        Story story = mock(Story.class);
+        Story otherStory = mock(Story.class);
+        Task first = taskOf(story, DONE);
+        Task last = taskOf(story, IN_PROGRESS);
+        Task other = taskOf(otherStory, IN_PROGRESS);
+        Task withoutStory = taskOf(null, IN_PROGRESS);
+        Story approved = mock(Story.class);
+        given(approved.getStatus()).willReturn(APPROVED);
+
+        processor.processAll(List.of(first, other, approved, last, withoutStory));
+
+        then(storyService).should().updateProgressOf(story, last);
+        then(storyService).should().updateProgressOf(otherStory, other);
+        then(storyService).should().updateProgressOf(null, withoutStory);
+        verifyNoMoreInteractions(storyService);
+        then(eventsRegistry).should().publish(any(StoryApprovedEvent.class));
+    }
+
+    @Test
+    void shouldKeepProcessingManyItemsWhenOneOfThemFails() {
+        Story story = mock(Story.class);
+        Story otherStory = mock(Story.class);
+        Task first = taskOf(story, DONE);
+        Task last = taskOf(story, IN_PROGRESS);
+        Task other = taskOf(otherStory, IN_PROGRESS);
+        willThrow(new RuntimeException()).given(storyService).updateProgressOf(story, last);
+
+        List<ToDoItem> actual = processor.processAll(List.of(first, last, other));
+
+        assertThat(actual).containsExactly(first, last);
+        then(storyService).should().updateProgressOf(otherStory, other);
+    }
+
+    private Task taskOf(Story story, ToDoItemStatus status) {
+        Task task = mock(Task.class);
+        given(task.getStatus()).willReturn(status);
+        given(task.getStory()).willReturn(story);
+        return task;
+    }
+}
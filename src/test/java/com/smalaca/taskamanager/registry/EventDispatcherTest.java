@@ -0,0 +1,84 @@
+package com.smalaca.taskamanager.registry;
+
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.events.TaskApprovedEvent;
+import com.smalaca.taskamanager.events.ToDoItemStatusChangedEvent;
+import com.smalaca.taskamanager.infrastructure.executor.PartitionedExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventDispatcherTest {
+    private static final long STORY_ID = 13;
+    private static final int EVENTS = 100;
+
+    private final List<Object> published = Collections.synchronizedList(new ArrayList<>());
+    private EventDispatcher dispatcher;
+
+    @AfterEach
+    void shutdown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void shouldDispatchEventsOfSameAggregateInOrder() {
+        dispatcher = new EventDispatcher(published::add, new PartitionedExecutor("test", 4, EVENTS, 10));
+        List<TaskApprovedEvent> events = IntStream.range(0, EVENTS).mapToObj(index -> taskApproved()).collect(toList());
+
+        CompletableFuture.allOf(events.stream().map(dispatcher::dispatch).toArray(CompletableFuture[]::new)).join();
+
+        assertThat(published).containsExactlyElementsOf(events);
+        assertThat(dispatcher.stats().getDispatched()).isEqualTo(EVENTS);
+        assertThat(dispatcher.stats().getFailed()).isZero();
+        assertThat(dispatcher.stats().getQueueDepth()).isZero();
+        assertThat(dispatcher.stats().getMaxLatencyNanos()).isGreaterThanOrEqualTo(dispatcher.stats().getAverageLatencyNanos());
+    }
+
+    @Test
+    void shouldReportFailedDispatch() {
+        dispatcher = new EventDispatcher(event -> {
+            throw new IllegalStateException();
+        }, new PartitionedExecutor("test", 1, 1, 10));
+        StoryDoneEvent event = new StoryDoneEvent();
+        event.setStoryId(STORY_ID);
+
+        CompletableFuture<Void> actual = dispatcher.dispatch(event);
+
+        assertThrows(CompletionException.class, actual::join);
+        assertThat(dispatcher.stats().getFailed()).isEqualTo(1);
+        assertThat(dispatcher.stats().getDispatched()).isZero();
+    }
+
+    @Test
+    void shouldDispatchStatusChangeOfItemWithoutId() {
+        dispatcher = new EventDispatcher(published::add, new PartitionedExecutor("test", 1, 1, 10));
+        ToDoItemStatusChangedEvent event = new ToDoItemStatusChangedEvent();
+
+        dispatcher.dispatch(event).join();
+
+        assertThat(published).containsExactly(event);
+    }
+
+    @Test
+    void shouldHaveNoLatencyBeforeFirstDispatch() {
+        dispatcher = new EventDispatcher(published::add, new PartitionedExecutor("test", 1, 1, 10));
+
+        assertThat(dispatcher.stats().getAverageLatencyNanos()).isZero();
+    }
+
+    private TaskApprovedEvent taskApproved() {
+        TaskApprovedEvent event = new TaskApprovedEvent();
+        event.setTaskId(STORY_ID);
+        return event;
+    }
+}
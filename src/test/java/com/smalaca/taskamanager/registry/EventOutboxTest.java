@@ -0,0 +1,72 @@
+package com.smalaca.taskamanager.registry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.model.entities.OutboxEvent;
+import com.smalaca.taskamanager.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class EventOutboxTest {
+    private static final long STORY_ID = 13;
+    private static final Instant NOW = Instant.parse("2020-04-13T10:15:30Z");
+
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final EventOutbox outbox = new EventOutbox(repository, new ObjectMapper(), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void shouldAppendEventAsOutboxEntry() {
+        StoryDoneEvent event = new StoryDoneEvent();
+        event.setStoryId(STORY_ID);
+
+        outbox.append(event);
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        then(repository).should().save(captor.capture());
+        OutboxEvent actual = captor.getValue();
+        assertThat(actual.getType()).isEqualTo("StoryDoneEvent");
+        assertThat(actual.getPayload()).isEqualTo("{\"storyId\":13}");
+        assertThat(actual.getOccurredAt()).isEqualTo(NOW);
+        assertThat(actual.getNextAttemptAt()).isEqualTo(NOW);
+        assertThat(actual.getAttempts()).isZero();
+    }
+
+    @Test
+    void shouldRecreateEventFromOutboxEntry() {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setType("StoryDoneEvent");
+        outboxEvent.setPayload("{\"storyId\":13}");
+
+        Object actual = outbox.eventOf(outboxEvent);
+
+        assertThat(actual).isInstanceOf(StoryDoneEvent.class);
+        assertThat(((StoryDoneEvent) actual).getStoryId()).isEqualTo(STORY_ID);
+    }
+
+    @Test
+    void shouldNotRecreateUnknownEvent() {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setType("java.lang.Runtime");
+        outboxEvent.setPayload("{}");
+
+        assertThrows(IllegalStateException.class, () -> outbox.eventOf(outboxEvent));
+    }
+
+    @Test
+    void shouldNotRecreateEventFromCorruptedPayload() {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setType("StoryDoneEvent");
+        outboxEvent.setPayload("{corrupted");
+
+        assertThrows(IllegalStateException.class, () -> outbox.eventOf(outboxEvent));
+    }
+}
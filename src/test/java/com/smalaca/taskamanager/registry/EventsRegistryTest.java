@@ -5,13 +5,18 @@ import com.smalaca.taskamanager.events.StoryApprovedEvent;
 import com.smalaca.taskamanager.events.StoryDoneEvent;
 import com.smalaca.taskamanager.events.TaskApprovedEvent;
 import com.smalaca.taskamanager.events.ToDoItemReleasedEvent;
+import com.smalaca.taskamanager.events.ToDoItemStatusChangedEvent;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.context.ApplicationEventPublisher;
 
+import java.util.Optional;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 class EventsRegistryTest {
     private static final long ID = 13;
@@ -45,6 +50,21 @@ class EventsRegistryTest {
         assertThat(actual.getStoryId()).isEqualTo(ID);
     }
 
+    @Test
+    void shouldPublishToDoItemStatusChangedEvent() {
+        ToDoItemStatusChangedEvent event = new ToDoItemStatusChangedEvent();
+        event.setToDoItemId(ID);
+        event.setStatus("DONE");
+
+        registry.publish(event);
+
+        ArgumentCaptor<ToDoItemStatusChangedEvent> captor = ArgumentCaptor.forClass(ToDoItemStatusChangedEvent.class);
+        then(publisher).should().publishEvent(captor.capture());
+        ToDoItemStatusChangedEvent actual = captor.getValue();
+        assertThat(actual.getToDoItemId()).isEqualTo(ID);
+        assertThat(actual.getStatus()).isEqualTo("DONE");
+    }
+
     @Test
     void shouldPublishTaskApprovedEvent() {
         TaskApprovedEvent event = new TaskApprovedEvent();
@@ -83,4 +103,28 @@ class EventsRegistryTest {
         ToDoItemReleasedEvent actual = captor.getValue();
         assertThat(actual.getToDoItemId()).isEqualTo(ID);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldAppendEventToOutboxWhenEnabled() {
+        EventOutbox outbox = mock(EventOutbox.class);
+        EventsRegistry registryWithOutbox = new EventsRegistry(publisher, Optional.of(outbox), Optional.empty());
+        StoryDoneEvent event = new StoryDoneEvent();
+
+        registryWithOutbox.publish(event);
+
+        then(outbox).should().append(event);
+        then(publisher).should(never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void shouldHandEventToDispatcherWhenAsyncDispatchIsEnabled() {
+        EventDispatcher dispatcher = mock(EventDispatcher.class);
+        EventsRegistry registryWithDispatcher = new EventsRegistry(publisher, Optional.empty(), Optional.of(dispatcher));
+        TaskApprovedEvent event = new TaskApprovedEvent();
+
+        registryWithDispatcher.publish(event);
+
+        then(dispatcher).should().dispatch(event);
+        then(publisher).should(never()).publishEvent(any(Object.class));
+    }
+}
@@ -0,0 +1,131 @@
+package com.smalaca.taskamanager.registry;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.model.entities.OutboxEvent;
+import com.smalaca.taskamanager.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito.BDDMyOngoingStubbing;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class OutboxRelayTest {
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MILLIS = 1000;
+    private static final PageRequest FIRST_BATCH = PageRequest.of(0, BATCH_SIZE);
+    private static final Instant NOW = Instant.parse("2020-04-01T10:15:30Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private final OutboxEventRepository repository = mock(OutboxEventRepository.class);
+    private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+    private final EventOutbox outbox = new EventOutbox(repository, new ObjectMapper());
+    private final OutboxRelay relay = new OutboxRelay(
+            repository, outbox, publisher, Optional.empty(), mock(PlatformTransactionManager.class),
+            BATCH_SIZE, MAX_ATTEMPTS, RETRY_BACKOFF_MILLIS, CLOCK);
+
+    @Test
+    void shouldDoNothingWhenOutboxIsEmpty() {
+        givenDueEvents().willReturn(emptyList());
+
+        relay.relay();
+
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void shouldPublishAndRemoveEventsUntilOutboxIsDrained() {
+        List<OutboxEvent> firstBatch = List.of(storyDone(1), storyDone(2));
+        List<OutboxEvent> secondBatch = List.of(storyDone(3));
+        givenDueEvents().willReturn(firstBatch, secondBatch);
+
+        relay.relay();
+
+        then(publisher).should(times(3)).publishEvent(any(StoryDoneEvent.class));
+        then(repository).should().deleteAll(firstBatch);
+        then(repository).should().deleteAll(secondBatch);
+    }
+
+    @Test
+    void shouldPostponeUndeliveredEventAndRelayEventsAfterIt() {
+        OutboxEvent failed = storyDone(1);
+        OutboxEvent delivered = storyDone(2);
+        givenDueEvents().willReturn(List.of(failed, delivered), emptyList());
+        willThrow(new IllegalStateException()).willDoNothing().given(publisher).publishEvent(any(Object.class));
+
+        relay.relay();
+
+        then(repository).should().deleteAll(List.of(delivered));
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isEqualTo(NOW.plusMillis(RETRY_BACKOFF_MILLIS));
+        assertThat(failed.isDeadLettered()).isFalse();
+        assertThat(delivered.getAttempts()).isZero();
+    }
+
+    @Test
+    void shouldRemoveEventsOnlyAfterDispatcherDeliveredThem() {
+        EventDispatcher dispatcher = mock(EventDispatcher.class);
+        OutboxRelay relayWithDispatcher = new OutboxRelay(
+                repository, outbox, publisher, Optional.of(dispatcher), mock(PlatformTransactionManager.class),
+                BATCH_SIZE, MAX_ATTEMPTS, RETRY_BACKOFF_MILLIS, CLOCK);
+        OutboxEvent delivered = storyDone(1);
+        OutboxEvent failed = storyDone(2);
+        givenDueEvents().willReturn(List.of(delivered, failed), emptyList());
+        given(dispatcher.dispatch(any())).willReturn(
+                CompletableFuture.completedFuture(null), CompletableFuture.failedFuture(new IllegalStateException()));
+
+        relayWithDispatcher.relay();
+
+        then(repository).should().deleteAll(List.of(delivered));
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        verifyNoInteractions(publisher);
+    }
+
+    @Test
+    void shouldMoveEventToDeadLetterAfterMaxAttemptsAndRelayEventsAfterIt() {
+        OutboxEvent poison = storyDone(1);
+        poison.failedAttempt();
+        poison.failedAttempt();
+        OutboxEvent next = storyDone(2);
+        givenDueEvents().willReturn(List.of(poison, next), emptyList());
+        willThrow(new IllegalStateException()).willDoNothing().given(publisher).publishEvent(any(Object.class));
+
+        relay.relay();
+
+        assertThat(poison.isDeadLettered()).isTrue();
+        assertThat(poison.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        then(repository).should().save(poison);
+        then(repository).should().deleteAll(List.of(next));
+        then(publisher).should(times(2)).publishEvent(any(StoryDoneEvent.class));
+    }
+
+    private BDDMyOngoingStubbing<List<OutboxEvent>> givenDueEvents() {
+        return given(repository.findAllByDeadLetteredFalseAndNextAttemptAtLessThanEqualOrderByIdAsc(NOW, FIRST_BATCH));
+    }
+
+    private OutboxEvent storyDone(long storyId) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setType("StoryDoneEvent");
+        outboxEvent.setPayload("{\"storyId\":" + storyId + "}");
+        return outboxEvent;
+    }
+}
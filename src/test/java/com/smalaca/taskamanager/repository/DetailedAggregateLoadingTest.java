@@ -0,0 +1,161 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.embedded.Stakeholder;
+import com.smalaca.taskamanager.model.embedded.Watcher;
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.ProductOwner;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import javax.persistence.EntityManagerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class DetailedAggregateLoadingTest {
+    private static final long MAX_STATEMENTS = 2;
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private EpicRepository epicRepository;
+    @Autowired private StoryRepository storyRepository;
+    @Autowired private TaskRepository taskRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void statistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldLoadEpicWithBoundedNumberOfStatements() {
+        Long id = entityManager.persistAndGetId(epic(project()), Long.class);
+        givenCleanPersistenceContext();
+
+        Epic epic = epicRepository.findDetailedById(id).get();
+
+        assertThat(epic.getProject().getProductOwner().getFirstName()).isEqualTo("Nick");
+        assertThat(epic.getWatchers()).hasSize(2);
+        assertThat(epic.getStakeholders()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    void shouldLoadStoryWithBoundedNumberOfStatements() {
+        Project project = project();
+        Long id = entityManager.persistAndGetId(story(epic(project), sprint(project)), Long.class);
+        givenCleanPersistenceContext();
+
+        Story story = storyRepository.findDetailedById(id).get();
+
+        assertThat(story.getEpic().getProject().getProductOwner().getFirstName()).isEqualTo("Nick");
+        assertThat(story.getCurrentSprint().getProject().getName()).isEqualTo("Avengers Initiative");
+        assertThat(story.getWatchers()).hasSize(2);
+        assertThat(story.getStakeholders()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    void shouldLoadTaskWithBoundedNumberOfStatements() {
+        Project project = project();
+        Sprint sprint = sprint(project);
+        Task task = new Task();
+        task.setTitle("Assemble");
+        task.setStory(story(epic(project), sprint));
+        task.setCurrentSprint(sprint);
+        task.addWatcher(watcher("Steve", "Rogers"));
+        task.addWatcher(watcher("Natasha", "Romanoff"));
+        task.addStakeholder(stakeholder("Tony", "Stark"));
+        task.addStakeholder(stakeholder("Bruce", "Banner"));
+        Long id = entityManager.persistAndGetId(task, Long.class);
+        givenCleanPersistenceContext();
+
+        Task found = taskRepository.findDetailedById(id).get();
+
+        assertThat(found.getStory().getEpic().getProject().getProductOwner().getFirstName()).isEqualTo("Nick");
+        assertThat(found.getCurrentSprint().getName()).isEqualTo("Sprint 1");
+        assertThat(found.getWatchers()).hasSize(2);
+        assertThat(found.getStakeholders()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    void shouldNotFindNotExistingStory() {
+        assertThat(storyRepository.findDetailedById(13L)).isEmpty();
+    }
+
+    private void givenCleanPersistenceContext() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private Project project() {
+        ProductOwner productOwner = new ProductOwner();
+        productOwner.setFirstName("Nick");
+        entityManager.persist(productOwner);
+
+        Project project = new Project();
+        project.setName("Avengers Initiative");
+        project.setProductOwner(productOwner);
+
+        return entityManager.persist(project);
+    }
+
+    private Sprint sprint(Project project) {
+        Sprint sprint = new Sprint();
+        sprint.setName("Sprint 1");
+        sprint.setProject(project);
+
+        return entityManager.persist(sprint);
+    }
+
+    private Epic epic(Project project) {
+        Epic epic = new Epic();
+        epic.setTitle("Civil War");
+        epic.setProject(project);
+        epic.addWatcher(watcher("Steve", "Rogers"));
+        epic.addWatcher(watcher("Natasha", "Romanoff"));
+        epic.addStakeholder(stakeholder("Tony", "Stark"));
+        epic.addStakeholder(stakeholder("Bruce", "Banner"));
+
+        return entityManager.persist(epic);
+    }
+
+    private Story story(Epic epic, Sprint sprint) {
+        Story story = new Story();
+        story.setTitle("Registration Act");
+        story.setEpic(epic);
+        story.setCurrentSprint(sprint);
+        story.addWatcher(watcher("Steve", "Rogers"));
+        story.addWatcher(watcher("Natasha", "Romanoff"));
+        story.addStakeholder(stakeholder("Tony", "Stark"));
+        story.addStakeholder(stakeholder("Bruce", "Banner"));
+
+        return entityManager.persist(story);
+    }
+
+    private Watcher watcher(String firstName, String lastName) {
+        Watcher watcher = new Watcher();
+        watcher.setFirstName(firstName);
+        watcher.setLastName(lastName);
+        return watcher;
+    }
+
+    private Stakeholder stakeholder(String firstName, String lastName) {
+        Stakeholder stakeholder = new Stakeholder();
+        stakeholder.setFirstName(firstName);
+        stakeholder.setLastName(lastName);
+        return stakeholder;
+    }
+}
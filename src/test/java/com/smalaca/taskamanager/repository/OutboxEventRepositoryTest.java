@@ -0,0 +1,70 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.entities.OutboxEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class OutboxEventRepositoryTest {
+    private static final Instant NOW = Instant.parse("2020-04-01T10:15:30Z");
+
+    @Autowired private OutboxEventRepository repository;
+
+    @AfterEach
+    void deleteAll() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void shouldReturnOldestEventsFirstLimitedToBatch() {
+        Long first = repository.save(outboxEvent("StoryDoneEvent")).getId();
+        Long second = repository.save(outboxEvent("TaskApprovedEvent")).getId();
+        repository.save(outboxEvent("EpicReadyToPrioritize"));
+
+        List<OutboxEvent> actual = repository.findAllByDeadLetteredFalseAndNextAttemptAtLessThanEqualOrderByIdAsc(NOW, PageRequest.of(0, 2));
+
+        assertThat(actual).extracting(OutboxEvent::getId).containsExactly(first, second);
+        assertThat(actual).extracting(OutboxEvent::getType).containsExactly("StoryDoneEvent", "TaskApprovedEvent");
+    }
+
+    @Test
+    void shouldSkipDeadLetteredEvents() {
+        OutboxEvent deadLettered = outboxEvent("StoryDoneEvent");
+        deadLettered.deadLetter();
+        repository.save(deadLettered);
+        Long pending = repository.save(outboxEvent("TaskApprovedEvent")).getId();
+
+        List<OutboxEvent> actual = repository.findAllByDeadLetteredFalseAndNextAttemptAtLessThanEqualOrderByIdAsc(NOW, PageRequest.of(0, 2));
+
+        assertThat(actual).extracting(OutboxEvent::getId).containsExactly(pending);
+    }
+
+    @Test
+    void shouldSkipEventsNotDueYet() {
+        OutboxEvent postponed = outboxEvent("StoryDoneEvent");
+        postponed.setNextAttemptAt(NOW.plusSeconds(1));
+        repository.save(postponed);
+        Long due = repository.save(outboxEvent("TaskApprovedEvent")).getId();
+
+        List<OutboxEvent> actual = repository.findAllByDeadLetteredFalseAndNextAttemptAtLessThanEqualOrderByIdAsc(NOW, PageRequest.of(0, 2));
+
+        assertThat(actual).extracting(OutboxEvent::getId).containsExactly(due);
+    }
+
+    private OutboxEvent outboxEvent(String type) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setType(type);
+        outboxEvent.setPayload("{}");
+        outboxEvent.setOccurredAt(NOW);
+        outboxEvent.setNextAttemptAt(NOW);
+        return outboxEvent;
+    }
+}
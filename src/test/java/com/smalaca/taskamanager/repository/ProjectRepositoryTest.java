@@ -6,6 +6,9 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -58,6 +61,20 @@ class ProjectRepositoryTest {
         assertThat(actual.getProjectStatus()).isEqualTo(ProjectStatus.UNDER_MAINTENANCE);
     }
 
+    @Test
+    void shouldFindPageOfProjectSummaries() {
+        Long first = repository.save(project("X-Men", ProjectStatus.IDEA)).getId();
+        repository.save(project("Avengers", ProjectStatus.STARTED));
+        repository.save(project("Shi-ar", ProjectStatus.UNDER_MAINTENANCE));
+
+        List<ProjectSummary> actual = repository.findSummariesAfter(first, PageRequest.of(0, 1));
+
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getName()).isEqualTo("Avengers");
+        assertThat(actual.get(0).getProjectStatus()).isEqualTo(ProjectStatus.STARTED);
+        assertThat(actual.get(0).getProductOwnerId()).isNull();
+    }
+
     private Project project(String name, ProjectStatus status) {
         Project project = new Project();
         project.setName(name);
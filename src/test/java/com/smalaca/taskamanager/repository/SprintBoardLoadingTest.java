@@ -0,0 +1,118 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.embedded.Assignee;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SprintBoardLoadingTest {
+    private static final int TASKS = 20;
+    private static final long MAX_STATEMENTS = 2;
+
+    @Autowired private TestEntityManager entityManager;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+    @Autowired private SprintRepository sprintRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void statistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void shouldLoadBoardWithBoundedNumberOfStatements() {
+        Long id = givenSprintWithItems();
+
+        List<SprintBoardItem> tasks = sprintRepository.findBoardTasksById(id);
+        List<SprintBoardItem> stories = sprintRepository.findBoardStoriesById(id);
+
+        assertThat(tasks).hasSize(TASKS);
+        assertThat(tasks).extracting(SprintBoardItem::getStatus).isSortedAccordingTo(ToDoItemStatus::compareTo);
+        assertThat(tasks).filteredOn(task -> task.getStatus() == IN_PROGRESS)
+                .allSatisfy(task -> assertThat(task.getAssigneeFirstName()).isEqualTo("Peter"));
+        assertThat(tasks).filteredOn(task -> task.getStatus() == DONE)
+                .allSatisfy(task -> assertThat(task.getAssigneeFirstName()).isNull());
+        assertThat(stories).extracting(SprintBoardItem::getTitle).containsExactly("Homecoming");
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    void shouldStreamBoardTasksInStatusOrder() {
+        Long id = givenSprintWithItems();
+
+        try (Stream<SprintBoardItem> tasks = sprintRepository.streamBoardTasksById(id)) {
+            assertThat(tasks.map(SprintBoardItem::getStatus).collect(Collectors.toList()))
+                    .hasSize(TASKS)
+                    .isSortedAccordingTo(ToDoItemStatus::compareTo);
+        }
+    }
+
+    @Test
+    void shouldReturnEmptyBoardOfNotExistingSprint() {
+        assertThat(sprintRepository.findBoardTasksById(13L)).isEmpty();
+        assertThat(sprintRepository.findBoardStoriesById(13L)).isEmpty();
+    }
+
+    private Long givenSprintWithItems() {
+        Project project = new Project();
+        project.setName("Avengers Initiative");
+        entityManager.persist(project);
+
+        Sprint sprint = new Sprint();
+        sprint.setName("Sprint 1");
+        sprint.setProject(project);
+
+        for (int i = 0; i < TASKS; i++) {
+            sprint.addTask(task(i));
+        }
+
+        Story story = new Story();
+        story.setTitle("Homecoming");
+        entityManager.persist(story);
+        sprint.addStory(story);
+
+        Long id = entityManager.persistAndGetId(sprint, Long.class);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        return id;
+    }
+
+    private Task task(int index) {
+        Task task = new Task();
+        task.setTitle("Task " + index);
+
+        if (index % 2 == 0) {
+            task.setStatus(DONE);
+        } else {
+            task.setStatus(IN_PROGRESS);
+            Assignee assignee = new Assignee();
+            assignee.setFirstName("Peter");
+            assignee.setLastName("Parker");
+            task.setAssignee(assignee);
+        }
+
+        return entityManager.persist(task);
+    }
+}
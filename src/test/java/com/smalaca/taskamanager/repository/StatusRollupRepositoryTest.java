@@ -0,0 +1,60 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.events.ToDoItemStatusChangedEvent;
+import com.smalaca.taskamanager.model.entities.StatusRollup;
+import com.smalaca.taskamanager.service.StatusRollupProjection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static com.smalaca.taskamanager.model.enums.RollupScope.EPIC;
+import static com.smalaca.taskamanager.model.enums.RollupScope.PROJECT;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+class StatusRollupRepositoryTest {
+    private static final long EPIC_ID = 42;
+    private static final long PROJECT_ID = 69;
+    private static final String TASK = "TASK";
+
+    @Autowired private RollupEntryRepository entryRepository;
+    @Autowired private StatusRollupRepository rollupRepository;
+
+    @AfterEach
+    void deleteAll() {
+        entryRepository.deleteAll();
+        rollupRepository.deleteAll();
+    }
+
+    @Test
+    void shouldKeepCountersOfItemsPerStatus() {
+        StatusRollupProjection projection = new StatusRollupProjection(entryRepository, rollupRepository);
+
+        projection.on(event(1L, IN_PROGRESS.name()));
+        projection.on(event(2L, IN_PROGRESS.name()));
+        projection.on(event(1L, DONE.name()));
+
+        assertThat(rollupRepository.findAllByScopeAndScopeId(EPIC, EPIC_ID))
+                .extracting(StatusRollup::getItemType, StatusRollup::getStatus, StatusRollup::getItems)
+                .containsExactlyInAnyOrder(tuple(TASK, IN_PROGRESS, 1L), tuple(TASK, DONE, 1L));
+        assertThat(rollupRepository.findAllByScopeAndScopeId(PROJECT, PROJECT_ID))
+                .extracting(StatusRollup::getStatus, StatusRollup::getItems)
+                .containsExactlyInAnyOrder(tuple(IN_PROGRESS, 1L), tuple(DONE, 1L));
+        assertThat(entryRepository.findByItemTypeAndItemId(TASK, 1L)).hasValueSatisfying(entry ->
+                assertThat(entry.getStatus()).isEqualTo(DONE));
+    }
+
+    private ToDoItemStatusChangedEvent event(Long toDoItemId, String status) {
+        ToDoItemStatusChangedEvent event = new ToDoItemStatusChangedEvent();
+        event.setType(TASK);
+        event.setToDoItemId(toDoItemId);
+        event.setStatus(status);
+        event.setEpicId(EPIC_ID);
+        event.setProjectId(PROJECT_ID);
+        return event;
+    }
+}
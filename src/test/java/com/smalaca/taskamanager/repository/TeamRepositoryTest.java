@@ -6,11 +6,16 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DataJpaTest
 class TeamRepositoryTest {
@@ -65,6 +70,28 @@ class TeamRepositoryTest {
         assertThat(actual.getDescription()).isEqualTo("there is no description good enough");
     }
 
+    @Test
+    void shouldFindSummariesOfAllTeams() {
+        teamRepository.saveAll(asList(
+                team("Avengers", "A", "Mighty", "description is too long to be written"),
+                team("X-Men")
+        ));
+
+        List<TeamSummary> actual = teamRepository.findAllSummaries();
+
+        assertThat(actual).hasSize(2)
+                .anySatisfy(summary -> {
+                    assertThat(summary.getName()).isEqualTo("Avengers");
+                    assertThat(summary.getCodenameShort()).isEqualTo("A");
+                    assertThat(summary.getCodenameFull()).isEqualTo("Mighty");
+                    assertThat(summary.getDescription()).isEqualTo("description is too long to be written");
+                })
+                .anySatisfy(summary -> {
+                    assertThat(summary.getName()).isEqualTo("X-Men");
+                    assertThat(summary.getCodenameShort()).isNull();
+                });
+    }
+
     private Team team(String name, String codenameShort, String codenameFull, String description) {
         Team team = new Team();
         team.setName(name);
@@ -76,6 +103,16 @@ class TeamRepositoryTest {
         return team;
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void shouldRejectTeamWithAlreadyUsedName() {
+        teamRepository.save(team("Avengers"));
+
+        DataIntegrityViolationException actual = assertThrows(DataIntegrityViolationException.class, () -> teamRepository.save(team("Avengers")));
+
+        assertThat(UniqueConstraintViolations.isViolationOf(actual, Team.UNIQUE_NAME)).isTrue();
+    }
+
     private Predicate<Team> hasNameEqualTo(String name) {
         return team -> team.getName().equals(name);
     }
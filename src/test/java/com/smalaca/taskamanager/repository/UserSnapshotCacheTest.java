@@ -0,0 +1,84 @@
+package com.smalaca.taskamanager.repository;
+
+import com.smalaca.taskamanager.model.embedded.UserName;
+import com.smalaca.taskamanager.model.entities.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class UserSnapshotCacheTest {
+    private static final long USER_ID = 13L;
+    private static final long ANOTHER_USER_ID = 42L;
+    private static final long MAXIMUM_SIZE = 100;
+    private static final long EXPIRE_AFTER_WRITE_SECONDS = 60;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserSnapshotCache cache = new UserSnapshotCache(userRepository, MAXIMUM_SIZE, EXPIRE_AFTER_WRITE_SECONDS);
+
+    @Test
+    void shouldReadThroughOnlyOnce() {
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user("Peter", "Parker")));
+
+        cache.findById(USER_ID);
+        Optional<UserSnapshot> actual = cache.findById(USER_ID);
+
+        assertThat(actual.get().getUserName().getFirstName()).isEqualTo("Peter");
+        assertThat(actual.get().getPhoneNumber()).isNull();
+        assertThat(actual.get().getEmailAddress()).isNull();
+        then(userRepository).should(times(1)).findById(USER_ID);
+        assertThat(cache.stats().hitCount()).isEqualTo(1);
+        assertThat(cache.stats().missCount()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheNotExistingUser() {
+        given(userRepository.findById(USER_ID)).willReturn(Optional.empty());
+
+        cache.findById(USER_ID);
+        Optional<UserSnapshot> actual = cache.findById(USER_ID);
+
+        assertThat(actual).isEmpty();
+        then(userRepository).should(times(2)).findById(USER_ID);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldReloadInvalidatedUser() {
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user("Peter", "Parker")), Optional.of(user("Miles", "Morales")));
+        cache.findById(USER_ID);
+
+        cache.invalidate(USER_ID);
+        Optional<UserSnapshot> actual = cache.findById(USER_ID);
+
+        assertThat(actual.get().getUserName().getFirstName()).isEqualTo("Miles");
+    }
+
+    @Test
+    void shouldInvalidateAllGivenUsers() {
+        given(userRepository.findById(USER_ID)).willReturn(Optional.of(user("Peter", "Parker")));
+        given(userRepository.findById(ANOTHER_USER_ID)).willReturn(Optional.of(user("Mary", "Jane")));
+        cache.findById(USER_ID);
+        cache.findById(ANOTHER_USER_ID);
+
+        cache.invalidateAll(List.of(USER_ID, ANOTHER_USER_ID));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    private User user(String firstName, String lastName) {
+        User user = new User();
+        UserName userName = new UserName();
+        userName.setFirstName(firstName);
+        userName.setLastName(lastName);
+        user.setUserName(userName);
+        return user;
+    }
+}
@@ -4,6 +4,7 @@ import com.smalaca.taskamanager.client.ChatClient;
 import com.smalaca.taskamanager.client.MailClient;
 import com.smalaca.taskamanager.client.SmsCommunicatorClient;
 import com.smalaca.taskamanager.devnull.DevNullDirectory;
+import com.smalaca.taskamanager.infrastructure.enums.CommunicatorType;
 import com.smalaca.taskamanager.model.embedded.EmailAddress;
 import com.smalaca.taskamanager.model.embedded.Owner;
 import com.smalaca.taskamanager.model.embedded.PhoneNumber;
@@ -17,34 +18,75 @@ import com.smalaca.taskamanager.model.interfaces.ToDoItem;
 import com.smalaca.taskamanager.model.other.ChatRoom;
 import com.smalaca.taskamanager.model.other.Mail;
 import com.smalaca.taskamanager.session.SessionHolder;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
 import static com.smalaca.taskamanager.infrastructure.enums.CommunicatorType.DIRECT;
 import static com.smalaca.taskamanager.infrastructure.enums.CommunicatorType.MAIL;
 import static com.smalaca.taskamanager.infrastructure.enums.CommunicatorType.NULL_TYPE;
 import static com.smalaca.taskamanager.infrastructure.enums.CommunicatorType.SMS;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 class CommunicationServiceImplTest {
+    private static final int BATCH_SIZE = 2;
+    private static final int SEQUENTIAL = 1;
+    private static final int PARALLEL = 2;
+    private static final int QUEUE_CAPACITY = 100;
+    private static final long OFFER_TIMEOUT_MILLIS = 500;
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final long STORY_ID = 13L;
+    private static final String LINK = "/backlog/13";
+
     private final ProjectBacklogService projectBacklogService = mock(ProjectBacklogService.class);
     private final DevNullDirectory devNullDirectory = mock(DevNullDirectory.class);
     private final ChatClient chat = mock(ChatClient.class);
     private final SmsCommunicatorClient smsCommunicator = mock(SmsCommunicatorClient.class);
     private final MailClient mailClient = mock(MailClient.class);
-    private final CommunicationServiceImpl service = new CommunicationServiceImpl(projectBacklogService, devNullDirectory, chat, smsCommunicator, mailClient);
+    private CommunicationServiceImpl service;
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+        SessionHolder.instance().logOut();
+    }
+
+    @Test
+    void shouldSendMailFromSystemSenderWhenNobodyIsLogged() {
+        ToDoItem toDoItem = mock(ToDoItem.class);
+        service = service(MAIL);
+        ProductOwner productOwner = mock(ProductOwner.class);
+        EmailAddress emailAddress = mock(EmailAddress.class);
+        given(productOwner.getEmailAddress()).willReturn(emailAddress);
+        given(toDoItem.getId()).willReturn(13L);
+
+        service.notify(toDoItem, productOwner);
+
+        ArgumentCaptor<Mail> captor = ArgumentCaptor.forClass(Mail.class);
+        then(mailClient).should().send(captor.capture());
+        assertThat(captor.getValue().getFrom().getEmailAddress()).isEqualTo(CommunicationServiceImpl.SYSTEM_SENDER);
+        assertThat(captor.getValue().getTo()).isEqualTo(emailAddress);
+    }
 
     @Test
     void shouldNotifyProductOwnerViaMail() {
         ToDoItem toDoItem = mock(ToDoItem.class);
-        service.setType(MAIL);
+        service = service(MAIL);
         ProductOwner productOwner = mock(ProductOwner.class);
         EmailAddress emailAddress = mock(EmailAddress.class);
         given(productOwner.getEmailAddress()).willReturn(emailAddress);
@@ -75,7 +117,7 @@ class CommunicationServiceImplTest {
         given(toDoItem.getId()).willReturn(toDoItemId);
         String link = "www.letstalkaboutjava.com";
         given(projectBacklogService.linkFor(toDoItemId)).willReturn(link);
-        service.setType(SMS);
+        service = service(SMS);
         PhoneNumber phoneNumber = mock(PhoneNumber.class);
         ProductOwner productOwner = mock(ProductOwner.class);
         given(productOwner.getPhoneNumber()).willReturn(phoneNumber);
@@ -94,7 +136,7 @@ class CommunicationServiceImplTest {
         long toDoItemId = 42;
         ToDoItem toDoItem = mock(ToDoItem.class);
         given(toDoItem.getId()).willReturn(toDoItemId);
-        service.setType(DIRECT);
+        service = service(DIRECT);
         ProductOwner productOwner = mock(ProductOwner.class);
         String firstName = "Steve";
         String lastName = "Rogers";
@@ -119,7 +161,7 @@ class CommunicationServiceImplTest {
     @Test
     void shouldNotifyProductOwnerViaDevNull() {
         ToDoItem toDoItem = mock(ToDoItem.class);
-        service.setType(NULL_TYPE);
+        service = service(NULL_TYPE);
         ProductOwner productOwner = mock(ProductOwner.class);
 
         service.notify(toDoItem, productOwner);
@@ -131,7 +173,7 @@ class CommunicationServiceImplTest {
     @Test
     void shouldNotifyOwnerViaMail() {
         ToDoItem toDoItem = mock(ToDoItem.class);
-        service.setType(MAIL);
+        service = service(MAIL);
         Owner owner = mock(Owner.class);
         EmailAddress emailAddress = mock(EmailAddress.class);
         given(owner.getEmailAddress()).willReturn(emailAddress);
@@ -162,7 +204,7 @@ class CommunicationServiceImplTest {
         given(toDoItem.getId()).willReturn(toDoItemId);
         String link = "www.letstalkaboutjava.com";
         given(projectBacklogService.linkFor(toDoItemId)).willReturn(link);
-        service.setType(SMS);
+        service = service(SMS);
         PhoneNumber phoneNumber = mock(PhoneNumber.class);
         Owner owner = mock(Owner.class);
         given(owner.getPhoneNumber()).willReturn(phoneNumber);
@@ -181,7 +223,7 @@ class CommunicationServiceImplTest {
         long toDoItemId = 42;
         ToDoItem toDoItem = mock(ToDoItem.class);
         given(toDoItem.getId()).willReturn(toDoItemId);
-        service.setType(DIRECT);
+        service = service(DIRECT);
         Owner owner = mock(Owner.class);
         String firstName = "Steve";
         String lastName = "Rogers";
@@ -206,7 +248,7 @@ class CommunicationServiceImplTest {
     @Test
     void shouldNotifyOwnerViaDevNull() {
         ToDoItem toDoItem = mock(ToDoItem.class);
-        service.setType(NULL_TYPE);
+        service = service(NULL_TYPE);
         Owner owner = mock(Owner.class);
 
         service.notify(toDoItem, owner);
@@ -218,7 +260,7 @@ class CommunicationServiceImplTest {
     @Test
     void shouldNotifyWatcherViaMail() {
         ToDoItem toDoItem = mock(ToDoItem.class);
-        service.setType(MAIL);
+        service = service(MAIL);
         Watcher watcher = mock(Watcher.class);
         EmailAddress emailAddress = mock(EmailAddress.class);
         given(watcher.getEmailAddress()).willReturn(emailAddress);
@@ -249,7 +291,7 @@ class CommunicationServiceImplTest {
         given(toDoItem.getId()).willReturn(toDoItemId);
         String link = "www.letstalkaboutjava.com";
         given(projectBacklogService.linkFor(toDoItemId)).willReturn(link);
-        service.setType(SMS);
+        service = service(SMS);
         PhoneNumber phoneNumber = mock(PhoneNumber.class);
         Watcher watcher = mock(Watcher.class);
         given(watcher.getPhoneNumber()).willReturn(phoneNumber);
@@ -268,7 +310,7 @@ class CommunicationServiceImplTest {
         long toDoItemId = 42;
         ToDoItem toDoItem = mock(ToDoItem.class);
         given(toDoItem.getId()).willReturn(toDoItemId);
-        service.setType(DIRECT);
+        service = service(DIRECT);
         Watcher watcher = mock(Watcher.class);
         String firstName = "Steve";
         String lastName = "Rogers";
@@ -293,7 +335,7 @@ class CommunicationServiceImplTest {
     @Test
     void shouldNotifyWatcherViaDevNull() {
         ToDoItem toDoItem = mock(ToDoItem.class);
-        service.setType(NULL_TYPE);
+        service = service(NULL_TYPE);
         Watcher watcher = mock(Watcher.class);
 
         service.notify(toDoItem, watcher);
@@ -305,7 +347,7 @@ class CommunicationServiceImplTest {
     @Test
     void shouldNotifyStakeholderViaMail() {
         ToDoItem toDoItem = mock(ToDoItem.class);
-        service.setType(MAIL);
+        service = service(MAIL);
         Stakeholder stakeholder = mock(Stakeholder.class);
         EmailAddress emailAddress = mock(EmailAddress.class);
         given(stakeholder.getEmailAddress()).willReturn(emailAddress);
@@ -336,7 +378,7 @@ class CommunicationServiceImplTest {
         given(toDoItem.getId()).willReturn(toDoItemId);
         String link = "www.letstalkaboutjava.com";
         given(projectBacklogService.linkFor(toDoItemId)).willReturn(link);
-        service.setType(SMS);
+        service = service(SMS);
         PhoneNumber phoneNumber = mock(PhoneNumber.class);
         Stakeholder stakeholder = mock(Stakeholder.class);
         given(stakeholder.getPhoneNumber()).willReturn(phoneNumber);
@@ -355,7 +397,7 @@ class CommunicationServiceImplTest {
         long toDoItemId = 42;
         ToDoItem toDoItem = mock(ToDoItem.class);
         given(toDoItem.getId()).willReturn(toDoItemId);
-        service.setType(DIRECT);
+        service = service(DIRECT);
         Stakeholder stakeholder = mock(Stakeholder.class);
         String firstName = "Steve";
         String lastName = "Rogers";
@@ -380,7 +422,7 @@ class CommunicationServiceImplTest {
     @Test
     void shouldNotifyStakeholderViaDevNull() {
         ToDoItem toDoItem = mock(ToDoItem.class);
-        service.setType(NULL_TYPE);
+        service = service(NULL_TYPE);
         Stakeholder stakeholder = mock(Stakeholder.class);
 
         service.notify(toDoItem, stakeholder);
@@ -392,7 +434,7 @@ class CommunicationServiceImplTest {
     @Test
     void shouldNotifyUserViaMail() {
         ToDoItem toDoItem = mock(ToDoItem.class);
-        service.setType(MAIL);
+        service = service(MAIL);
         User user = mock(User.class);
         EmailAddress emailAddress = mock(EmailAddress.class);
         given(user.getEmailAddress()).willReturn(emailAddress);
@@ -413,6 +455,7 @@ class CommunicationServiceImplTest {
         assertThat(mail.getTo()).isEqualTo(emailAddress);
         assertThat(mail.getTopic()).isEqualTo("NOTIFICATION ABOUT: 13");
         assertThat(mail.getContent()).isEqualTo("13");
+        thenPreferenceWasChecked(user);
         verifyNoMoreInteractions(toDoItem, user, projectBacklogService, devNullDirectory, chat, smsCommunicator, mailClient);
     }
 
@@ -423,7 +466,7 @@ class CommunicationServiceImplTest {
         given(toDoItem.getId()).willReturn(toDoItemId);
         String link = "www.letstalkaboutjava.com";
         given(projectBacklogService.linkFor(toDoItemId)).willReturn(link);
-        service.setType(SMS);
+        service = service(SMS);
         PhoneNumber phoneNumber = mock(PhoneNumber.class);
         User user = mock(User.class);
         given(user.getPhoneNumber()).willReturn(phoneNumber);
@@ -434,6 +477,7 @@ class CommunicationServiceImplTest {
         then(toDoItem).should().getId();
         then(projectBacklogService).should().linkFor(toDoItemId);
         then(smsCommunicator).should().textTo(phoneNumber, link);
+        thenPreferenceWasChecked(user);
         verifyNoMoreInteractions(toDoItem, user, projectBacklogService, devNullDirectory, chat, smsCommunicator, mailClient);
     }
 
@@ -442,7 +486,7 @@ class CommunicationServiceImplTest {
         long toDoItemId = 42;
         ToDoItem toDoItem = mock(ToDoItem.class);
         given(toDoItem.getId()).willReturn(toDoItemId);
-        service.setType(DIRECT);
+        service = service(DIRECT);
         User user = mock(User.class);
         String login = "steve.rogers";
         given(user.getLogin()).willReturn(login);
@@ -458,25 +502,27 @@ class CommunicationServiceImplTest {
         then(toDoItem).should().getId();
         then(projectBacklogService).should().linkFor(toDoItemId);
         then(chatRoom).should().send(link);
+        thenPreferenceWasChecked(user);
         verifyNoMoreInteractions(toDoItem, user, projectBacklogService, devNullDirectory, chat, smsCommunicator, mailClient);
     }
 
     @Test
     void shouldNotifyUserViaDevNull() {
         ToDoItem toDoItem = mock(ToDoItem.class);
-        service.setType(NULL_TYPE);
+        service = service(NULL_TYPE);
         User user = mock(User.class);
 
         service.notify(toDoItem, user);
 
         then(devNullDirectory).should().forget();
+        thenPreferenceWasChecked(user);
         verifyNoMoreInteractions(toDoItem, user, projectBacklogService, devNullDirectory, chat, smsCommunicator, mailClient);
     }
     
     @Test
     void shouldDoNothingNotifyingTeam() {
         ToDoItem toDoItem = mock(ToDoItem.class);
-        service.setType(NULL_TYPE);
+        service = service(NULL_TYPE);
         Team team = mock(Team.class);
         given(team.getMembers()).willReturn(asList(mock(User.class), mock(User.class)));
 
@@ -490,7 +536,7 @@ class CommunicationServiceImplTest {
     @Test
     void shouldDoNothingNotifyingTeamsAboutProject() {
         ToDoItem toDoItem = mock(ToDoItem.class);
-        service.setType(NULL_TYPE);
+        service = service(NULL_TYPE);
         Team team1 = mock(Team.class);
         given(team1.getMembers()).willReturn(asList(mock(User.class), mock(User.class)));
         Team team2 = mock(Team.class);
@@ -504,4 +550,262 @@ class CommunicationServiceImplTest {
         then(devNullDirectory).should(times(3)).forget();
         verifyNoMoreInteractions(toDoItem, project, projectBacklogService, devNullDirectory, chat, smsCommunicator, mailClient);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldTextEveryTeamMemberOnceInBatches() {
+        ToDoItem toDoItem = toDoItem();
+        service = service(SMS);
+        User steve = member("steve", "111");
+        User tony = member("tony", "222");
+        User bruce = member("bruce", "333");
+
+        service.notifyTeamsAbout(toDoItem, project(team(steve, tony), team(tony, bruce)));
+
+        then(projectBacklogService).should().linkFor(STORY_ID);
+        then(smsCommunicator).should(timeout(TIMEOUT_MILLIS)).textToAll(asList(steve.getPhoneNumber(), tony.getPhoneNumber()), LINK);
+        then(smsCommunicator).should(timeout(TIMEOUT_MILLIS)).textToAll(asList(bruce.getPhoneNumber()), LINK);
+        verifyNoMoreInteractions(smsCommunicator, chat, mailClient);
+    }
+
+    @Test
+    void shouldChatWithEveryTeamMemberOnceInBatches() {
+        ToDoItem toDoItem = toDoItem();
+        service = service(DIRECT);
+        User steve = member("steve", "111");
+        User tony = member("tony", "222");
+
+        service.notifyTeamsAbout(toDoItem, project(team(steve, tony), team(tony)));
+
+        then(chat).should(timeout(TIMEOUT_MILLIS)).sendToAll(asList("steve", "tony"), LINK);
+        verifyNoMoreInteractions(smsCommunicator, chat, mailClient);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMailEveryTeamMemberOnceInBatches() {
+        ToDoItem toDoItem = toDoItem();
+        service = service(MAIL);
+        User logged = member("nick", "000");
+        SessionHolder.instance().logIn(logged);
+        User steve = member("steve", "111");
+        User tony = member("tony", "222");
+        User bruce = member("bruce", "333");
+
+        service.notify(toDoItem, team(steve, tony, steve, bruce));
+
+        ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        then(mailClient).should(timeout(TIMEOUT_MILLIS).times(2)).sendAll(captor.capture());
+        List<Mail> firstBatch = captor.getAllValues().get(0);
+        List<Mail> secondBatch = captor.getAllValues().get(1);
+        assertThat(firstBatch).extracting(Mail::getTo).containsExactly(steve.getEmailAddress(), tony.getEmailAddress());
+        assertThat(secondBatch).extracting(Mail::getTo).containsExactly(bruce.getEmailAddress());
+        assertThat(secondBatch.get(0).getFrom()).isEqualTo(logged.getEmailAddress());
+        assertThat(secondBatch.get(0).getTopic()).isEqualTo("NOTIFICATION ABOUT: 13");
+        assertThat(secondBatch.get(0).getContent()).isEqualTo("13");
+        verifyNoMoreInteractions(smsCommunicator, chat, mailClient);
+    }
+
+    @Test
+    void shouldNotMailTeamMembersWithoutEmailAddress() {
+        ToDoItem toDoItem = toDoItem();
+        service = service(MAIL);
+
+        service.notify(toDoItem, team(new User(), new User()));
+
+        verifyNoMoreInteractions(smsCommunicator, chat, mailClient);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldRouteEveryTeamMemberToPreferredCommunicator() {
+        ToDoItem toDoItem = toDoItem();
+        service = service(DIRECT);
+        SessionHolder.instance().logIn(member("nick", "000"));
+        User steve = member("steve", "111");
+        User tony = preferring(member("tony", "222"), SMS);
+        User bruce = preferring(member("bruce", "333"), MAIL);
+
+        service.notify(toDoItem, team(steve, tony, bruce));
+
+        then(chat).should(timeout(TIMEOUT_MILLIS)).sendToAll(asList("steve"), LINK);
+        then(smsCommunicator).should(timeout(TIMEOUT_MILLIS)).textToAll(asList(tony.getPhoneNumber()), LINK);
+        ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        then(mailClient).should(timeout(TIMEOUT_MILLIS)).sendAll(captor.capture());
+        List<Mail> mails = captor.getValue();
+        assertThat(mails).extracting(Mail::getTo).containsExactly(bruce.getEmailAddress());
+        verifyNoMoreInteractions(smsCommunicator, chat, mailClient);
+    }
+
+    @Test
+    void shouldNotifyOtherChannelsWhenOneChannelFails() {
+        ToDoItem toDoItem = toDoItem();
+        service = service(DIRECT);
+        User steve = member("steve", "111");
+        User tony = preferring(member("tony", "222"), SMS);
+        willThrow(new IllegalStateException()).given(smsCommunicator).textToAll(anyList(), any());
+
+        service.notify(toDoItem, team(steve, tony));
+
+        then(chat).should(timeout(TIMEOUT_MILLIS)).sendToAll(asList("steve"), LINK);
+        then(smsCommunicator).should(timeout(TIMEOUT_MILLIS)).textToAll(asList(tony.getPhoneNumber()), LINK);
+    }
+
+    @Test
+    void shouldNotWaitForSlowChannel() {
+        service = service(DIRECT, notCoalescing(), PARALLEL);
+        ToDoItem toDoItem = toDoItem();
+        User steve = member("steve", "111");
+        User tony = preferring(member("tony", "222"), SMS);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            release.await();
+            return null;
+        }).given(smsCommunicator).textToAll(anyList(), any());
+
+        service.notify(toDoItem, team(steve, tony));
+
+        then(chat).should(timeout(TIMEOUT_MILLIS)).sendToAll(asList("steve"), LINK);
+        release.countDown();
+        then(smsCommunicator).should(timeout(TIMEOUT_MILLIS)).textToAll(asList(tony.getPhoneNumber()), LINK);
+    }
+
+    @Test
+    void shouldUseDefaultCommunicatorWhenPreferredOneCannotReachUser() {
+        ToDoItem toDoItem = toDoItem();
+        service = service(DIRECT);
+        User steve = preferring(member("steve", "111"), SMS);
+        steve.setPhoneNumber(null);
+
+        service.notify(toDoItem, team(steve));
+
+        then(chat).should(timeout(TIMEOUT_MILLIS)).sendToAll(asList("steve"), LINK);
+        verifyNoMoreInteractions(smsCommunicator, chat, mailClient);
+    }
+
+    @Test
+    void shouldNotifyUserViaPreferredCommunicator() {
+        ToDoItem toDoItem = toDoItem();
+        service = service(MAIL);
+        User steve = preferring(member("steve", "111"), SMS);
+
+        service.notify(toDoItem, steve);
+
+        then(smsCommunicator).should().textTo(steve.getPhoneNumber(), LINK);
+        verifyNoMoreInteractions(smsCommunicator, chat, mailClient);
+    }
+
+    @Test
+    void shouldTextDigestOfCoalescedNotificationsOnFlush() {
+        NotificationCoalescer coalescer = coalescer();
+        service = service(SMS, coalescer);
+        User steve = member("steve", "111");
+        User tony = member("tony", "222");
+        given(projectBacklogService.linkFor(13L)).willReturn("/backlog/13");
+        given(projectBacklogService.linkFor(42L)).willReturn("/backlog/42");
+
+        service.notify(toDoItem(13L), team(steve, tony));
+        service.notify(toDoItem(42L), steve);
+        service.notify(toDoItem(13L), tony);
+        verifyNoMoreInteractions(smsCommunicator, chat, mailClient);
+        coalescer.flushAll().join();
+
+        then(smsCommunicator).should().textToAll(asList(steve.getPhoneNumber()), "/backlog/13\n/backlog/42");
+        then(smsCommunicator).should().textToAll(asList(tony.getPhoneNumber()), "/backlog/13");
+        verifyNoMoreInteractions(smsCommunicator, chat, mailClient);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMailDigestOfCoalescedNotificationsOnFlush() {
+        NotificationCoalescer coalescer = coalescer();
+        service = service(MAIL, coalescer);
+        User logged = member("nick", "000");
+        SessionHolder.instance().logIn(logged);
+        User steve = member("steve", "111");
+
+        service.notify(toDoItem(13L), team(steve));
+        service.notify(toDoItem(42L), team(steve));
+        service.notify(toDoItem(42L), steve);
+        coalescer.flushAll().join();
+
+        ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+        then(mailClient).should().sendAll(captor.capture());
+        List<Mail> mails = captor.getValue();
+        assertThat(mails).hasSize(1);
+        assertThat(mails.get(0).getFrom()).isEqualTo(logged.getEmailAddress());
+        assertThat(mails.get(0).getTo()).isEqualTo(steve.getEmailAddress());
+        assertThat(mails.get(0).getTopic()).isEqualTo("NOTIFICATION ABOUT: 13, 42");
+        assertThat(mails.get(0).getContent()).isEqualTo("13\n42");
+        verifyNoMoreInteractions(smsCommunicator, chat, mailClient);
+    }
+
+    private CommunicationServiceImpl service(CommunicatorType defaultType) {
+        return service(defaultType, notCoalescing());
+    }
+
+    private CommunicationServiceImpl service(CommunicatorType defaultType, NotificationCoalescer coalescer) {
+        return service(defaultType, coalescer, SEQUENTIAL);
+    }
+
+    private CommunicationServiceImpl service(CommunicatorType defaultType, NotificationCoalescer coalescer, int parallelism) {
+        return new CommunicationServiceImpl(
+                projectBacklogService, devNullDirectory, chat, smsCommunicator, mailClient, new CommunicatorRouting(defaultType, 100, 60),
+                coalescer, BATCH_SIZE, parallelism, QUEUE_CAPACITY, OFFER_TIMEOUT_MILLIS);
+    }
+
+    private NotificationCoalescer notCoalescing() {
+        return new NotificationCoalescer(chat, smsCommunicator, mailClient, false, BATCH_SIZE, 100, 100, 500);
+    }
+
+    private NotificationCoalescer coalescer() {
+        return new NotificationCoalescer(chat, smsCommunicator, mailClient, true, BATCH_SIZE, 100, 100, 500);
+    }
+
+    private ToDoItem toDoItem(long id) {
+        ToDoItem toDoItem = mock(ToDoItem.class);
+        given(toDoItem.getId()).willReturn(id);
+        return toDoItem;
+    }
+
+    private void thenPreferenceWasChecked(User user) {
+        then(user).should().getId();
+        then(user).should().getPreferredCommunicator();
+    }
+
+    private User preferring(User user, CommunicatorType communicatorType) {
+        user.setPreferredCommunicator(communicatorType);
+        return user;
+    }
+
+    private ToDoItem toDoItem() {
+        ToDoItem toDoItem = mock(ToDoItem.class);
+        given(toDoItem.getId()).willReturn(STORY_ID);
+        given(projectBacklogService.linkFor(STORY_ID)).willReturn(LINK);
+        return toDoItem;
+    }
+
+    private Project project(Team... teams) {
+        Project project = new Project();
+        asList(teams).forEach(project::addTeam);
+        return project;
+    }
+
+    private Team team(User... members) {
+        Team team = new Team();
+        asList(members).forEach(team::addMember);
+        return team;
+    }
+
+    private User member(String login, String number) {
+        User user = new User();
+        user.setLogin(login);
+        PhoneNumber phoneNumber = new PhoneNumber();
+        phoneNumber.setPrefix("+48");
+        phoneNumber.setNumber(number);
+        user.setPhoneNumber(phoneNumber);
+        EmailAddress emailAddress = new EmailAddress();
+        emailAddress.setEmailAddress(login + "@avengers.com");
+        user.setEmailAddress(emailAddress);
+        return user;
+    }
+}
@@ -0,0 +1,87 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.infrastructure.enums.CommunicatorType;
+import com.smalaca.taskamanager.model.embedded.EmailAddress;
+import com.smalaca.taskamanager.model.entities.User;
+import org.junit.jupiter.api.Test;
+
+import static com.smalaca.taskamanager.infrastructure.enums.CommunicatorType.DIRECT;
+import static com.smalaca.taskamanager.infrastructure.enums.CommunicatorType.MAIL;
+import static com.smalaca.taskamanager.infrastructure.enums.CommunicatorType.NULL_TYPE;
+import static com.smalaca.taskamanager.infrastructure.enums.CommunicatorType.SMS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class CommunicatorRoutingTest {
+    private static final long USER_ID = 13;
+
+    private final CommunicatorRouting routing = new CommunicatorRouting(SMS, 100, 60);
+
+    @Test
+    void shouldUseDefaultCommunicatorWhenUserHasNoPreference() {
+        assertThat(routing.route(new User())).isEqualTo(SMS);
+    }
+
+    @Test
+    void shouldUseDefaultCommunicatorForRecipientWithoutStoredPreference() {
+        assertThat(routing.routeWithoutPreference()).isEqualTo(SMS);
+    }
+
+    @Test
+    void shouldUsePreferredCommunicator() {
+        User user = new User();
+        user.setEmailAddress(new EmailAddress());
+        user.setPreferredCommunicator(MAIL);
+
+        assertThat(routing.route(user)).isEqualTo(MAIL);
+    }
+
+    @Test
+    void shouldUseDefaultCommunicatorWhenPreferredOneCannotReachUser() {
+        User user = new User();
+        user.setPreferredCommunicator(DIRECT);
+
+        assertThat(routing.route(user)).isEqualTo(SMS);
+    }
+
+    @Test
+    void shouldAlwaysRespectPreferenceToNotBeNotified() {
+        User user = new User();
+        user.setPreferredCommunicator(NULL_TYPE);
+
+        assertThat(routing.route(user)).isEqualTo(NULL_TYPE);
+    }
+
+    @Test
+    void shouldDecideOncePerUser() {
+        User user = persistedUserPreferring(DIRECT);
+
+        routing.route(user);
+        CommunicatorType actual = routing.route(user);
+
+        assertThat(actual).isEqualTo(DIRECT);
+        then(user).should().getPreferredCommunicator();
+    }
+
+    @Test
+    void shouldDecideAgainAfterInvalidation() {
+        User user = persistedUserPreferring(DIRECT);
+        routing.route(user);
+
+        routing.invalidate(USER_ID);
+        routing.route(user);
+
+        then(user).should(times(2)).getPreferredCommunicator();
+    }
+
+    private User persistedUserPreferring(CommunicatorType communicatorType) {
+        User user = mock(User.class);
+        given(user.getId()).willReturn(USER_ID);
+        given(user.getPreferredCommunicator()).willReturn(communicatorType);
+        given(user.getLogin()).willReturn("steve.rogers");
+        return user;
+    }
+}
@@ -0,0 +1,135 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.client.ChatClient;
+import com.smalaca.taskamanager.client.MailClient;
+import com.smalaca.taskamanager.client.SmsCommunicatorClient;
+import com.smalaca.taskamanager.model.embedded.PhoneNumber;
+import com.smalaca.taskamanager.model.other.ChatRoom;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static java.util.Arrays.asList;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class NotificationCoalescerTest {
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_PENDING_RECIPIENTS = 100;
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final ChatClient chat = mock(ChatClient.class);
+    private final SmsCommunicatorClient smsCommunicator = mock(SmsCommunicatorClient.class);
+    private final MailClient mailClient = mock(MailClient.class);
+    private NotificationCoalescer coalescer = coalescer(MAX_PENDING_RECIPIENTS);
+
+    @AfterEach
+    void shutdown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    void shouldSendNothingWhenNothingIsPending() {
+        coalescer.flushAll().join();
+
+        verifyNoInteractions(chat, smsCommunicator, mailClient);
+    }
+
+    @Test
+    void shouldChatAllPendingLinksOfRecipientInOneSend() {
+        ChatRoom steve = chatRoomOf("steve");
+        ChatRoom tony = chatRoomOf("tony");
+        coalescer.chat("steve", "/backlog/13");
+        coalescer.chat("tony", "/backlog/13");
+        coalescer.chat("steve", "/backlog/42");
+        coalescer.chat("steve", "/backlog/13");
+
+        coalescer.flushAll().join();
+
+        then(steve).should().send(asList("/backlog/13", "/backlog/42"));
+        then(tony).should().send(asList("/backlog/13"));
+        verifyNoMoreInteractions(steve, tony, smsCommunicator, mailClient);
+    }
+
+    @Test
+    void shouldNotSendFlushedNotificationsAgain() {
+        PhoneNumber phoneNumber = phoneNumber("111");
+        coalescer.text(phoneNumber, "/backlog/13");
+        coalescer.flushAll().join();
+
+        coalescer.flushAll().join();
+
+        then(smsCommunicator).should().textToAll(asList(phoneNumber), "/backlog/13");
+        verifyNoMoreInteractions(chat, smsCommunicator, mailClient);
+    }
+
+    @Test
+    void shouldSendOtherChannelsWhenOneChannelFails() {
+        willThrow(new IllegalStateException()).given(smsCommunicator).textToAll(anyList(), any());
+        ChatRoom steve = chatRoomOf("steve");
+        coalescer.text(phoneNumber("111"), "/backlog/13");
+        coalescer.chat("steve", "/backlog/13");
+
+        coalescer.flushAll().join();
+
+        then(steve).should().send(asList("/backlog/13"));
+    }
+
+    @Test
+    void shouldSendOtherChannelsWhileOneChannelIsSlow() {
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            release.await();
+            return null;
+        }).given(smsCommunicator).textToAll(anyList(), any());
+        ChatRoom steve = chatRoomOf("steve");
+        coalescer.text(phoneNumber("111"), "/backlog/13");
+        coalescer.chat("steve", "/backlog/13");
+
+        CompletableFuture<Void> flushed = coalescer.flushAll();
+
+        then(steve).should(timeout(TIMEOUT_MILLIS)).send(asList("/backlog/13"));
+        release.countDown();
+        flushed.join();
+    }
+
+    @Test
+    void shouldSendPendingNotificationsWhenBufferIsFull() {
+        coalescer.shutdown();
+        coalescer = coalescer(2);
+        ChatRoom steve = chatRoomOf("steve");
+        ChatRoom tony = chatRoomOf("tony");
+
+        coalescer.chat("steve", "/backlog/13");
+        coalescer.chat("tony", "/backlog/13");
+
+        then(steve).should(timeout(TIMEOUT_MILLIS)).send(asList("/backlog/13"));
+        then(tony).should(timeout(TIMEOUT_MILLIS)).send(asList("/backlog/13"));
+    }
+
+    private NotificationCoalescer coalescer(int maxPendingRecipients) {
+        return new NotificationCoalescer(chat, smsCommunicator, mailClient, true, BATCH_SIZE, maxPendingRecipients, 100, 500);
+    }
+
+    private ChatRoom chatRoomOf(String userName) {
+        ChatRoom chatRoom = mock(ChatRoom.class);
+        given(chat.connectWith(userName)).willReturn(chatRoom);
+        return chatRoom;
+    }
+
+    private PhoneNumber phoneNumber(String number) {
+        PhoneNumber phoneNumber = new PhoneNumber();
+        phoneNumber.setNumber(number);
+        return phoneNumber;
+    }
+}
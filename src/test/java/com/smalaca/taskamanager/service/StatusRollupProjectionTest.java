@@ -0,0 +1,173 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.events.StoryDoneEvent;
+import com.smalaca.taskamanager.events.ToDoItemStatusChangedEvent;
+import com.smalaca.taskamanager.model.entities.RollupEntry;
+import com.smalaca.taskamanager.model.entities.StatusRollup;
+import com.smalaca.taskamanager.model.enums.RollupScope;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.repository.RollupEntryRepository;
+import com.smalaca.taskamanager.repository.StatusRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Optional;
+
+import static com.smalaca.taskamanager.model.enums.RollupScope.EPIC;
+import static com.smalaca.taskamanager.model.enums.RollupScope.PROJECT;
+import static com.smalaca.taskamanager.model.enums.RollupScope.SPRINT;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class StatusRollupProjectionTest {
+    private static final long TASK_ID = 13;
+    private static final long STORY_ID = 7;
+    private static final long EPIC_ID = 42;
+    private static final long PROJECT_ID = 69;
+    private static final long SPRINT_ID = 5;
+    private static final long ITEMS = 3;
+    private static final String TASK = "TASK";
+    private static final String STORY = "STORY";
+
+    private final RollupEntryRepository entryRepository = mock(RollupEntryRepository.class);
+    private final StatusRollupRepository rollupRepository = mock(StatusRollupRepository.class);
+    private final StatusRollupProjection projection = new StatusRollupProjection(entryRepository, rollupRepository);
+
+    @Test
+    void shouldCountNewItemInEveryScope() {
+        projection.on(event(IN_PROGRESS.name()));
+
+        ArgumentCaptor<RollupEntry> entryCaptor = ArgumentCaptor.forClass(RollupEntry.class);
+        then(entryRepository).should().save(entryCaptor.capture());
+        assertThat(entryCaptor.getValue().getItemId()).isEqualTo(TASK_ID);
+        assertThat(entryCaptor.getValue().getStatus()).isEqualTo(IN_PROGRESS);
+        ArgumentCaptor<StatusRollup> rollupCaptor = ArgumentCaptor.forClass(StatusRollup.class);
+        then(rollupRepository).should(times(3)).save(rollupCaptor.capture());
+        assertThat(rollupCaptor.getAllValues())
+                .extracting(StatusRollup::getScope, StatusRollup::getScopeId, StatusRollup::getItems)
+                .containsExactly(
+                        tuple(EPIC, EPIC_ID, 1L),
+                        tuple(PROJECT, PROJECT_ID, 1L),
+                        tuple(SPRINT, SPRINT_ID, 1L));
+    }
+
+    @Test
+    void shouldSkipScopesItemDoesNotBelongTo() {
+        ToDoItemStatusChangedEvent event = event(IN_PROGRESS.name());
+        event.setEpicId(null);
+        event.setSprintId(null);
+
+        projection.on(event);
+
+        ArgumentCaptor<StatusRollup> rollupCaptor = ArgumentCaptor.forClass(StatusRollup.class);
+        then(rollupRepository).should().save(rollupCaptor.capture());
+        assertThat(rollupCaptor.getValue().getScope()).isEqualTo(PROJECT);
+    }
+
+    @Test
+    void shouldMoveItemBetweenStatuses() {
+        RollupEntry entry = entry(TASK, TASK_ID, IN_PROGRESS);
+        given(entryRepository.findByItemTypeAndItemId(TASK, TASK_ID)).willReturn(Optional.of(entry));
+        StatusRollup inProgress = rollup(EPIC, IN_PROGRESS);
+        given(rollupRepository.findByScopeAndScopeIdAndItemTypeAndStatus(EPIC, EPIC_ID, TASK, IN_PROGRESS)).willReturn(Optional.of(inProgress));
+        StatusRollup done = rollup(EPIC, DONE);
+        given(rollupRepository.findByScopeAndScopeIdAndItemTypeAndStatus(EPIC, EPIC_ID, TASK, DONE)).willReturn(Optional.of(done));
+        ToDoItemStatusChangedEvent event = event(DONE.name());
+        event.setProjectId(null);
+        event.setSprintId(null);
+
+        projection.on(event);
+
+        assertThat(inProgress.getItems()).isEqualTo(ITEMS - 1);
+        assertThat(done.getItems()).isEqualTo(ITEMS + 1);
+        assertThat(entry.getStatus()).isEqualTo(DONE);
+        then(entryRepository).should().save(entry);
+    }
+
+    @Test
+    void shouldUncountRemovedItem() {
+        RollupEntry entry = entry(TASK, TASK_ID, IN_PROGRESS);
+        given(entryRepository.findByItemTypeAndItemId(TASK, TASK_ID)).willReturn(Optional.of(entry));
+        StatusRollup inProgress = rollup(EPIC, IN_PROGRESS);
+        given(rollupRepository.findByScopeAndScopeIdAndItemTypeAndStatus(EPIC, EPIC_ID, TASK, IN_PROGRESS)).willReturn(Optional.of(inProgress));
+
+        projection.on(event(null));
+
+        assertThat(inProgress.getItems()).isEqualTo(ITEMS - 1);
+        then(entryRepository).should().delete(entry);
+        then(entryRepository).should(never()).save(any());
+    }
+
+    @Test
+    void shouldIgnoreRemovalOfNotCountedItem() {
+        projection.on(event(null));
+
+        then(entryRepository).should(never()).delete(any());
+        then(rollupRepository).should(never()).save(any());
+    }
+
+    @Test
+    void shouldMoveStoryToDone() {
+        RollupEntry entry = entry(STORY, STORY_ID, IN_PROGRESS);
+        given(entryRepository.findByItemTypeAndItemId(STORY, STORY_ID)).willReturn(Optional.of(entry));
+        StatusRollup inProgress = rollup(EPIC, IN_PROGRESS);
+        given(rollupRepository.findByScopeAndScopeIdAndItemTypeAndStatus(EPIC, EPIC_ID, STORY, IN_PROGRESS)).willReturn(Optional.of(inProgress));
+
+        projection.on(storyDoneEvent());
+
+        assertThat(inProgress.getItems()).isEqualTo(ITEMS - 1);
+        assertThat(entry.getStatus()).isEqualTo(DONE);
+        then(entryRepository).should().save(entry);
+    }
+
+    @Test
+    void shouldIgnoreDoneOfNotCountedStory() {
+        projection.on(storyDoneEvent());
+
+        then(entryRepository).should(never()).save(any());
+        then(rollupRepository).should(never()).save(any());
+    }
+
+    private ToDoItemStatusChangedEvent event(String status) {
+        ToDoItemStatusChangedEvent event = new ToDoItemStatusChangedEvent();
+        event.setType(TASK);
+        event.setToDoItemId(TASK_ID);
+        event.setStatus(status);
+        event.setEpicId(EPIC_ID);
+        event.setProjectId(PROJECT_ID);
+        event.setSprintId(SPRINT_ID);
+        return event;
+    }
+
+    private StoryDoneEvent storyDoneEvent() {
+        StoryDoneEvent event = new StoryDoneEvent();
+        event.setStoryId(STORY_ID);
+        return event;
+    }
+
+    private RollupEntry entry(String type, long id, ToDoItemStatus status) {
+        RollupEntry entry = new RollupEntry();
+        entry.setItemType(type);
+        entry.setItemId(id);
+        entry.setStatus(status);
+        entry.setEpicId(EPIC_ID);
+        return entry;
+    }
+
+    private StatusRollup rollup(RollupScope scope, ToDoItemStatus status) {
+        StatusRollup rollup = new StatusRollup();
+        rollup.setScope(scope);
+        rollup.setScopeId(EPIC_ID);
+        rollup.setStatus(status);
+        rollup.add(ITEMS);
+        return rollup;
+    }
+}
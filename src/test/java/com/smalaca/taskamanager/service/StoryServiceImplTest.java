@@ -2,26 +2,56 @@ package com.smalaca.taskamanager.service;
 
 import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
 import org.junit.jupiter.api.Test;
 
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.verifyNoInteractions;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.APPROVED;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
+import static org.assertj.core.api.Assertions.assertThat;
 
 class StoryServiceImplTest {
     private final StoryServiceImpl service = new StoryServiceImpl();
 
     @Test
-    void shouldDoNothingWhenUpdatingProgress() {
-        Story story = mock(Story.class);
-        Task task = mock(Task.class);
+    void shouldMarkStoryAsDoneWhenAllTasksAreDone() {
+        Story story = storyWithTask(IN_PROGRESS, DONE);
 
-        service.updateProgressOf(story, task);
+        service.updateProgressOf(story, story.getTasks().get(0));
 
-        verifyNoInteractions(story, task);
+        assertThat(story.getStatus()).isEqualTo(DONE);
+    }
+
+    @Test
+    void shouldNotMarkStoryAsDoneWhenSomeTasksAreNotDone() {
+        Story story = storyWithTask(IN_PROGRESS, IN_PROGRESS);
+
+        service.updateProgressOf(story, story.getTasks().get(0));
+
+        assertThat(story.getStatus()).isEqualTo(IN_PROGRESS);
+    }
+
+    @Test
+    void shouldNotMoveStoryBackToDone() {
+        Story story = storyWithTask(APPROVED, DONE);
+
+        service.updateProgressOf(story, story.getTasks().get(0));
+
+        assertThat(story.getStatus()).isEqualTo(APPROVED);
     }
 
     @Test
     void shouldDoNothingWhenAttachingPartialApproval() {
         service.attachPartialApprovalFor(13, 42);
     }
-}
\ No newline at end of file
+
+    private Story storyWithTask(ToDoItemStatus storyStatus, ToDoItemStatus taskStatus) {
+        Story story = new Story();
+        story.setStatus(storyStatus);
+        Task task = new Task();
+        task.setStatus(taskStatus);
+        task.setStory(story);
+        story.addTask(task);
+        return story;
+    }
+}
@@ -0,0 +1,107 @@
+package com.smalaca.taskamanager.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class ToDoItemProcessingQueueTest {
+    private static final long ID = 13;
+    private static final boolean ASYNC = true;
+    private static final boolean INLINE = false;
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final long POLL_MILLIS = 10;
+
+    private final ToDoItemService toDoItemService = mock(ToDoItemService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private ToDoItemProcessingQueue queue;
+
+    @AfterEach
+    void shutdown() {
+        queue.shutdown();
+    }
+
+    @Test
+    void shouldProcessInlineWithoutTicketWhenAsyncIsDisabled() {
+        queue = queue(INLINE);
+
+        Optional<String> ticket = queue.submitStory(ID);
+
+        assertThat(ticket).isEmpty();
+        then(toDoItemService).should().processStory(ID);
+    }
+
+    @Test
+    void shouldPropagateFailureOfInlineProcessing() {
+        queue = queue(INLINE);
+        given(toDoItemService.processEpic(ID)).willThrow(new IllegalStateException());
+
+        assertThatThrownBy(() -> queue.submitEpic(ID)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldProcessInBackground() throws InterruptedException {
+        queue = queue(ASYNC);
+        given(toDoItemService.processStory(ID)).willReturn(1);
+
+        String ticket = queue.submitStory(ID).get();
+
+        ProcessingStatus actual = awaitFinished(ticket);
+        assertThat(actual.getType()).isEqualTo(ToDoItemType.STORY);
+        assertThat(actual.getItemId()).isEqualTo(ID);
+        assertThat(actual.getResult()).isEqualTo(1);
+        assertThat(actual.getState()).isEqualTo("PROCESSED");
+    }
+
+    @Test
+    void shouldRecordNotExistingItem() throws InterruptedException {
+        queue = queue(ASYNC);
+        given(toDoItemService.processTask(ID)).willReturn(-1);
+
+        String ticket = queue.submitTask(ID).get();
+
+        assertThat(awaitFinished(ticket).getState()).isEqualTo("NOT_FOUND");
+    }
+
+    @Test
+    void shouldRecordFailureWhenProcessingBlowsUp() throws InterruptedException {
+        queue = queue(ASYNC);
+        given(toDoItemService.processEpic(ID)).willThrow(new IllegalStateException());
+
+        String ticket = queue.submitEpic(ID).get();
+
+        ProcessingStatus actual = awaitFinished(ticket);
+        assertThat(actual.getResult()).isEqualTo(-2);
+        assertThat(actual.getState()).isEqualTo("FAILED");
+    }
+
+    @Test
+    void shouldNotFindUnknownTicket() {
+        queue = queue(ASYNC);
+
+        assertThat(queue.statusOf("unknown")).isEmpty();
+    }
+
+    private ProcessingStatus awaitFinished(String ticket) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        Optional<ProcessingStatus> status = queue.statusOf(ticket);
+
+        while (status.get().isPending() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(POLL_MILLIS);
+            status = queue.statusOf(ticket);
+        }
+
+        return status.get();
+    }
+
+    private ToDoItemProcessingQueue queue(boolean async) {
+        return new ToDoItemProcessingQueue(toDoItemService, transactionManager, async, 2, 10, 10);
+    }
+}
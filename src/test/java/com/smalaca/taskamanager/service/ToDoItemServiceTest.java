@@ -1,16 +1,29 @@
 package com.smalaca.taskamanager.service;
 
+import com.smalaca.taskamanager.events.ToDoItemStatusChangedEvent;
 import com.smalaca.taskamanager.model.entities.Epic;
 import com.smalaca.taskamanager.model.entities.Story;
 import com.smalaca.taskamanager.model.entities.Task;
+import com.smalaca.taskamanager.model.enums.ToDoItemStatus;
+import com.smalaca.taskamanager.model.interfaces.ToDoItem;
 import com.smalaca.taskamanager.processor.ToDoItemProcessor;
+import com.smalaca.taskamanager.registry.EventsRegistry;
 import com.smalaca.taskamanager.repository.EpicRepository;
 import com.smalaca.taskamanager.repository.StoryRepository;
 import com.smalaca.taskamanager.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.RELEASED;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.TO_BE_DEFINED;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -21,21 +34,33 @@ import static org.mockito.Mockito.never;
 
 class ToDoItemServiceTest {
     private static final long ID = 13;
+    private static final long OTHER_ID = 42;
+    private static final long MISSING_ID = 69;
 
     private final ToDoItemProcessor processor = mock(ToDoItemProcessor.class);
     private final EpicRepository epicRepository = mock(EpicRepository.class);
     private final StoryRepository storyRepository = mock(StoryRepository.class);
     private final TaskRepository taskRepository = mock(TaskRepository.class);
-    private final ToDoItemService service = new ToDoItemService(processor, epicRepository, storyRepository, taskRepository);
+    private final EventsRegistry eventsRegistry = mock(EventsRegistry.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final SimpleTransactionStatus transaction = new SimpleTransactionStatus();
+    private final ToDoItemService service = new ToDoItemService(
+            processor, epicRepository, storyRepository, taskRepository, eventsRegistry, transactionManager);
+
+    @BeforeEach
+    void givenTransaction() {
+        given(transactionManager.getTransaction(any())).willReturn(transaction);
+    }
 
     @Test
     void shouldProcessTask() {
-        Task task = new Task();
+        Task task = toDoItem(Task.class, ID, DONE);
         given(taskRepository.findById(ID)).willReturn(Optional.of(task));
 
         int actual = service.processTask(ID);
 
         assertThat(actual).isEqualTo(1);
+        then(eventsRegistry).should().publish(any(ToDoItemStatusChangedEvent.class));
         then(processor).should().processFor(task);
     }
 
@@ -51,7 +76,8 @@ class ToDoItemServiceTest {
 
     @Test
     void shouldCatchExceptionDuringTaskProcessing() {
-        given(taskRepository.findById(ID)).willReturn(Optional.of(new Task()));
+        Task task = toDoItem(Task.class, ID, DONE);
+        given(taskRepository.findById(ID)).willReturn(Optional.of(task));
         doThrow(new RuntimeException()).when(processor).processFor(any());
 
         int actual = service.processTask(ID);
@@ -61,7 +87,7 @@ class ToDoItemServiceTest {
 
     @Test
     void shouldProcessStory() {
-        Story story = new Story();
+        Story story = toDoItem(Story.class, ID, DONE);
         given(storyRepository.findById(ID)).willReturn(Optional.of(story));
 
         int actual = service.processStory(ID);
@@ -82,7 +108,8 @@ class ToDoItemServiceTest {
 
     @Test
     void shouldCatchExceptionDuringStoryProcessing() {
-        given(storyRepository.findById(ID)).willReturn(Optional.of(new Story()));
+        Story story = toDoItem(Story.class, ID, DONE);
+        given(storyRepository.findById(ID)).willReturn(Optional.of(story));
         doThrow(new RuntimeException()).when(processor).processFor(any());
 
         int actual = service.processStory(ID);
@@ -92,7 +119,7 @@ class ToDoItemServiceTest {
 
     @Test
     void shouldProcessEpic() {
-        Epic epic = new Epic();
+        Epic epic = toDoItem(Epic.class, ID, DONE);
         given(epicRepository.findById(ID)).willReturn(Optional.of(epic));
 
         int actual = service.processEpic(ID);
@@ -113,11 +140,80 @@ class ToDoItemServiceTest {
 
     @Test
     void shouldCatchExceptionDuringEpicProcessing() {
-        given(epicRepository.findById(ID)).willReturn(Optional.of(new Epic()));
+        Epic epic = toDoItem(Epic.class, ID, DONE);
+        given(epicRepository.findById(ID)).willReturn(Optional.of(epic));
         doThrow(new RuntimeException()).when(processor).processFor(any());
 
         int actual = service.processEpic(ID);
 
         assertThat(actual).isEqualTo(-2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldChangeStatusesAndProcessChangedTasksTogether() {
+        Task changed = toDoItem(Task.class, ID, TO_BE_DEFINED);
+        Task unchanged = toDoItem(Task.class, OTHER_ID, DONE);
+        Map<Long, ToDoItemStatus> statuses = Map.of(ID, DONE, OTHER_ID, DONE, MISSING_ID, DONE);
+        given(taskRepository.findAllById(statuses.keySet())).willReturn(List.of(changed, unchanged));
+
+        Map<Long, Integer> actual = service.processAll(ToDoItemType.TASK, statuses);
+
+        assertThat(actual).containsEntry(ID, 1).containsEntry(OTHER_ID, 1).containsEntry(MISSING_ID, -1);
+        then(changed).should().setStatus(DONE);
+        then(unchanged).should(never()).setStatus(any());
+        then(processor).should().processAll(List.of(changed));
+    }
+
+    @Test
+    void shouldMarkOnlyFailedItemsAsFailedWhenProcessingFails() {
+        Story failed = toDoItem(Story.class, ID, IN_PROGRESS);
+        Story processed = toDoItem(Story.class, OTHER_ID, IN_PROGRESS);
+        Map<Long, ToDoItemStatus> statuses = Map.of(ID, DONE, OTHER_ID, DONE);
+        given(storyRepository.findAllById(statuses.keySet())).willReturn(List.of(failed, processed));
+        given(processor.processAll(List.of(failed, processed))).willReturn(List.of(failed));
+
+        Map<Long, Integer> actual = service.processAll(ToDoItemType.STORY, statuses);
+
+        assertThat(actual).containsEntry(ID, -2).containsEntry(OTHER_ID, 1);
+        then(transactionManager).should().commit(transaction);
+        assertThat(transaction.isRollbackOnly()).isFalse();
+    }
+
+    @Test
+    void shouldRollbackWholeBatchWhenProcessingLeftTransactionRollbackOnly() {
+        Story failed = toDoItem(Story.class, ID, IN_PROGRESS);
+        Story processed = toDoItem(Story.class, OTHER_ID, IN_PROGRESS);
+        Map<Long, ToDoItemStatus> statuses = Map.of(ID, DONE, OTHER_ID, DONE);
+        given(storyRepository.findAllById(statuses.keySet())).willReturn(List.of(failed, processed));
+        given(processor.processAll(List.of(failed, processed))).willAnswer(invocation -> {
+            transaction.setRollbackOnly();
+            return List.of(failed);
+        });
+
+        Map<Long, Integer> actual = service.processAll(ToDoItemType.STORY, statuses);
+
+        assertThat(actual).containsEntry(ID, -2).containsEntry(OTHER_ID, -2);
+        then(transactionManager).should().commit(transaction);
+        assertThat(transaction.isRollbackOnly()).isTrue();
+    }
+
+    @Test
+    void shouldChangeStatusesOfEpics() {
+        Epic epic = toDoItem(Epic.class, ID, DONE);
+        Map<Long, ToDoItemStatus> statuses = Map.of(ID, RELEASED);
+        given(epicRepository.findAllById(statuses.keySet())).willReturn(List.of(epic));
+
+        Map<Long, Integer> actual = service.processAll(ToDoItemType.EPIC, statuses);
+
+        assertThat(actual).containsEntry(ID, 1);
+        then(epic).should().setStatus(RELEASED);
+        then(processor).should().processAll(List.of(epic));
+    }
+
+    private <T extends ToDoItem> T toDoItem(Class<T> type, long id, ToDoItemStatus status) {
+        T toDoItem = mock(type);
+        given(toDoItem.getId()).willReturn(id);
+        given(toDoItem.getStatus()).willReturn(status);
+        return toDoItem;
+    }
+}
@@ -0,0 +1,119 @@
+package com.smalaca.taskamanager.service;
+
+import com.smalaca.taskamanager.events.ToDoItemStatusChangedEvent;
+import com.smalaca.taskamanager.model.entities.Epic;
+import com.smalaca.taskamanager.model.entities.Project;
+import com.smalaca.taskamanager.model.entities.Sprint;
+import com.smalaca.taskamanager.model.entities.Story;
+import com.smalaca.taskamanager.model.entities.Task;
+import org.junit.jupiter.api.Test;
+
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.DONE;
+import static com.smalaca.taskamanager.model.enums.ToDoItemStatus.IN_PROGRESS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class ToDoItemStatusChangesTest {
+    private static final long TASK_ID = 13;
+    private static final long STORY_ID = 7;
+    private static final long EPIC_ID = 42;
+    private static final long PROJECT_ID = 69;
+    private static final long SPRINT_ID = 5;
+
+    @Test
+    void shouldDescribeTaskWithAllScopes() {
+        Task task = mock(Task.class);
+        given(task.getId()).willReturn(TASK_ID);
+        given(task.getStatus()).willReturn(IN_PROGRESS);
+        Sprint sprint = sprint();
+        given(task.getCurrentSprint()).willReturn(sprint);
+        Story story = story(epic(project()));
+        given(task.getStory()).willReturn(story);
+
+        ToDoItemStatusChangedEvent actual = ToDoItemStatusChanges.statusOf(task);
+
+        assertThat(actual.getType()).isEqualTo("TASK");
+        assertThat(actual.getToDoItemId()).isEqualTo(TASK_ID);
+        assertThat(actual.getStatus()).isEqualTo("IN_PROGRESS");
+        assertThat(actual.getEpicId()).isEqualTo(EPIC_ID);
+        assertThat(actual.getProjectId()).isEqualTo(PROJECT_ID);
+        assertThat(actual.getSprintId()).isEqualTo(SPRINT_ID);
+    }
+
+    @Test
+    void shouldDescribeStandaloneTask() {
+        Task task = mock(Task.class);
+        given(task.getId()).willReturn(TASK_ID);
+
+        ToDoItemStatusChangedEvent actual = ToDoItemStatusChanges.removalOf(task);
+
+        assertThat(actual.getType()).isEqualTo("TASK");
+        assertThat(actual.getStatus()).isNull();
+        assertThat(actual.getEpicId()).isNull();
+        assertThat(actual.getProjectId()).isNull();
+        assertThat(actual.getSprintId()).isNull();
+    }
+
+    @Test
+    void shouldDescribeStoryWithoutProject() {
+        Story story = story(epic(null));
+        given(story.getStatus()).willReturn(DONE);
+
+        ToDoItemStatusChangedEvent actual = ToDoItemStatusChanges.statusOf(story);
+
+        assertThat(actual.getType()).isEqualTo("STORY");
+        assertThat(actual.getToDoItemId()).isEqualTo(STORY_ID);
+        assertThat(actual.getStatus()).isEqualTo("DONE");
+        assertThat(actual.getEpicId()).isEqualTo(EPIC_ID);
+        assertThat(actual.getProjectId()).isNull();
+    }
+
+    @Test
+    void shouldDescribeStoryWithoutEpic() {
+        Story story = story(null);
+
+        ToDoItemStatusChangedEvent actual = ToDoItemStatusChanges.removalOf(story);
+
+        assertThat(actual.getEpicId()).isNull();
+        assertThat(actual.getProjectId()).isNull();
+    }
+
+    @Test
+    void shouldDescribeEpic() {
+        Epic epic = epic(project());
+
+        ToDoItemStatusChangedEvent actual = ToDoItemStatusChanges.removalOf(epic);
+
+        assertThat(actual.getType()).isEqualTo("EPIC");
+        assertThat(actual.getToDoItemId()).isEqualTo(EPIC_ID);
+        assertThat(actual.getEpicId()).isNull();
+        assertThat(actual.getProjectId()).isEqualTo(PROJECT_ID);
+    }
+
+    private Story story(Epic epic) {
+        Story story = mock(Story.class);
+        given(story.getId()).willReturn(STORY_ID);
+        given(story.getEpic()).willReturn(epic);
+        return story;
+    }
+
+    private Epic epic(Project project) {
+        Epic epic = mock(Epic.class);
+        given(epic.getId()).willReturn(EPIC_ID);
+        given(epic.getProject()).willReturn(project);
+        return epic;
+    }
+
+    private Project project() {
+        Project project = mock(Project.class);
+        given(project.getId()).willReturn(PROJECT_ID);
+        return project;
+    }
+
+    private Sprint sprint() {
+        Sprint sprint = mock(Sprint.class);
+        given(sprint.getId()).willReturn(SPRINT_ID);
+        return sprint;
+    }
+}
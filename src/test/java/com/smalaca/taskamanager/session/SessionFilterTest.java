@@ -0,0 +1,95 @@
+package com.smalaca.taskamanager.session;
+
+import com.smalaca.taskamanager.model.entities.User;
+import com.smalaca.taskamanager.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class SessionFilterTest {
+    private static final String LOGIN = "steve.rogers";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final SessionFilter filter = new SessionFilter(userRepository);
+    private final AtomicReference<User> loggedDuringRequest = new AtomicReference<>();
+    private final FilterChain chain = (request, response) -> loggedDuringRequest.set(SessionHolder.instance().logged());
+
+    @AfterEach
+    void logOut() {
+        SessionHolder.instance().logOut();
+    }
+
+    @Test
+    void shouldLogInAuthenticatedUserOnlyForTheRequest() throws ServletException, IOException {
+        User user = new User();
+        given(userRepository.findFirstByLogin(LOGIN)).willReturn(Optional.of(user));
+        MockHttpServletRequest request = authenticatedRequest();
+        FilterChain readingTwice = (req, res) -> {
+            SessionHolder.instance().logged();
+            loggedDuringRequest.set(SessionHolder.instance().logged());
+        };
+
+        filter.doFilter(request, new MockHttpServletResponse(), readingTwice);
+
+        assertThat(loggedDuringRequest.get()).isSameAs(user);
+        assertThat(SessionHolder.instance().current()).isNull();
+        then(userRepository).should(times(1)).findFirstByLogin(LOGIN);
+    }
+
+    @Test
+    void shouldNotLookUpUserWhenRequestDoesNotNeedIt() throws ServletException, IOException {
+        filter.doFilter(authenticatedRequest(), new MockHttpServletResponse(), (request, response) -> { });
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldNotTrustLoginHeaderOfUnauthenticatedRequest() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-User-Login", LOGIN);
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(loggedDuringRequest.get()).isNull();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldNotLeakSessionLeftOnThreadIntoRequest() throws ServletException, IOException {
+        SessionHolder.instance().logIn(new User());
+
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        assertThat(loggedDuringRequest.get()).isNull();
+        assertThat(SessionHolder.instance().current()).isNull();
+    }
+
+    @Test
+    void shouldServeRequestOfUnknownUserWithoutSession() throws ServletException, IOException {
+        given(userRepository.findFirstByLogin(LOGIN)).willReturn(Optional.empty());
+
+        filter.doFilter(authenticatedRequest(), new MockHttpServletResponse(), chain);
+
+        assertThat(loggedDuringRequest.get()).isNull();
+    }
+
+    private MockHttpServletRequest authenticatedRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setUserPrincipal(() -> LOGIN);
+        return request;
+    }
+}
@@ -1,11 +1,21 @@
 package com.smalaca.taskamanager.session;
 
+import com.smalaca.taskamanager.model.embedded.EmailAddress;
 import com.smalaca.taskamanager.model.entities.User;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SessionHolderTest {
+    @AfterEach
+    void logOut() {
+        SessionHolder.instance().logOut();
+    }
+
     @Test
     void shouldReturnAlwaysTheSameInstance() {
         SessionHolder sessionHolder = SessionHolder.instance();
@@ -22,4 +32,61 @@ class SessionHolderTest {
 
         assertThat(SessionHolder.instance().logged()).isEqualTo(user);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldKeepEmailAddressOfLoggedUser() {
+        User user = new User();
+        EmailAddress emailAddress = new EmailAddress();
+        emailAddress.setEmailAddress("nick.fury@shield.com");
+        user.setEmailAddress(emailAddress);
+
+        SessionHolder.instance().logIn(user);
+
+        assertThat(SessionHolder.instance().current().emailAddress()).isEqualTo(emailAddress);
+    }
+
+    @Test
+    void shouldForgetLoggedUserAfterLogOut() {
+        SessionHolder.instance().logIn(new User());
+
+        SessionHolder.instance().logOut();
+
+        assertThat(SessionHolder.instance().logged()).isNull();
+        assertThat(SessionHolder.instance().current()).isNull();
+    }
+
+    @Test
+    void shouldNotShareLoggedUserBetweenThreads() {
+        SessionHolder.instance().logIn(new User());
+
+        User actual = CompletableFuture.supplyAsync(() -> SessionHolder.instance().logged()).join();
+
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void shouldPropagateLoggedUserToTask() {
+        User user = new User();
+        SessionHolder.instance().logIn(user);
+        AtomicReference<User> loggedInTask = new AtomicReference<>();
+        Runnable task = SessionHolder.instance().propagating(() -> loggedInTask.set(SessionHolder.instance().logged()));
+        SessionHolder.instance().logOut();
+
+        CompletableFuture.runAsync(task).join();
+
+        assertThat(loggedInTask.get()).isEqualTo(user);
+    }
+
+    @Test
+    void shouldRestorePreviousSessionAfterPropagatedTask() {
+        User user = new User();
+        SessionHolder.instance().logIn(user);
+        Runnable task = SessionHolder.instance().propagating(() -> { });
+        User other = new User();
+        SessionHolder.instance().logIn(other);
+
+        task.run();
+
+        assertThat(SessionHolder.instance().logged()).isEqualTo(other);
+    }
+}